@@ -36,5 +36,12 @@ import org.springframework.data.annotation.Persistent;
 public @interface SemanticEntity {
 	
 	String rdfType() default "";
+	
+	/**
+	 * Save entities of this type as blind upserts: the predicates owned by the entity are cleared and its 
+	 * statements inserted without reading its existing state first. Only for data fully owned by the application.
+	 * @return
+	 */
+	boolean upsert() default false;
 
 }
@@ -21,6 +21,8 @@ public interface EntityCache {
 	
 	<T> void remove(T entity);
 	
+	<T> void remove(IRI id, Class<? extends T> clazz);
+	
 	<T> T get(IRI id, Class<? extends T> clazz);
 	
 	<T> void put(T entity);
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.semantic.config;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,6 +38,16 @@ public class SemanticConfiguration {
 	
 	private boolean explicitSupertypes = true;
 	
+	private boolean lazyAssociations = false;
+	
+	private boolean dirtyTracking = false;
+	
+	private int parallelMaterializationThreshold = 0;
+	
+	private int parallelWriteThreshold = 0;
+	
+	private Executor materializationExecutor;
+	
 	@Autowired(required=false)
 	public void setSemanticDatabase(SemanticDatabase semanticDatabase) {
 		this.semanticDatabase = semanticDatabase;
@@ -45,10 +57,36 @@ public class SemanticConfiguration {
 		this.explicitSupertypes = explicitSupertypes;
 	}
 	
+	public void setLazyAssociations(boolean lazyAssociations) {
+		this.lazyAssociations = lazyAssociations;
+	}
+	
+	public void setDirtyTracking(boolean dirtyTracking) {
+		this.dirtyTracking = dirtyTracking;
+	}
+	
+	public void setParallelMaterializationThreshold(int parallelMaterializationThreshold) {
+		this.parallelMaterializationThreshold = parallelMaterializationThreshold;
+	}
+	
+	public void setParallelWriteThreshold(int parallelWriteThreshold) {
+		this.parallelWriteThreshold = parallelWriteThreshold;
+	}
+	
+	public void setMaterializationExecutor(Executor materializationExecutor) {
+		this.materializationExecutor = materializationExecutor;
+	}
+	
 	
 	@Bean
 	public SemanticTemplateCRUD semanticTemplateCRUD() {
-		return new SemanticTemplateCRUD(semanticDatabase, conversionService(), explicitSupertypes);
+		SemanticTemplateCRUD semanticTemplateCRUD = new SemanticTemplateCRUD(semanticDatabase, conversionService(), explicitSupertypes);
+		semanticTemplateCRUD.setLazyAssociations(lazyAssociations);
+		semanticTemplateCRUD.setDirtyTracking(dirtyTracking);
+		semanticTemplateCRUD.setMaterializationExecutor(materializationExecutor);
+		semanticTemplateCRUD.setParallelMaterializationThreshold(parallelMaterializationThreshold);
+		semanticTemplateCRUD.setParallelWriteThreshold(parallelWriteThreshold);
+		return semanticTemplateCRUD;
 	}
 	
 	@Bean
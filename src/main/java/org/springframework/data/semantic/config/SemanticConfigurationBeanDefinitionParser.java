@@ -39,6 +39,21 @@ public class SemanticConfigurationBeanDefinitionParser extends
 		if(element.hasAttribute("explicit-supertypes")){
 			builder.addPropertyValue("explicitSupertypes", element.getAttribute("explicit-supertypes"));
 		}
+		if(element.hasAttribute("lazy-associations")){
+			builder.addPropertyValue("lazyAssociations", element.getAttribute("lazy-associations"));
+		}
+		if(element.hasAttribute("dirty-tracking")){
+			builder.addPropertyValue("dirtyTracking", element.getAttribute("dirty-tracking"));
+		}
+		if(element.hasAttribute("parallel-materialization-threshold")){
+			builder.addPropertyValue("parallelMaterializationThreshold", element.getAttribute("parallel-materialization-threshold"));
+		}
+		if(element.hasAttribute("parallel-write-threshold")){
+			builder.addPropertyValue("parallelWriteThreshold", element.getAttribute("parallel-write-threshold"));
+		}
+		if(element.hasAttribute("materialization-executor-ref")){
+			builder.addPropertyReference("materializationExecutor", element.getAttribute("materialization-executor-ref"));
+		}
 		
 		builder.setAutowireMode(Autowire.BY_TYPE.value());
 		setupConfigurationClassPostProcessor(parserContext);
@@ -0,0 +1,178 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.convert;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+
+/**
+ * Tracks the entities materialized by a single load operation, so that every resource is instantiated 
+ * and populated at most once per entity type, no matter how many other entities refer to it. 
+ * An identity map is meant to live for one operation only; it may be shared by the threads converting its results.
+ *
+ */
+public class EntityIdentityMap {
+	
+	private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<Key, Entry>();
+	
+	private final ConcurrentMap<Object, Object> attributes = new ConcurrentHashMap<Object, Object>();
+	
+	private final Set<Key> roots = Collections.newSetFromMap(new ConcurrentHashMap<Key, Boolean>());
+	
+	/**
+	 * Get the instance of the given resource, creating it with the given instantiator on first access.
+	 * @param persistentEntity
+	 * @param id
+	 * @param instantiator
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getInstance(SemanticPersistentEntity<T> persistentEntity, IRI id, SemanticEntityInstantiator instantiator){
+		Key key = new Key(id, persistentEntity.getType());
+		Entry entry = entries.get(key);
+		if(entry == null){
+			entry = new Entry(instantiator.createInstance(persistentEntity, id));
+			Entry existing = entries.putIfAbsent(key, entry);
+			if(existing != null){
+				entry = existing;
+			}
+		}
+		return (T) entry.instance;
+	}
+	
+	/**
+	 * Get the instance of the given resource if it has already been created by this load operation.
+	 * @param persistentEntity
+	 * @param id
+	 * @return the instance or null
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getExistingInstance(SemanticPersistentEntity<T> persistentEntity, IRI id){
+		Entry entry = entries.get(new Key(id, persistentEntity.getType()));
+		return entry != null ? (T) entry.instance : null;
+	}
+	
+	/**
+	 * Register a resource whose own molecule is converted by this load operation. Such a resource is only 
+	 * populated from its own molecule, never from the partial state fetched with an entity referring to it, 
+	 * so the result does not depend on the order in which the molecules are converted.
+	 * @param persistentEntity
+	 * @param id
+	 */
+	public void addRoot(SemanticPersistentEntity<?> persistentEntity, IRI id){
+		roots.add(new Key(id, persistentEntity.getType()));
+	}
+	
+	/**
+	 * Claim the population of the given resource's instance from its own molecule. Only the first caller for a resource gets true 
+	 * and is responsible for copying the properties onto the instance.
+	 * @param persistentEntity
+	 * @param id
+	 * @return true if the instance has not been claimed for population before
+	 */
+	public boolean claimPopulation(SemanticPersistentEntity<?> persistentEntity, IRI id){
+		Entry entry = entries.get(new Key(id, persistentEntity.getType()));
+		return entry != null && entry.populated.compareAndSet(false, true);
+	}
+	
+	/**
+	 * Claim the population of the given resource's instance from the state fetched with an entity referring to it.
+	 * @param persistentEntity
+	 * @param id
+	 * @return true if the resource is not a root of this load operation and its instance has not been claimed for population before
+	 * @see #addRoot(SemanticPersistentEntity, IRI)
+	 */
+	public boolean claimAssociationPopulation(SemanticPersistentEntity<?> persistentEntity, IRI id){
+		Key key = new Key(id, persistentEntity.getType());
+		if(roots.contains(key)){
+			return false;
+		}
+		Entry entry = entries.get(key);
+		return entry != null && entry.populated.compareAndSet(false, true);
+	}
+	
+	/**
+	 * Get an object attached to the load operation under the given key.
+	 * @param key
+	 * @return the attached object or null
+	 */
+	public Object getAttribute(Object key){
+		return attributes.get(key);
+	}
+	
+	/**
+	 * Attach an object to the load operation under the given key, unless another one is already attached.
+	 * @param key
+	 * @param value
+	 * @return the object attached before or null
+	 */
+	public Object putAttributeIfAbsent(Object key, Object value){
+		return attributes.putIfAbsent(key, value);
+	}
+	
+	/**
+	 * 
+	 * @return the number of materialized instances
+	 */
+	public int size(){
+		return entries.size();
+	}
+	
+	private static class Entry {
+		
+		private final Object instance;
+		private final AtomicBoolean populated = new AtomicBoolean();
+		
+		Entry(Object instance){
+			this.instance = instance;
+		}
+	}
+	
+	private static class Key {
+		
+		private final IRI id;
+		private final Class<?> type;
+		
+		Key(IRI id, Class<?> type){
+			this.id = id;
+			this.type = type;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * id.hashCode() + type.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(this == obj){
+				return true;
+			}
+			if(!(obj instanceof Key)){
+				return false;
+			}
+			Key other = (Key) obj;
+			return id.equals(other.id) && type.equals(other.type);
+		}
+	}
+
+}
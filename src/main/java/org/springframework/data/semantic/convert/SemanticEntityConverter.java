@@ -15,6 +15,7 @@
  */
 package org.springframework.data.semantic.convert;
 
+import java.util.Collection;
 import java.util.Map;
 
 import org.springframework.data.convert.EntityConverter;
@@ -35,10 +36,50 @@ public interface SemanticEntityConverter extends EntityConverter<SemanticPersist
 	 */
 	<R> R loadEntity(R entity, RDFState source, MappingPolicy mappingPolicy, SemanticPersistentEntity<R> persistentEntity);
 	
+	/**
+	 * Reads an entity from the given state, reusing the instances already materialized by the current load operation.
+	 * @param type
+	 * @param source
+	 * @param identityMap - the instances of the current load operation
+	 * @return
+	 */
+	<R> R read(Class<R> type, RDFState source, EntityIdentityMap identityMap);
+	
 	/**
 	 * Updates the existing state for each entity with the given object's new state.
 	 * @param objectsAndState
 	 */
 	void write(Map<Object, RDFState> objectsAndState);
 	
+	/**
+	 * Computes the statements to delete and to add for each entity against its existing state, without writing them.
+	 * @param objectsAndState
+	 * @return the merged changes of all entities
+	 */
+	RDFState getChanges(Map<Object, RDFState> objectsAndState);
+	
+	/**
+	 * Computes the statements to delete and to add for a single entity against its existing state, without writing them. 
+	 * Unlike {@link #getChanges(Map)}, an entity which cannot be converted is not skipped but fails with its exception.
+	 * @param source
+	 * @param dbStatements
+	 * @return the changes of the entity
+	 */
+	RDFState getChanges(Object source, RDFState dbStatements);
+	
+	/**
+	 * Sets the versions written with the given changes on the versioned entities, once the changes are committed. 
+	 * Computing the changes does not modify the version of an entity, so it is kept if the write fails.
+	 * @param entities
+	 * @param changes - the committed changes of the entities
+	 */
+	void updateVersions(Iterable<?> entities, RDFState changes);
+	
+	/**
+	 * Overwrites the stored state of the given entities without reading it: the predicates owned by each entity 
+	 * are cleared and its current statements inserted in one write.
+	 * @param objects
+	 */
+	void upsert(Collection<?> objects);
+	
 }
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.semantic.convert;
 
+import java.util.Collection;
 import java.util.Map;
 
 import org.eclipse.rdf4j.model.Statement;
@@ -37,6 +38,15 @@ public interface SemanticEntityPersister {
 	 */
 	<T> T createEntityFromState(RDFState statements, Class<T> type);
 	
+	/**
+	 * Creates a DAO entity from a given state as part of a load operation, which materializes each resource once.
+	 * @param statements
+	 * @param type
+	 * @param identityMap - the instances of the current load operation
+	 * @return
+	 */
+	<T> T createEntityFromState(RDFState statements, Class<T> type, EntityIdentityMap identityMap);
+	
 	/**
 	 * Persist the given entity's state.
 	 * @param entity
@@ -50,4 +60,11 @@ public interface SemanticEntityPersister {
 	 * @return
 	 */
 	<T> Iterable<T> persistEntities(Map<T, RDFState> entitiesToExistingState);
+	
+	/**
+	 * Persist the state of all given entities without reading or diffing their existing state.
+	 * @param entities
+	 * @return
+	 */
+	<T> Iterable<T> upsertEntities(Collection<T> entities);
 }
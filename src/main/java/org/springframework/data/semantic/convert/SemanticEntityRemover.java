@@ -15,11 +15,36 @@
  */
 package org.springframework.data.semantic.convert;
 
+import java.util.Collection;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.springframework.data.semantic.core.RDFState;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 
 public interface SemanticEntityRemover {
 	
-	<T> void delete(SemanticPersistentEntity<T> persistentEntity, T entity); 
+	/**
+	 * Delete the given entity together with the dependents of its cascade delete associations, in one transaction.
+	 * @param persistentEntity
+	 * @param entity
+	 * @return the deleted statements, including those of the dependents
+	 */
+	<T> RDFState delete(SemanticPersistentEntity<T> persistentEntity, T entity); 
+	
+	/**
+	 * Delete the given entities together with their dependents. The delete statements of all entities are merged and 
+	 * removed in one transaction, or in one transaction per chunk for very large inputs.
+	 * @param entities
+	 * @return the deleted statements
+	 */
+	RDFState delete(Collection<?> entities);
+	
+	/**
+	 * Delete the entity with the given id without loading it, from the metadata of its persistent entity.
+	 * @param persistentEntity
+	 * @param resourceId
+	 */
+	<T> void delete(SemanticPersistentEntity<T> persistentEntity, IRI resourceId);
 	
 	<T> void deleteAll(SemanticPersistentEntity<T> persistentEntity);
 
@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.core;
+
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+
+/**
+ * Receives the progress of a chunked bulk create, see {@link SemanticOperationsCRUD#createInChunks(Iterable, int, int, BulkCreateListener)}.
+ *
+ */
+public interface BulkCreateListener {
+	
+	/**
+	 * Called after a chunk has been committed.
+	 * @param chunk - the index of the chunk, starting from 0
+	 * @param entities - the number of entities in the chunk
+	 * @param statements - the number of statements added by the chunk
+	 */
+	void chunkCommitted(int chunk, int entities, int statements);
+	
+	/**
+	 * Called after a chunk has failed to commit. The bulk create continues with the next chunk.
+	 * @param chunk - the index of the chunk, starting from 0
+	 * @param entityIds - the ids of the entities in the chunk
+	 * @param cause
+	 */
+	void chunkFailed(int chunk, List<IRI> entityIds, RuntimeException cause);
+	
+	/**
+	 * Called after an entity has failed to convert into statements, e.g. due to a missing required property. 
+	 * The entity is left out of its chunk and the remaining entities of the chunk are still committed.
+	 * @param chunk - the index of the chunk the entity would have been committed with
+	 * @param entityId - the id of the entity; null if the id could not be read
+	 * @param cause
+	 */
+	void entityFailed(int chunk, IRI entityId, RuntimeException cause);
+
+}
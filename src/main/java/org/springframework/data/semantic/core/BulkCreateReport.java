@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+
+/**
+ * The outcome of a chunked bulk create: the number of committed chunks, entities and statements, 
+ * the chunks which failed to commit and the entities which failed to convert.
+ *
+ */
+public class BulkCreateReport {
+	
+	private int committedChunks;
+	private long committedEntities;
+	private long committedStatements;
+	private final List<FailedChunk> failedChunks = new ArrayList<FailedChunk>();
+	private final List<FailedEntity> failedEntities = new ArrayList<FailedEntity>();
+	
+	public void addCommittedChunk(int entities, int statements){
+		committedChunks++;
+		committedEntities += entities;
+		committedStatements += statements;
+	}
+	
+	public void addFailedChunk(int chunk, List<IRI> entityIds, RuntimeException cause){
+		failedChunks.add(new FailedChunk(chunk, entityIds, cause));
+	}
+	
+	public void addFailedEntity(int chunk, IRI entityId, RuntimeException cause){
+		failedEntities.add(new FailedEntity(chunk, entityId, cause));
+	}
+
+	public int getCommittedChunks() {
+		return committedChunks;
+	}
+
+	public long getCommittedEntities() {
+		return committedEntities;
+	}
+
+	public long getCommittedStatements() {
+		return committedStatements;
+	}
+
+	public List<FailedChunk> getFailedChunks() {
+		return Collections.unmodifiableList(failedChunks);
+	}
+	
+	public List<FailedEntity> getFailedEntities() {
+		return Collections.unmodifiableList(failedEntities);
+	}
+	
+	public boolean hasFailures(){
+		return !failedChunks.isEmpty() || !failedEntities.isEmpty();
+	}
+	
+	@Override
+	public String toString() {
+		return "BulkCreateReport [committedChunks=" + committedChunks + ", committedEntities=" + committedEntities 
+				+ ", committedStatements=" + committedStatements + ", failedChunks=" + failedChunks.size() + ", failedEntities=" + failedEntities.size() + "]";
+	}
+	
+	/**
+	 * A chunk which failed to commit, with the ids of its entities so that they can be retried.
+	 */
+	public static class FailedChunk {
+		
+		private final int chunk;
+		private final List<IRI> entityIds;
+		private final RuntimeException cause;
+		
+		public FailedChunk(int chunk, List<IRI> entityIds, RuntimeException cause){
+			this.chunk = chunk;
+			this.entityIds = entityIds;
+			this.cause = cause;
+		}
+
+		public int getChunk() {
+			return chunk;
+		}
+
+		public List<IRI> getEntityIds() {
+			return entityIds;
+		}
+
+		public RuntimeException getCause() {
+			return cause;
+		}
+	}
+	
+	/**
+	 * An entity which failed to convert into statements and was left out of its chunk.
+	 */
+	public static class FailedEntity {
+		
+		private final int chunk;
+		private final IRI entityId;
+		private final RuntimeException cause;
+		
+		public FailedEntity(int chunk, IRI entityId, RuntimeException cause){
+			this.chunk = chunk;
+			this.entityId = entityId;
+			this.cause = cause;
+		}
+
+		public int getChunk() {
+			return chunk;
+		}
+
+		public IRI getEntityId() {
+			return entityId;
+		}
+
+		public RuntimeException getCause() {
+			return cause;
+		}
+	}
+
+}
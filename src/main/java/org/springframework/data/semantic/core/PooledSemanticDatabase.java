@@ -19,9 +19,11 @@ import java.io.File;
 import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import org.eclipse.rdf4j.IsolationLevels;
 import org.eclipse.rdf4j.common.iteration.Iterations;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
@@ -43,16 +45,30 @@ import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.RepositoryResult;
+import org.eclipse.rdf4j.repository.base.RepositoryConnectionWrapper;
+import org.eclipse.rdf4j.repository.sail.SailBooleanQuery;
+import org.eclipse.rdf4j.repository.sail.SailGraphQuery;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailTupleQuery;
+import org.eclipse.rdf4j.repository.sail.SailUpdate;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.RDFParseException;
 import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.sail.SailConflictException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.data.semantic.query.BooleanSparqlQuery;
 import org.springframework.data.semantic.query.GraphSparqlQuery;
 import org.springframework.data.semantic.query.TupleSparqlQuery;
+import org.springframework.data.semantic.query.model.AskQuery;
+import org.springframework.data.semantic.query.model.ConstructQuery;
+import org.springframework.data.semantic.query.model.DataOperation;
+import org.springframework.data.semantic.query.model.SelectQuery;
+import org.springframework.data.semantic.query.model.SparqlUpdate;
+import org.springframework.data.semantic.query.model.UpdateOperation;
 import org.springframework.data.semantic.support.database.Rdf4jConnectionPool;
 import org.springframework.data.semantic.support.exceptions.SemanticDatabaseAccessException;
 import org.springframework.data.semantic.support.exceptions.UncategorizedSemanticDataAccessException;
@@ -148,7 +164,22 @@ public class PooledSemanticDatabase implements SemanticDatabase{
 	//-------------------------------------------------------------------------
 	
 	public List<Statement> getStatementsForSubject(Resource subject){
-		return getStatementsForQuadruplePattern(subject, null, null, null);
+		RepositoryConnection con = connectionPool.getConnection();
+		try {
+			//no context argument, so that statements of all contexts are returned
+			RepositoryResult<Statement> repoResult = con.getStatements(subject, null, null, true);
+			return Iterations.asList(repoResult);
+		} catch (RepositoryException e) {
+			logger.error(e.getMessage(), e);
+			throw new SemanticDatabaseAccessException(e);
+		} finally {
+			try {
+				con.close();
+			} catch (RepositoryException e) {
+				logger.error(e.getMessage(), e);
+				throw new SemanticDatabaseAccessException(e);
+			}
+		}
 	}
 
 	public List<Statement> getStatementsForPredicate(IRI predicate){
@@ -359,6 +390,120 @@ public class PooledSemanticDatabase implements SemanticDatabase{
 		}
 	}
 
+	@Override
+	public void applyChanges(Collection<? extends Statement> deleteStatements, Collection<? extends Statement> addStatements) {
+		applyChanges(deleteStatements, addStatements, Collections.<Statement>emptyList());
+	}
+
+	@Override
+	public void applyChanges(Collection<? extends Statement> deleteStatements, Collection<? extends Statement> addStatements, Collection<? extends Statement> expectedStatements) throws OptimisticLockingFailureException {
+		if(deleteStatements.isEmpty() && addStatements.isEmpty()){
+			return;
+		}
+		RepositoryConnection con = connectionPool.getConnection();
+		try {
+			if(!expectedStatements.isEmpty()){
+				// the expected statements are read inside the transaction, so a concurrent change to them fails the commit
+				con.begin(IsolationLevels.SERIALIZABLE);
+				for(Statement expected : expectedStatements){
+					if(!con.hasStatement(expected, false)){
+						con.rollback();
+						throw new OptimisticLockingFailureException("Expected statement "+expected+" is no longer present in the repository.");
+					}
+				}
+				con.remove(deleteStatements);
+				con.add(addStatements);
+				con.commit();
+				return;
+			}
+			if(getSailConnection(con) == null && DataOperation.isGround(deleteStatements) && DataOperation.isGround(addStatements)){
+				// a remote repository applies a single update request atomically, without the round trips of a transaction
+				SparqlUpdate update = new SparqlUpdate();
+				if(!deleteStatements.isEmpty()){
+					update.add(DataOperation.deleteData(deleteStatements));
+				}
+				if(!addStatements.isEmpty()){
+					update.add(DataOperation.insertData(addStatements));
+				}
+				con.prepareUpdate(QueryLanguage.SPARQL, update.toString()).execute();
+				return;
+			}
+			con.begin();
+			con.remove(deleteStatements);
+			con.add(addStatements);
+			con.commit();
+		} catch (MalformedQueryException | UpdateExecutionException e) {
+			logger.error(e.getMessage(),e);
+			throw new SemanticDatabaseAccessException(e);
+		} catch (RepositoryException e) {
+			logger.error(e.getMessage(),e);
+			try {
+				con.rollback();
+			} catch (RepositoryException e1) {
+				logger.error(e.getMessage(),e);
+			}
+			if(e.getCause() instanceof SailConflictException){
+				throw new OptimisticLockingFailureException(e.getMessage(), e);
+			}
+			throw new SemanticDatabaseAccessException(e);
+		} finally {
+			try {
+				con.close();
+			} catch (RepositoryException e) {
+				logger.error(e.getMessage(),e);
+			}
+		}
+	}
+
+	@Override
+	public void replaceStatements(SparqlUpdate deleteUpdate, Collection<? extends Statement> addStatements) {
+		if(deleteUpdate.isEmpty() && addStatements.isEmpty()){
+			return;
+		}
+		RepositoryConnection con = connectionPool.getConnection();
+		try {
+			SailRepositoryConnection sailConnection = getSailConnection(con);
+			if(sailConnection == null && DataOperation.isGround(addStatements)){
+				SparqlUpdate update = new SparqlUpdate();
+				for(UpdateOperation operation : deleteUpdate.getOperations()){
+					update.add(operation);
+				}
+				if(!addStatements.isEmpty()){
+					update.add(DataOperation.insertData(addStatements));
+				}
+				con.prepareUpdate(QueryLanguage.SPARQL, update.toString()).execute();
+				return;
+			}
+			con.begin();
+			if(!deleteUpdate.isEmpty()){
+				if(sailConnection != null){
+					new SailUpdate(deleteUpdate.toParsedUpdate(), sailConnection){}.execute();
+				}
+				else{
+					con.prepareUpdate(QueryLanguage.SPARQL, deleteUpdate.toString()).execute();
+				}
+			}
+			con.add(addStatements);
+			con.commit();
+		} catch (MalformedQueryException | UpdateExecutionException | RepositoryException e) {
+			logger.error(e.getMessage(),e);
+			try {
+				if(con.isActive()){
+					con.rollback();
+				}
+			} catch (RepositoryException e1) {
+				logger.error(e1.getMessage(),e1);
+			}
+			throw new SemanticDatabaseAccessException(e);
+		} finally {
+			try {
+				con.close();
+			} catch (RepositoryException e) {
+				logger.error(e.getMessage(),e);
+			}
+		}
+	}
+
 	@Override
 	public void shutdown() {
 		this.connectionPool.shutDown();
@@ -479,4 +624,99 @@ public class PooledSemanticDatabase implements SemanticDatabase{
 	}
 
 
+	@Override
+	public List<BindingSet> getQueryResults(SelectQuery query) {
+		RepositoryConnection con = this.connectionPool.getConnection();
+		try {
+			SailRepositoryConnection sailConnection = getSailConnection(con);
+			if(sailConnection != null){
+				logger.debug("Evaluating query \"{}\"", query);
+				return Iterations.asList(new SailTupleQuery(query.toParsedQuery(), sailConnection){}.evaluate());
+			}
+			return Iterations.asList(new TupleSparqlQuery(query.toString(), con).evaluate());
+		} catch (RepositoryException | MalformedQueryException | QueryEvaluationException e) {
+			logger.error(e.getMessage(),e);
+			throw new SemanticDatabaseAccessException(e);
+		} finally {
+			con.close();
+		}
+	}
+	
+	@Override
+	public Model getGraphQueryResults(ConstructQuery query) {
+		RepositoryConnection con = this.connectionPool.getConnection();
+		try {
+			SailRepositoryConnection sailConnection = getSailConnection(con);
+			if(sailConnection != null){
+				logger.debug("Evaluating query \"{}\"", query);
+				return QueryResults.asModel(new SailGraphQuery(query.toParsedQuery(), sailConnection){}.evaluate());
+			}
+			String source = query.toString();
+			logger.info("Executing query \""+source+"\"");
+			return QueryResults.asModel(new GraphSparqlQuery(source, con).evaluate());
+		} catch (RepositoryException | MalformedQueryException | QueryEvaluationException e) {
+			logger.error(e.getMessage(),e);
+			throw new SemanticDatabaseAccessException(e);
+		} finally {
+			con.close();
+		}
+	}
+	
+	@Override
+	public boolean getBooleanQueryResult(AskQuery query) {
+		RepositoryConnection con = this.connectionPool.getConnection();
+		try {
+			SailRepositoryConnection sailConnection = getSailConnection(con);
+			if(sailConnection != null){
+				return new SailBooleanQuery(query.toParsedQuery(), sailConnection){}.evaluate();
+			}
+			return new BooleanSparqlQuery(query.toString(), con).evaluate();
+		} catch (RepositoryException | MalformedQueryException | QueryEvaluationException e) {
+			logger.error(e.getMessage(),e);
+			throw new SemanticDatabaseAccessException(e);
+		} finally {
+			con.close();
+		}
+	}
+	
+	@Override
+	public void executeUpdate(SparqlUpdate update) {
+		if(update.isEmpty()){
+			return;
+		}
+		RepositoryConnection con = this.connectionPool.getConnection();
+		try {
+			SailRepositoryConnection sailConnection = getSailConnection(con);
+			if(sailConnection != null){
+				new SailUpdate(update.toParsedUpdate(), sailConnection){}.execute();
+			}
+			else{
+				con.prepareUpdate(QueryLanguage.SPARQL, update.toString()).execute();
+			}
+		} catch (RepositoryException | MalformedQueryException | UpdateExecutionException e) {
+			logger.error(e.getMessage(),e);
+			throw new SemanticDatabaseAccessException(e);
+		} finally {
+			try {
+				con.close();
+			} catch (RepositoryException e) {
+				logger.error(e.getMessage(),e);
+				throw new SemanticDatabaseAccessException(e);
+			}
+		}
+	}
+	
+	/**
+	 * Unwrap the connection to the underlying {@link SailRepositoryConnection}, if any. 
+	 * @param con
+	 * @return the sail connection or null if the repository is not embedded
+	 */
+	private static SailRepositoryConnection getSailConnection(RepositoryConnection con){
+		RepositoryConnection delegate = con;
+		while(delegate instanceof RepositoryConnectionWrapper){
+			delegate = ((RepositoryConnectionWrapper) delegate).getDelegate();
+		}
+		return delegate instanceof SailRepositoryConnection ? (SailRepositoryConnection) delegate : null;
+	}
+
 }
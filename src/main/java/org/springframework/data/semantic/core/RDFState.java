@@ -17,22 +17,29 @@ package org.springframework.data.semantic.core;
 
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Statement;
-import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.springframework.data.semantic.support.util.CompactModel;
 
+/**
+ * The statements of one or more entities: the current statements to be present in the store and the statements to be deleted from it.
+ * Both are kept in array-backed {@link CompactModel}s unless other models are given; the delete statements are only 
+ * allocated once a statement is deleted or they are requested, since most states never delete anything. 
+ * Changes may also carry expected statements, e.g. the versions of versioned entities, which must still be stored for the changes to be applied.
+ *
+ */
 public class RDFState {
 	
 	private Model currentStatements;
 	
 	private Model deleteStatements;
 	
+	private Model expectedStatements;
+	
 	public RDFState(){
-		this.currentStatements = new LinkedHashModel();
-		this.deleteStatements = new LinkedHashModel();
+		this.currentStatements = new CompactModel();
 	}
 	
 	public RDFState(Model statements){
 		this.currentStatements = statements;
-		this.deleteStatements = new LinkedHashModel();
 	}
 
 	/**
@@ -53,6 +60,9 @@ public class RDFState {
 	 * @return the deleteStatements
 	 */
 	public Model getDeleteStatements() {
+		if(deleteStatements == null){
+			deleteStatements = new CompactModel();
+		}
 		return deleteStatements;
 	}
 
@@ -63,14 +73,30 @@ public class RDFState {
 		this.deleteStatements = deleteStatements;
 	}
 	
+	/**
+	 * @return the statements which must be present in the store for the changes to be applied
+	 */
+	public Model getExpectedStatements() {
+		if(expectedStatements == null){
+			expectedStatements = new CompactModel();
+		}
+		return expectedStatements;
+	}
+	
+	public void expectStatement(Statement st){
+		getExpectedStatements().add(st);
+	}
+	
 	public void addStatement(Statement st){
 		this.currentStatements.add(st);
-		this.deleteStatements.remove(st);
+		if(this.deleteStatements != null){
+			this.deleteStatements.remove(st);
+		}
 	}
 	
 	public void deleteStatement(Statement st){
 		this.currentStatements.remove(st);
-		this.deleteStatements.add(st);
+		getDeleteStatements().add(st);
 	}
 	
 	public boolean isEmpty(){
@@ -78,7 +104,12 @@ public class RDFState {
 	}
 	
 	public void merge(RDFState state){
-		this.deleteStatements.addAll(state.getDeleteStatements());
+		if(state.deleteStatements != null && !state.deleteStatements.isEmpty()){
+			getDeleteStatements().addAll(state.deleteStatements);
+		}
+		if(state.expectedStatements != null && !state.expectedStatements.isEmpty()){
+			getExpectedStatements().addAll(state.expectedStatements);
+		}
 		this.currentStatements.addAll(state.getCurrentStatements());
 	}
 
@@ -35,7 +35,12 @@ import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.rio.RDFParseException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.repository.query.QueryCreationException;
+import org.springframework.data.semantic.query.model.AskQuery;
+import org.springframework.data.semantic.query.model.ConstructQuery;
+import org.springframework.data.semantic.query.model.SelectQuery;
+import org.springframework.data.semantic.query.model.SparqlUpdate;
 
 /**
  * SemanticDatabase provides an interface over operations executable by {@link Repository} and {@link RepositoryConnection}.
@@ -121,7 +126,31 @@ public interface SemanticDatabase {
 	boolean getBooleanQueryResult(String source) throws RepositoryException, QueryCreationException, QueryEvaluationException, QueryInterruptedException, MalformedQueryException;
 	
 	/**
-	 * Retrieve the {@link List} of {@link Statement}s for the given subject.
+	 * Evaluate the given structured select query. Embedded repositories evaluate its algebra directly, 
+	 * others receive its SPARQL text.
+	 * @param query
+	 * @return
+	 */
+	List<BindingSet> getQueryResults(SelectQuery query);
+	
+	/**
+	 * Evaluate the given structured graph query. Embedded repositories evaluate its algebra directly, 
+	 * others receive its SPARQL text.
+	 * @param query
+	 * @return
+	 */
+	Model getGraphQueryResults(ConstructQuery query);
+	
+	/**
+	 * Evaluate the given structured ask query. Embedded repositories evaluate its algebra directly, 
+	 * others receive its SPARQL text.
+	 * @param query
+	 * @return
+	 */
+	boolean getBooleanQueryResult(AskQuery query);
+	
+	/**
+	 * Retrieve the {@link List} of {@link Statement}s for the given subject in all contexts.
 	 * @param subject
 	 * @return
 	 * @throws RepositoryException
@@ -244,12 +273,45 @@ public interface SemanticDatabase {
 	 */
 	void executeUpdateStatement(String update);
 	
+	/**
+	 * Execute the given structured update. Embedded repositories execute its algebra directly, 
+	 * others receive its SPARQL text.
+	 * @param update
+	 */
+	void executeUpdate(SparqlUpdate update);
+	
 	/**
 	 * Delete the given {@link Collection} of {@link Statement}s from the repository.
 	 * @param statements
 	 */
 	void removeStatements(Collection<? extends Statement> statements);
 	
+	/**
+	 * Delete the given {@link Statement}s and add the given {@link Statement}s in a single transaction. 
+	 * The deletes are applied first, so statements present in both collections remain in the repository.
+	 * @param deleteStatements
+	 * @param addStatements
+	 */
+	void applyChanges(Collection<? extends Statement> deleteStatements, Collection<? extends Statement> addStatements);
+	
+	/**
+	 * Delete the given {@link Statement}s and add the given {@link Statement}s in a single serializable transaction, 
+	 * provided that all expected {@link Statement}s are still present in the repository.
+	 * @param deleteStatements
+	 * @param addStatements
+	 * @param expectedStatements
+	 * @throws OptimisticLockingFailureException if an expected statement is missing or a concurrent transaction changed it
+	 */
+	void applyChanges(Collection<? extends Statement> deleteStatements, Collection<? extends Statement> addStatements, Collection<? extends Statement> expectedStatements) throws OptimisticLockingFailureException;
+	
+	/**
+	 * Execute the given delete update and add the given {@link Statement}s in a single transaction. 
+	 * Against a remote repository both are sent as one update request.
+	 * @param deleteUpdate
+	 * @param addStatements
+	 */
+	void replaceStatements(SparqlUpdate deleteUpdate, Collection<? extends Statement> addStatements);
+	
 	
 	/**
 	 * Clear all connections and other resources in use.
@@ -41,6 +41,19 @@ public interface SemanticOperationsCRUD {
      * This method is also provided by the appropriate repository.
      */
     <T> T create(T entity);
+    
+    /**
+     * Store a large number of entities in chunks. The entities are consumed lazily and each chunk is converted and committed 
+     * in its own transaction, so only the statements of one chunk are held at a time. No checking/removing of existing statements occurs.
+     * A chunk which fails to commit is reported and the remaining chunks are still stored. An entity which fails to convert 
+     * is reported and left out of its chunk. The entities are not cached.
+     * @param entities - e.g. a lazily computed {@link Iterable} or the iterator of a stream
+     * @param maxChunkEntities - the maximal number of entities in a chunk
+     * @param maxChunkStatements - the number of statements after which a chunk is committed, even if it has fewer entities; 0 for no limit
+     * @param listener - notified of the progress; may be null
+     * @return
+     */
+    <T> BulkCreateReport createInChunks(Iterable<T> entities, int maxChunkEntities, int maxChunkStatements, BulkCreateListener listener);
 	
 	/**
 	 * Store the given entities in the rdf store. If the subject {@link IRI} of an entity is already present in the store, the statements for it are updated, otherwise
@@ -55,13 +68,36 @@ public interface SemanticOperationsCRUD {
      * Stores the given entity in the rdf store. If the subject {@link IRI} is already present in the store, the statements are updated, otherwise
      * statements are just added. Attached relationships will be cascaded.
      * This method is also provided by the appropriate repository.
+     * <p>
+     * If the entity has a {@link org.springframework.data.annotation.Version} property, the write fails with an 
+     * {@link org.springframework.dao.OptimisticLockingFailureException} unless the stored version is still the one of the entity, 
+     * and the entity gets the next version once the write is committed. Only the saved entities are versioned: 
+     * cascaded entities are written without checking or incrementing their versions.
      */
     <T> T save(T entity);
-
+    
     /**
-     * Removes the given statements from the rdf store, the entity is first removed
-     * from all indexes and then deleted.
+     * Stores the given entity without reading its existing state: the predicates owned by the entity are cleared and its statements 
+     * inserted in a single write. Entities of types annotated with {@link org.springframework.data.semantic.annotation.SemanticEntity#upsert()} 
+     * are always saved this way. Statements of cascaded entities are added, but not cleared.
      * @param entity
+     * @return
+     */
+    <T> T upsert(T entity);
+    
+    /**
+     * Stores the given entities without reading their existing state, in a single write. A {@link #save(Iterable)} which mixes 
+     * upserted and other entities writes each group separately.
+     * @param entities
+     * @return
+     */
+    <T> Iterable<T> upsert(Iterable<T> entities);
+
+    /**
+     * Removes the statements of the entity with the given id from the rdf store without loading it, 
+     * the entity is first removed from all indexes and then deleted.
+     * @param resourceId
+     * @param clazz
      */
     <T> void delete(IRI resourceId, Class<? extends T> clazz);
     
@@ -72,12 +108,33 @@ public interface SemanticOperationsCRUD {
      */
     <T> void delete(T entity);
     
+    /**
+     * Removes the statements of all given entities from the rdf store, the entities are first removed
+     * from all indexes and then deleted in a single transaction, or in one transaction per chunk for very large inputs.
+     * @param entities
+     */
+    <T> void delete(Iterable<? extends T> entities);
+    
     /**
      * Removes the statements for all entities of the given class.
      * @param clazz
      */
     <T> void deleteAll(Class<? extends T> clazz);
     
+    /**
+     * Open a new session which collects changes of entities until it is flushed explicitly.
+     * @return
+     */
+    SemanticSession openSession();
+    
+    /**
+     * Get the session bound to the current Spring transaction, opening and binding it on first access. 
+     * The session is flushed before the transaction commits.
+     * @return
+     * @throws IllegalStateException if no transaction synchronization is active
+     */
+    SemanticSession getCurrentSession();
+    
     /**
      * Retrieves an entity of the given type T that is identified by the given {@link IRI}.
      * @param resourceId
@@ -85,6 +142,15 @@ public interface SemanticOperationsCRUD {
      */
     <T> T find(IRI resourceId, Class<? extends T> clazz);
     
+    /**
+     * Retrieves the entities of the given type T that are identified by the given {@link IRI}s. Entities which are not cached 
+     * are retrieved together with as few queries as possible. Ids which do not identify an entity are skipped.
+     * @param resourceIds
+     * @param clazz
+     * @return the entities in the order of their ids
+     */
+    <T> List<T> find(Collection<IRI> resourceIds, Class<? extends T> clazz);
+    
     /**
      * Retrieve all entities of the given type T.
      * @param clazz
@@ -125,6 +191,17 @@ public interface SemanticOperationsCRUD {
 	 */
 	<T> Collection<T> findByProperty(Class<? extends T> clazz, Map<String, Object> parameterToValue);
 	
+	/**
+	 * Retrieve projections of the entities of the given type that fulfill the parameter requirements. 
+	 * The projection type is either an interface whose getters or a class whose fields are named after properties of the entity.
+	 * Only the projected properties are retrieved from the semantic database.
+	 * @param clazz
+	 * @param parameterToValue
+	 * @param projectionType
+	 * @return
+	 */
+	<T, P> Collection<P> findByProperty(Class<? extends T> clazz, Map<String, Object> parameterToValue, Class<P> projectionType);
+	
 	/**
 	 * Count the number of entities of the given class that fulfill the parameter requirements.
 	 * @param clazz
@@ -17,6 +17,7 @@ package org.springframework.data.semantic.core;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
@@ -33,13 +34,19 @@ public interface SemanticOperationsStatementsCollector {
 
 	<T> Model getStatementsForResourceOriginalPredicates(IRI resource, Class<? extends T> clazz, MappingPolicy globalMappingPolicy);
 	
+	<T> Map<IRI, Model> getStatementsForResourcesOriginalPredicates(Collection<IRI> resources, Class<? extends T> clazz, MappingPolicy globalMappingPolicy);
+	
 	<T> Model getStatementsForResource(IRI resource, Class<? extends T> clazz, MappingPolicy globalMappingPolicy);
 	
 	<T> Collection<Model> getStatementsForResources(Class<? extends T> clazz);
 	
+	<T> Collection<Model> getStatementsForResources(Collection<IRI> resources, Class<? extends T> clazz, MappingPolicy globalMappingPolicy);
+	
 	<T> Collection<Model> getStatementsForResources(Class<? extends T> clazz, Long offset, Long limit);
 	
 	<T> Collection<Model> getStatementsForResourcesAndProperties(Class<? extends T> clazz, Map<String, Object> parameterToValue, Long offset, Long limit);
 	
+	<T> Collection<Model> getStatementsForResourcesAndProperties(Class<? extends T> clazz, Map<String, Object> parameterToValue, Set<String> projectedProperties, Long offset, Long limit);
+	
 	<T> Collection<IRI> getUrisForOffsetAndLimit(Class<? extends T> clazz, Integer offset, Integer limit);
 } 
@@ -0,0 +1,71 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.core;
+
+/**
+ * A unit of work over the semantic store. Creates, saves and deletes of entities are collected by the session and 
+ * written together on {@link #flush()}: the changes of all entities are merged and applied as one delete and one 
+ * insert in a single transaction. Repeated operations on the same resource are coalesced, the last one wins.
+ * <p>
+ * Sessions are not thread-safe. A session obtained through {@link SemanticOperationsCRUD#getCurrentSession()} is 
+ * flushed before the surrounding Spring transaction commits and discarded after it completes.
+ *
+ */
+public interface SemanticSession {
+	
+	/**
+	 * Register the given entity to be stored without checking/removing of existing statements on flush.
+	 * @param entity
+	 * @return
+	 */
+	<T> T create(T entity);
+	
+	/**
+	 * Register the given entity to be stored on flush, updating its existing statements.
+	 * @param entity
+	 * @return
+	 */
+	<T> T save(T entity);
+	
+	/**
+	 * Register the given entities to be stored on flush, updating their existing statements.
+	 * @param entities
+	 * @return
+	 */
+	<T> Iterable<T> save(Iterable<T> entities);
+	
+	/**
+	 * Register the given entity to be deleted on flush.
+	 * @param entity
+	 */
+	<T> void delete(T entity);
+	
+	/**
+	 * Write all pending changes in a single transaction and clear them.
+	 */
+	void flush();
+	
+	/**
+	 * Discard all pending changes.
+	 */
+	void clear();
+	
+	/**
+	 * @return true if there are changes which have not been flushed yet
+	 */
+	boolean hasPendingChanges();
+
+}
@@ -57,6 +57,12 @@ public interface SemanticPersistentEntity<T> extends MutablePersistentEntity<T,
 	  */
 	 IRI getRDFType();
 	 
+	 /**
+	  * Check if instances of this entity are saved as blind upserts, without reading their existing state.
+	  * @return
+	  */
+	 boolean isUpsert();
+	 
 	 /**
 	  * Returns the {@link List} of {@link IRI}s identifying this entity's superclass' RDF types.
 	  * @return
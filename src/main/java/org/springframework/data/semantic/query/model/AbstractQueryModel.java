@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import org.eclipse.rdf4j.query.algebra.Slice;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+
+/**
+ * Base class of the structured queries. A query can be rendered as SPARQL text ({@link #toString()}) 
+ * for remote repositories or directly as a {@link ParsedQuery} for embedded ones, avoiding the parser.
+ *
+ */
+public abstract class AbstractQueryModel {
+	
+	protected final GroupPattern where;
+	private Long offset;
+	private Long limit;
+	
+	protected AbstractQueryModel(GroupPattern where){
+		this.where = where;
+	}
+	
+	public GroupPattern getWhere() {
+		return where;
+	}
+	
+	public Long getOffset() {
+		return offset;
+	}
+	
+	public void setOffset(Long offset) {
+		this.offset = offset;
+	}
+	
+	public Long getLimit() {
+		return limit;
+	}
+	
+	public void setLimit(Long limit) {
+		this.limit = limit;
+	}
+	
+	/**
+	 * Create the algebra of the query.
+	 * @return
+	 */
+	public abstract ParsedQuery toParsedQuery();
+	
+	protected abstract void appendTo(StringBuilder sb);
+	
+	protected void appendSolutionModifiers(StringBuilder sb){
+		if(offset != null && offset > 0){
+			sb.append(" OFFSET ");
+			sb.append(offset);
+		}
+		if(limit != null && limit >= 0){
+			sb.append(" LIMIT ");
+			sb.append(limit);
+		}
+	}
+	
+	protected TupleExpr applySolutionModifiers(TupleExpr expr){
+		boolean hasOffset = offset != null && offset > 0;
+		boolean hasLimit = limit != null && limit >= 0;
+		if(hasOffset || hasLimit){
+			return new Slice(expr, hasOffset ? offset : 0, hasLimit ? limit : -1);
+		}
+		return expr;
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		appendTo(sb);
+		return sb.toString();
+	}
+
+}
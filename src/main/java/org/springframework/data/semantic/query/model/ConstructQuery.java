@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.algebra.Extension;
+import org.eclipse.rdf4j.query.algebra.ExtensionElem;
+import org.eclipse.rdf4j.query.algebra.MultiProjection;
+import org.eclipse.rdf4j.query.algebra.Projection;
+import org.eclipse.rdf4j.query.algebra.ProjectionElem;
+import org.eclipse.rdf4j.query.algebra.ProjectionElemList;
+import org.eclipse.rdf4j.query.algebra.Reduced;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.ValueConstant;
+import org.eclipse.rdf4j.query.parser.ParsedGraphQuery;
+
+/**
+ * A CONSTRUCT query.
+ *
+ */
+public class ConstructQuery extends AbstractQueryModel {
+	
+	private final List<TriplePattern> template;
+	
+	public ConstructQuery(List<TriplePattern> template, GroupPattern where){
+		super(where);
+		this.template = new ArrayList<TriplePattern>(template);
+	}
+	
+	public List<TriplePattern> getTemplate() {
+		return Collections.unmodifiableList(template);
+	}
+	
+	@Override
+	protected void appendTo(StringBuilder sb) {
+		sb.append("CONSTRUCT { ");
+		for(TriplePattern pattern : template){
+			pattern.appendTo(sb, true);
+		}
+		sb.append(" }\nWHERE { ");
+		where.appendContentTo(sb);
+		sb.append(" }");
+		appendSolutionModifiers(sb);
+	}
+	
+	@Override
+	public ParsedGraphQuery toParsedQuery() {
+		Map<String, Value> constants = new LinkedHashMap<String, Value>();
+		List<ProjectionElemList> projections = new ArrayList<ProjectionElemList>(template.size());
+		for(TriplePattern pattern : template){
+			projections.add(new ProjectionElemList(
+					new ProjectionElem(getSourceName(pattern.getSubject(), constants), "subject"),
+					new ProjectionElem(getSourceName(pattern.getPredicate(), constants), "predicate"),
+					new ProjectionElem(getSourceName(pattern.getObject(), constants), "object")));
+		}
+		TupleExpr expr = where.toTupleExpr();
+		if(!constants.isEmpty()){
+			Extension extension = new Extension(expr);
+			for(Map.Entry<String, Value> constant : constants.entrySet()){
+				extension.addElement(new ExtensionElem(new ValueConstant(constant.getValue()), constant.getKey()));
+			}
+			expr = extension;
+		}
+		if(projections.size() == 1){
+			expr = new Projection(expr, projections.get(0));
+		}
+		else{
+			expr = new MultiProjection(expr, projections);
+		}
+		//as in the parsed query string, the slice applies to the constructed statements rather than the solutions
+		return new ParsedGraphQuery(applySolutionModifiers(new Reduced(expr)));
+	}
+	
+	private static String getSourceName(QueryTerm term, Map<String, Value> constants){
+		if(term.isVariable()){
+			return term.getName();
+		}
+		String name = term.getName();
+		for(int i = 1; constants.containsKey(name) && !constants.get(name).equals(term.getValue()); i++){
+			name = term.getName() + "_" + i;
+		}
+		constants.put(name, term.getValue());
+		return name;
+	}
+
+}
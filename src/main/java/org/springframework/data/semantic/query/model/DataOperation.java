@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.query.algebra.DeleteData;
+import org.eclipse.rdf4j.query.algebra.InsertData;
+import org.eclipse.rdf4j.query.algebra.UpdateExpr;
+
+/**
+ * An INSERT DATA or DELETE DATA operation with the given ground statements. Statements with a context are 
+ * placed in the corresponding GRAPH block.
+ *
+ */
+public class DataOperation implements UpdateOperation {
+	
+	private final boolean insert;
+	private final Collection<? extends Statement> statements;
+	
+	private DataOperation(boolean insert, Collection<? extends Statement> statements){
+		this.insert = insert;
+		this.statements = statements;
+	}
+	
+	public static DataOperation insertData(Collection<? extends Statement> statements){
+		return new DataOperation(true, statements);
+	}
+	
+	public static DataOperation deleteData(Collection<? extends Statement> statements){
+		return new DataOperation(false, statements);
+	}
+	
+	/**
+	 * Check if the given statements can be sent as data. Blank nodes are not allowed in DELETE DATA and would 
+	 * be renamed by INSERT DATA, so statements with blank nodes must be written through the repository API.
+	 * @param statements
+	 * @return
+	 */
+	public static boolean isGround(Collection<? extends Statement> statements){
+		for(Statement statement : statements){
+			if(statement.getSubject() instanceof BNode || statement.getObject() instanceof BNode || statement.getContext() instanceof BNode){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	public boolean isInsert() {
+		return insert;
+	}
+	
+	public Collection<? extends Statement> getStatements() {
+		return statements;
+	}
+	
+	@Override
+	public void appendTo(StringBuilder sb) {
+		sb.append(insert ? "INSERT DATA { " : "DELETE DATA { ");
+		appendDataBlock(sb);
+		sb.append("}");
+	}
+	
+	private void appendDataBlock(StringBuilder sb){
+		Map<Resource, List<Statement>> statementsPerContext = new LinkedHashMap<Resource, List<Statement>>();
+		for(Statement statement : statements){
+			if(statement.getContext() == null){
+				appendTriple(sb, statement);
+			}
+			else{
+				List<Statement> contextStatements = statementsPerContext.get(statement.getContext());
+				if(contextStatements == null){
+					contextStatements = new ArrayList<Statement>();
+					statementsPerContext.put(statement.getContext(), contextStatements);
+				}
+				contextStatements.add(statement);
+			}
+		}
+		for(Map.Entry<Resource, List<Statement>> contextStatements : statementsPerContext.entrySet()){
+			sb.append("GRAPH ");
+			QueryTerm.appendValue(sb, contextStatements.getKey());
+			sb.append(" { ");
+			for(Statement statement : contextStatements.getValue()){
+				appendTriple(sb, statement);
+			}
+			sb.append("} ");
+		}
+	}
+	
+	private static void appendTriple(StringBuilder sb, Statement statement){
+		QueryTerm.appendValue(sb, statement.getSubject());
+		sb.append(' ');
+		QueryTerm.appendValue(sb, statement.getPredicate());
+		sb.append(' ');
+		QueryTerm.appendValue(sb, statement.getObject());
+		sb.append(" . ");
+	}
+	
+	@Override
+	public UpdateExpr toUpdateExpr() {
+		StringBuilder sb = new StringBuilder();
+		appendDataBlock(sb);
+		return insert ? new InsertData(sb.toString()) : new DeleteData(sb.toString());
+	}
+
+}
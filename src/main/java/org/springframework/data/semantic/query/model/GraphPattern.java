@@ -0,0 +1,39 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+
+/**
+ * An element of the WHERE clause of a query, which can be rendered either as SPARQL text 
+ * or as an rdf4j {@link TupleExpr}.
+ *
+ */
+public interface GraphPattern {
+	
+	/**
+	 * Append the SPARQL text of this pattern.
+	 * @param sb
+	 */
+	void appendTo(StringBuilder sb);
+	
+	/**
+	 * Create the algebra expression of this pattern. 
+	 * @return
+	 */
+	TupleExpr toTupleExpr();
+
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.LeftJoin;
+import org.eclipse.rdf4j.query.algebra.SingletonSet;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+
+/**
+ * A group graph pattern - a sequence of patterns which are joined together. 
+ *
+ */
+public class GroupPattern implements GraphPattern {
+	
+	private final List<GraphPattern> patterns = new ArrayList<GraphPattern>();
+	
+	public GroupPattern(GraphPattern... patterns){
+		for(GraphPattern pattern : patterns){
+			add(pattern);
+		}
+	}
+	
+	/**
+	 * Append a pattern to the group.
+	 * @param pattern
+	 * @return this group
+	 */
+	public GroupPattern add(GraphPattern pattern){
+		patterns.add(pattern);
+		return this;
+	}
+	
+	/**
+	 * Append a pattern as an alternative of the last pattern in the group. 
+	 * If the group is empty the pattern is simply added.
+	 * @param pattern
+	 * @return this group
+	 */
+	public GroupPattern union(GraphPattern pattern){
+		if(patterns.isEmpty()){
+			return add(pattern);
+		}
+		GraphPattern last = patterns.get(patterns.size() - 1);
+		if(last instanceof UnionPattern){
+			((UnionPattern) last).add(pattern);
+		}
+		else{
+			patterns.set(patterns.size() - 1, new UnionPattern(last, pattern));
+		}
+		return this;
+	}
+	
+	public boolean isEmpty(){
+		return patterns.isEmpty();
+	}
+	
+	public List<GraphPattern> getPatterns() {
+		return Collections.unmodifiableList(patterns);
+	}
+	
+	/**
+	 * Collect all triple patterns in this group and its nested groups.
+	 * @return
+	 */
+	public List<TriplePattern> getTriplePatterns(){
+		List<TriplePattern> triples = new ArrayList<TriplePattern>();
+		collectTriplePatterns(this, triples);
+		return triples;
+	}
+	
+	private static void collectTriplePatterns(GraphPattern pattern, List<TriplePattern> triples){
+		if(pattern instanceof TriplePattern){
+			triples.add((TriplePattern) pattern);
+		}
+		else if(pattern instanceof GroupPattern){
+			for(GraphPattern child : ((GroupPattern) pattern).patterns){
+				collectTriplePatterns(child, triples);
+			}
+		}
+		else if(pattern instanceof OptionalPattern){
+			collectTriplePatterns(((OptionalPattern) pattern).getPattern(), triples);
+		}
+		else if(pattern instanceof UnionPattern){
+			for(GraphPattern child : ((UnionPattern) pattern).getPatterns()){
+				collectTriplePatterns(child, triples);
+			}
+		}
+	}
+	
+	@Override
+	public void appendTo(StringBuilder sb) {
+		sb.append("{ ");
+		appendContentTo(sb);
+		sb.append("} ");
+	}
+	
+	/**
+	 * Append the text of the patterns in the group without the enclosing braces.
+	 * @param sb
+	 */
+	public void appendContentTo(StringBuilder sb){
+		for(GraphPattern pattern : patterns){
+			pattern.appendTo(sb);
+		}
+	}
+	
+	@Override
+	public TupleExpr toTupleExpr() {
+		TupleExpr result = null;
+		for(GraphPattern pattern : patterns){
+			if(pattern instanceof OptionalPattern){
+				result = new LeftJoin(result != null ? result : new SingletonSet(), ((OptionalPattern) pattern).getPattern().toTupleExpr());
+			}
+			else{
+				TupleExpr expr = pattern.toTupleExpr();
+				result = result != null ? new Join(result, expr) : expr;
+			}
+		}
+		return result != null ? result : new SingletonSet();
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		appendTo(sb);
+		return sb.toString();
+	}
+
+}
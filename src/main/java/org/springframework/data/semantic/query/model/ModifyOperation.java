@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.Modify;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.UpdateExpr;
+
+/**
+ * A DELETE/INSERT ... WHERE operation. Either of the templates may be empty.
+ *
+ */
+public class ModifyOperation implements UpdateOperation {
+	
+	private final List<TriplePattern> deleteTemplate;
+	private final List<TriplePattern> insertTemplate;
+	private final GroupPattern where;
+	
+	public ModifyOperation(List<TriplePattern> deleteTemplate, List<TriplePattern> insertTemplate, GroupPattern where){
+		this.deleteTemplate = deleteTemplate != null ? new ArrayList<TriplePattern>(deleteTemplate) : Collections.<TriplePattern>emptyList();
+		this.insertTemplate = insertTemplate != null ? new ArrayList<TriplePattern>(insertTemplate) : Collections.<TriplePattern>emptyList();
+		this.where = where;
+	}
+	
+	public List<TriplePattern> getDeleteTemplate() {
+		return Collections.unmodifiableList(deleteTemplate);
+	}
+	
+	public List<TriplePattern> getInsertTemplate() {
+		return Collections.unmodifiableList(insertTemplate);
+	}
+	
+	public GroupPattern getWhere() {
+		return where;
+	}
+	
+	@Override
+	public void appendTo(StringBuilder sb) {
+		if(!deleteTemplate.isEmpty()){
+			appendTemplate(sb, "DELETE", deleteTemplate);
+		}
+		if(!insertTemplate.isEmpty()){
+			appendTemplate(sb, "INSERT", insertTemplate);
+		}
+		sb.append("WHERE { ");
+		where.appendContentTo(sb);
+		sb.append("}");
+	}
+	
+	private static void appendTemplate(StringBuilder sb, String keyword, List<TriplePattern> template){
+		sb.append(keyword);
+		sb.append(" { ");
+		for(TriplePattern pattern : template){
+			pattern.appendTo(sb);
+		}
+		sb.append("} ");
+	}
+	
+	@Override
+	public UpdateExpr toUpdateExpr() {
+		return new Modify(toTemplateExpr(deleteTemplate), toTemplateExpr(insertTemplate), where.toTupleExpr());
+	}
+	
+	private static TupleExpr toTemplateExpr(List<TriplePattern> template){
+		TupleExpr result = null;
+		for(TriplePattern pattern : template){
+			TupleExpr expr = pattern.toTupleExpr();
+			result = result != null ? new Join(result, expr) : expr;
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import org.eclipse.rdf4j.query.algebra.LeftJoin;
+import org.eclipse.rdf4j.query.algebra.SingletonSet;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+
+/**
+ * An OPTIONAL group. When part of a {@link GroupPattern} it is left-joined with the preceding patterns.
+ *
+ */
+public class OptionalPattern implements GraphPattern {
+	
+	private final GroupPattern pattern;
+	
+	public OptionalPattern(GroupPattern pattern){
+		this.pattern = pattern;
+	}
+	
+	public GroupPattern getPattern() {
+		return pattern;
+	}
+	
+	@Override
+	public void appendTo(StringBuilder sb) {
+		sb.append("OPTIONAL ");
+		pattern.appendTo(sb);
+	}
+	
+	@Override
+	public TupleExpr toTupleExpr() {
+		return new LeftJoin(new SingletonSet(), pattern.toTupleExpr());
+	}
+
+}
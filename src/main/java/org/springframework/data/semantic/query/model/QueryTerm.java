@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.XMLSchema;
+import org.eclipse.rdf4j.query.algebra.Var;
+
+/**
+ * A term of a triple pattern: either a named variable or a constant {@link Value}.
+ * 
+ */
+public final class QueryTerm {
+	
+	private final String name;
+	private final Value value;
+	
+	private QueryTerm(String name, Value value){
+		this.name = name;
+		this.value = value;
+	}
+	
+	/**
+	 * Create a variable term. 
+	 * @param name - the name of the variable without the leading '?'
+	 * @return
+	 */
+	public static QueryTerm var(String name){
+		return new QueryTerm(name, null);
+	}
+	
+	/**
+	 * Create a constant term.
+	 * @param value
+	 * @return
+	 */
+	public static QueryTerm value(Value value){
+		return new QueryTerm(getConstantName(value), value);
+	}
+	
+	public boolean isVariable(){
+		return value == null;
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public Value getValue() {
+		return value;
+	}
+	
+	/**
+	 * Create a new algebra {@link Var} for this term. 
+	 * @return
+	 */
+	public Var toVar(){
+		if(value == null){
+			return new Var(name);
+		}
+		Var var = new Var(name, value);
+		var.setConstant(true);
+		var.setAnonymous(true);
+		return var;
+	}
+	
+	public void appendTo(StringBuilder sb){
+		if(value == null){
+			sb.append('?');
+			sb.append(name);
+		}
+		else{
+			appendValue(sb, value);
+		}
+	}
+	
+	/**
+	 * Append the SPARQL representation of the given value.
+	 * @param sb
+	 * @param value
+	 */
+	public static void appendValue(StringBuilder sb, Value value){
+		if(value instanceof IRI){
+			sb.append('<');
+			sb.append(value.stringValue());
+			sb.append('>');
+		}
+		else if(value instanceof BNode){
+			sb.append("_:");
+			sb.append(value.stringValue());
+		}
+		else{
+			Literal literal = (Literal) value;
+			sb.append('"');
+			appendEscaped(sb, literal.getLabel());
+			sb.append('"');
+			if(literal.getLanguage().isPresent()){
+				sb.append('@');
+				sb.append(literal.getLanguage().get());
+			}
+			else if(!XMLSchema.STRING.equals(literal.getDatatype())){
+				sb.append("^^<");
+				sb.append(literal.getDatatype().stringValue());
+				sb.append('>');
+			}
+		}
+	}
+	
+	private static void appendEscaped(StringBuilder sb, String label){
+		for(int i = 0; i < label.length(); i++){
+			char c = label.charAt(i);
+			switch (c) {
+			case '\\': sb.append("\\\\"); break;
+			case '"': sb.append("\\\""); break;
+			case '\n': sb.append("\\n"); break;
+			case '\r': sb.append("\\r"); break;
+			case '\t': sb.append("\\t"); break;
+			default: sb.append(c);
+			}
+		}
+	}
+	
+	private static String getConstantName(Value value){
+		String suffix = value instanceof IRI ? "_uri" : value instanceof BNode ? "_bnode" : "_lit";
+		return "_const_" + Integer.toHexString(value.hashCode()) + suffix;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if(this == obj){
+			return true;
+		}
+		if(!(obj instanceof QueryTerm)){
+			return false;
+		}
+		QueryTerm other = (QueryTerm) obj;
+		return value == null ? other.value == null && name.equals(other.name) : value.equals(other.value);
+	}
+	
+	@Override
+	public int hashCode() {
+		return value == null ? name.hashCode() : value.hashCode();
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		appendTo(sb);
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rdf4j.query.algebra.Count;
+import org.eclipse.rdf4j.query.algebra.Group;
+import org.eclipse.rdf4j.query.algebra.GroupElem;
+import org.eclipse.rdf4j.query.algebra.Projection;
+import org.eclipse.rdf4j.query.algebra.ProjectionElem;
+import org.eclipse.rdf4j.query.algebra.ProjectionElemList;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
+
+/**
+ * A SELECT query projecting either a list of variables or the distinct count of a single variable.
+ *
+ */
+public class SelectQuery extends AbstractQueryModel {
+	
+	private final List<String> variables;
+	private String countVariable;
+	private String countAlias;
+	
+	public SelectQuery(GroupPattern where, String... variables){
+		super(where);
+		this.variables = new ArrayList<String>(Arrays.asList(variables));
+	}
+	
+	/**
+	 * Create a query selecting the number of distinct values of the given variable.
+	 * @param where
+	 * @param countVariable
+	 * @param countAlias - the name of the binding holding the result
+	 * @return
+	 */
+	public static SelectQuery countDistinct(GroupPattern where, String countVariable, String countAlias){
+		SelectQuery query = new SelectQuery(where);
+		query.countVariable = countVariable;
+		query.countAlias = countAlias;
+		return query;
+	}
+	
+	public List<String> getVariables() {
+		return Collections.unmodifiableList(variables);
+	}
+	
+	public boolean isCount(){
+		return countVariable != null;
+	}
+	
+	@Override
+	protected void appendTo(StringBuilder sb) {
+		sb.append("SELECT ");
+		if(isCount()){
+			sb.append("(COUNT (DISTINCT ?");
+			sb.append(countVariable);
+			sb.append(") as ?");
+			sb.append(countAlias);
+			sb.append(") ");
+		}
+		else{
+			for(String variable : variables){
+				sb.append('?');
+				sb.append(variable);
+				sb.append(' ');
+			}
+		}
+		sb.append("WHERE { ");
+		where.appendContentTo(sb);
+		sb.append("}");
+		appendSolutionModifiers(sb);
+	}
+	
+	@Override
+	public ParsedTupleQuery toParsedQuery() {
+		TupleExpr expr = where.toTupleExpr();
+		ProjectionElemList projection = new ProjectionElemList();
+		if(isCount()){
+			Group group = new Group(expr);
+			group.addGroupElement(new GroupElem(countAlias, new Count(new Var(countVariable), true)));
+			expr = group;
+			projection.addElement(new ProjectionElem(countAlias));
+		}
+		else{
+			for(String variable : variables){
+				projection.addElement(new ProjectionElem(variable));
+			}
+		}
+		return new ParsedTupleQuery(applySolutionModifiers(new Projection(expr, projection)));
+	}
+
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rdf4j.query.parser.ParsedUpdate;
+
+/**
+ * A SPARQL update request consisting of one or more operations, which are executed in order.
+ *
+ */
+public class SparqlUpdate {
+	
+	private final List<UpdateOperation> operations = new ArrayList<UpdateOperation>();
+	
+	public SparqlUpdate(UpdateOperation... operations){
+		for(UpdateOperation operation : operations){
+			add(operation);
+		}
+	}
+	
+	public SparqlUpdate add(UpdateOperation operation){
+		operations.add(operation);
+		return this;
+	}
+	
+	public boolean isEmpty(){
+		return operations.isEmpty();
+	}
+	
+	public List<UpdateOperation> getOperations() {
+		return Collections.unmodifiableList(operations);
+	}
+	
+	/**
+	 * Create the algebra of the update request.
+	 * @return
+	 */
+	public ParsedUpdate toParsedUpdate(){
+		ParsedUpdate parsedUpdate = new ParsedUpdate();
+		for(UpdateOperation operation : operations){
+			parsedUpdate.addUpdateExpr(operation.toUpdateExpr());
+		}
+		return parsedUpdate;
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for(UpdateOperation operation : operations){
+			if(sb.length() > 0){
+				sb.append(" ;\n");
+			}
+			operation.appendTo(sb);
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+
+/**
+ * A single triple pattern. Also used for the templates of CONSTRUCT queries and updates.
+ *
+ */
+public class TriplePattern implements GraphPattern {
+	
+	private final QueryTerm subject;
+	private final QueryTerm predicate;
+	private final QueryTerm object;
+	
+	public TriplePattern(QueryTerm subject, QueryTerm predicate, QueryTerm object){
+		this.subject = subject;
+		this.predicate = predicate;
+		this.object = object;
+	}
+	
+	public TriplePattern(QueryTerm subject, IRI predicate, QueryTerm object){
+		this(subject, QueryTerm.value(predicate), object);
+	}
+	
+	public TriplePattern(QueryTerm subject, IRI predicate, Value object){
+		this(subject, QueryTerm.value(predicate), QueryTerm.value(object));
+	}
+	
+	public QueryTerm getSubject() {
+		return subject;
+	}
+	
+	public QueryTerm getPredicate() {
+		return predicate;
+	}
+	
+	public QueryTerm getObject() {
+		return object;
+	}
+	
+	@Override
+	public void appendTo(StringBuilder sb) {
+		appendTo(sb, false);
+	}
+	
+	/**
+	 * Append the SPARQL text of the pattern.
+	 * @param sb
+	 * @param abbreviateType - render rdf:type as 'a'
+	 */
+	public void appendTo(StringBuilder sb, boolean abbreviateType){
+		subject.appendTo(sb);
+		sb.append(' ');
+		if(abbreviateType && RDF.TYPE.equals(predicate.getValue())){
+			sb.append('a');
+		}
+		else{
+			predicate.appendTo(sb);
+		}
+		sb.append(' ');
+		object.appendTo(sb);
+		sb.append(" . ");
+	}
+	
+	@Override
+	public TupleExpr toTupleExpr() {
+		return new StatementPattern(subject.toVar(), predicate.toVar(), object.toVar());
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		appendTo(sb);
+		return sb.toString();
+	}
+
+}
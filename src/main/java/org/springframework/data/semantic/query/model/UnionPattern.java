@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.Union;
+
+/**
+ * A UNION of two or more alternatives.
+ *
+ */
+public class UnionPattern implements GraphPattern {
+	
+	private final List<GraphPattern> patterns = new ArrayList<GraphPattern>();
+	
+	public UnionPattern(GraphPattern first, GraphPattern second){
+		add(first);
+		add(second);
+	}
+	
+	public UnionPattern add(GraphPattern pattern){
+		patterns.add(pattern);
+		return this;
+	}
+	
+	public List<GraphPattern> getPatterns() {
+		return Collections.unmodifiableList(patterns);
+	}
+	
+	@Override
+	public void appendTo(StringBuilder sb) {
+		boolean first = true;
+		for(GraphPattern pattern : patterns){
+			if(!first){
+				sb.append("UNION ");
+			}
+			first = false;
+			if(pattern instanceof GroupPattern){
+				pattern.appendTo(sb);
+			}
+			else{
+				new GroupPattern(pattern).appendTo(sb);
+			}
+		}
+	}
+	
+	@Override
+	public TupleExpr toTupleExpr() {
+		TupleExpr result = null;
+		for(GraphPattern pattern : patterns){
+			TupleExpr expr = pattern.toTupleExpr();
+			result = result != null ? new Union(result, expr) : expr;
+		}
+		return result;
+	}
+
+}
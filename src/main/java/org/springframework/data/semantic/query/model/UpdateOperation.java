@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import org.eclipse.rdf4j.query.algebra.UpdateExpr;
+
+/**
+ * A single operation of a {@link SparqlUpdate}.
+ *
+ */
+public interface UpdateOperation {
+	
+	/**
+	 * Append the SPARQL text of the operation.
+	 * @param sb
+	 */
+	void appendTo(StringBuilder sb);
+	
+	/**
+	 * Create the algebra expression of the operation.
+	 * @return
+	 */
+	UpdateExpr toUpdateExpr();
+
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.algebra.BindingSetAssignment;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.impl.MapBindingSet;
+
+/**
+ * An inline VALUES block binding a single variable to a list of values.
+ *
+ */
+public class ValuesPattern implements GraphPattern {
+	
+	private final String name;
+	private final List<Value> values;
+	
+	public ValuesPattern(String name, Collection<? extends Value> values){
+		this.name = name;
+		this.values = new ArrayList<Value>(values);
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public List<Value> getValues() {
+		return Collections.unmodifiableList(values);
+	}
+	
+	@Override
+	public void appendTo(StringBuilder sb) {
+		sb.append("VALUES ?");
+		sb.append(name);
+		sb.append(" { ");
+		for(Value value : values){
+			QueryTerm.appendValue(sb, value);
+			sb.append(' ');
+		}
+		sb.append("} ");
+	}
+	
+	@Override
+	public TupleExpr toTupleExpr() {
+		List<BindingSet> bindingSets = new ArrayList<BindingSet>(values.size());
+		for(Value value : values){
+			MapBindingSet bindingSet = new MapBindingSet(1);
+			bindingSet.addBinding(name, value);
+			bindingSets.add(bindingSet);
+		}
+		BindingSetAssignment assignment = new BindingSetAssignment();
+		assignment.setBindingNames(Collections.singleton(name));
+		assignment.setBindingSets(bindingSets);
+		return assignment;
+	}
+
+}
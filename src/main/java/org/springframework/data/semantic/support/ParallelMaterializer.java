@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.mapping.model.MappingException;
+
+/**
+ * Converts the statements of many entities into entities, or many entities into statements, splitting the work 
+ * across an {@link Executor} once the number of sources reaches a threshold. Results are returned in the order of 
+ * their sources; the calling thread converts one of the chunks itself.
+ *
+ */
+public class ParallelMaterializer {
+	
+	/**
+	 * Chunks per worker, so that uneven molecules still balance across workers.
+	 */
+	private static final int CHUNKS_PER_WORKER = 4;
+	
+	private final int threshold;
+	
+	private final Executor executor;
+	
+	private final int parallelism;
+	
+	/**
+	 * 
+	 * @param threshold - the minimal number of sources to convert in parallel; a non-positive threshold disables parallel conversion
+	 * @param executor - the executor for the conversion tasks; the common fork-join pool if null
+	 */
+	public ParallelMaterializer(int threshold, Executor executor){
+		this.threshold = threshold;
+		this.executor = executor != null ? executor : ForkJoinPool.commonPool();
+		this.parallelism = getParallelism(this.executor);
+	}
+	
+	/**
+	 * The number of threads converting a result: the workers of the executor and the calling thread.
+	 */
+	private static int getParallelism(Executor executor){
+		if(executor instanceof ForkJoinPool){
+			return ((ForkJoinPool) executor).getParallelism() + 1;
+		}
+		if(executor instanceof ThreadPoolExecutor){
+			return Math.min(((ThreadPoolExecutor) executor).getMaximumPoolSize(), 256) + 1;
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+	
+	/**
+	 * 
+	 * @param sources
+	 * @return true if the given sources are converted in parallel
+	 */
+	public boolean isParallel(Collection<?> sources){
+		return threshold > 0 && sources.size() >= threshold && parallelism > 1;
+	}
+	
+	/**
+	 * Convert all sources, in parallel if their number reaches the threshold.
+	 * @param sources
+	 * @param converter - must be safe for concurrent use
+	 * @return the converted values in source order
+	 */
+	public <S, T> List<T> materialize(Collection<S> sources, final Converter<S, T> converter){
+		if(!isParallel(sources)){
+			List<T> results = new ArrayList<T>(sources.size());
+			for(S source : sources){
+				results.add(converter.convert(source));
+			}
+			return results;
+		}
+		final List<S> input = sources instanceof RandomAccess ? (List<S>) sources : new ArrayList<S>(sources);
+		final Object[] results = new Object[input.size()];
+		int chunkSize = Math.max(1, (input.size() + parallelism * CHUNKS_PER_WORKER - 1) / (parallelism * CHUNKS_PER_WORKER));
+		List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>();
+		for(int start = chunkSize; start < input.size(); start += chunkSize){
+			FutureTask<Void> task = new FutureTask<Void>(new ChunkConversion<S, T>(input, results, start, Math.min(start + chunkSize, input.size()), converter), null);
+			tasks.add(task);
+			executor.execute(task);
+		}
+		new ChunkConversion<S, T>(input, results, 0, Math.min(chunkSize, input.size()), converter).run();
+		for(FutureTask<Void> task : tasks){
+			try {
+				task.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new MappingException("Interrupted while converting entities.", e);
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if(cause instanceof RuntimeException){
+					throw (RuntimeException) cause;
+				}
+				if(cause instanceof Error){
+					throw (Error) cause;
+				}
+				throw new MappingException(cause.getMessage(), cause);
+			}
+		}
+		@SuppressWarnings("unchecked")
+		List<T> converted = new ArrayList<T>((List<T>) Arrays.asList(results));
+		return converted;
+	}
+	
+	private static class ChunkConversion<S, T> implements Runnable {
+		
+		private final List<S> input;
+		private final Object[] results;
+		private final int start;
+		private final int end;
+		private final Converter<S, T> converter;
+		
+		ChunkConversion(List<S> input, Object[] results, int start, int end, Converter<S, T> converter){
+			this.input = input;
+			this.results = results;
+			this.start = start;
+			this.end = end;
+			this.converter = converter;
+		}
+
+		@Override
+		public void run() {
+			for(int i = start; i < end; i++){
+				results[i] = converter.convert(input.get(i));
+			}
+		}
+	}
+
+}
@@ -17,13 +17,21 @@ package org.springframework.data.semantic.support;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,30 +40,43 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.semantic.cache.EntityCache;
+import org.springframework.data.semantic.convert.EntityIdentityMap;
 import org.springframework.data.semantic.convert.SemanticEntityConverter;
 import org.springframework.data.semantic.convert.SemanticEntityInstantiator;
 import org.springframework.data.semantic.convert.SemanticEntityPersister;
 import org.springframework.data.semantic.convert.SemanticEntityRemover;
+import org.springframework.data.semantic.core.BulkCreateListener;
+import org.springframework.data.semantic.core.BulkCreateReport;
 import org.springframework.data.semantic.core.RDFState;
 import org.springframework.data.semantic.core.SemanticDatabase;
 import org.springframework.data.semantic.core.SemanticOperationsCRUD;
+import org.springframework.data.semantic.core.SemanticSession;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
 import org.springframework.data.semantic.support.cache.EhCacheEntityCache;
 import org.springframework.data.semantic.support.cache.EmptyEntityCache;
+import org.springframework.data.semantic.support.convert.EntitySnapshots;
 import org.springframework.data.semantic.support.convert.EntityToQueryConverter;
 import org.springframework.data.semantic.support.convert.EntityToStatementsConverter;
+import org.springframework.data.semantic.support.convert.LazyAssociationLoader;
 import org.springframework.data.semantic.support.convert.SemanticEntityConverterImpl;
 import org.springframework.data.semantic.support.convert.SemanticEntityInstantiatorImpl;
 import org.springframework.data.semantic.support.convert.SemanticEntityPersisterImpl;
 import org.springframework.data.semantic.support.convert.SemanticEntityRemoverImpl;
+import org.springframework.data.semantic.support.convert.SemanticProjectionFactory;
 import org.springframework.data.semantic.support.convert.SemanticSourceStateTransmitter;
 import org.springframework.data.semantic.support.convert.access.DelegatingFieldAccessorFactory;
 import org.springframework.data.semantic.support.convert.access.listener.DelegatingFieldAccessListenerFactory;
 import org.springframework.data.semantic.support.convert.state.SemanticEntityStateFactory;
 import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import net.sf.ehcache.CacheManager;
 
@@ -82,9 +103,20 @@ public class SemanticTemplateCRUD implements SemanticOperationsCRUD, Initializin
 	private SemanticEntityConverter entityConverter;
 	private EntityToQueryConverter entityToQueryConverter;
 	private EntityToStatementsConverter entityToStatementsConverter;
+	private SemanticProjectionFactory projectionFactory;
 	
 	private EntityCache entityCache;
 	
+	private boolean lazyAssociations = false;
+	
+	private boolean dirtyTracking = false;
+	private EntitySnapshots snapshots;
+	
+	private int parallelMaterializationThreshold = 0;
+	private int parallelWriteThreshold = 0;
+	private Executor materializationExecutor;
+	private ParallelMaterializer materializer = new ParallelMaterializer(0, null);
+	
 	private final boolean explicitSupertypes;
 	private volatile boolean isInitialized = false;
 	private final Object initLockObject = new Object();
@@ -97,6 +129,67 @@ public class SemanticTemplateCRUD implements SemanticOperationsCRUD, Initializin
 		this.explicitSupertypes = explicitSupertypes;
 	}
 	
+	/**
+	 * Enable lazy-loading proxies for associations which are not fetched with their owner. The proxies are loaded on first access, 
+	 * together with the other pending proxies of the same type from the same load operation.
+	 * @param lazyAssociations - false (default) leaves such associations with only their ids set
+	 */
+	public void setLazyAssociations(boolean lazyAssociations) {
+		this.lazyAssociations = lazyAssociations;
+		isInitialized = false;
+	}
+	
+	/**
+	 * Enable snapshot-based dirty tracking. The statements of every loaded, created or saved entity are kept 
+	 * and saving the same instance again diffs against them instead of reading the entity from the store. 
+	 * Instances without a snapshot, e.g. detached copies, are still diffed against the store.
+	 * @param dirtyTracking - false (default) reads the stored state of the entity on every save
+	 */
+	public void setDirtyTracking(boolean dirtyTracking) {
+		this.dirtyTracking = dirtyTracking;
+		isInitialized = false;
+	}
+	
+	/**
+	 * Enable the conversion of large results into entities on multiple threads.
+	 * @param parallelMaterializationThreshold - the minimal number of entities in a result to convert in parallel; 0 (default) disables parallel conversion
+	 */
+	public void setParallelMaterializationThreshold(int parallelMaterializationThreshold) {
+		this.parallelMaterializationThreshold = parallelMaterializationThreshold;
+		this.materializer = new ParallelMaterializer(parallelMaterializationThreshold, materializationExecutor);
+	}
+	
+	/**
+	 * Enable the conversion of the entities of bulk writes into statements on multiple threads. Applies to save(Iterable), 
+	 * create(Iterable) and session flushes; the converted statements are merged before the write.
+	 * @param parallelWriteThreshold - the minimal number of entities in a write to convert in parallel; 0 (default) disables parallel conversion
+	 */
+	public void setParallelWriteThreshold(int parallelWriteThreshold) {
+		this.parallelWriteThreshold = parallelWriteThreshold;
+		updateStatementGenerator();
+	}
+	
+	/**
+	 * Set the executor used for parallel conversion of results into entities and of written entities into statements. 
+	 * Defaults to the common fork-join pool.
+	 * @param materializationExecutor
+	 */
+	public void setMaterializationExecutor(Executor materializationExecutor) {
+		this.materializationExecutor = materializationExecutor;
+		this.materializer = new ParallelMaterializer(parallelMaterializationThreshold, materializationExecutor);
+		updateStatementGenerator();
+	}
+	
+	/**
+	 * Pass the parallel write settings to the entity converter, if it is already built, so that changing them 
+	 * does not re-initialize the template.
+	 */
+	private void updateStatementGenerator(){
+		if(this.entityConverter instanceof SemanticEntityConverterImpl){
+			((SemanticEntityConverterImpl) this.entityConverter).setStatementGenerator(new ParallelMaterializer(this.parallelWriteThreshold, this.materializationExecutor));
+		}
+	}
+	
 	public void changeDatabase(SemanticDatabase semanticDB){
 		this.semanticDB = semanticDB;
 		isInitialized = false;
@@ -125,9 +218,16 @@ public class SemanticTemplateCRUD implements SemanticOperationsCRUD, Initializin
 				this.delegatingFieldAccessListenerFactory = new DelegatingFieldAccessListenerFactory(this.statementsCollector, this);
 				this.sesFactory = new SemanticEntityStateFactory(this.mappingContext, this.delegatingFieldAxsorFactory, this.delegatingFieldAccessListenerFactory, this.semanticDB, this.conversionService);
 				this.sourceStateTransmitter = new SemanticSourceStateTransmitter(this.sesFactory);
-				this.entityConverter = new SemanticEntityConverterImpl(this.mappingContext, this.conversionService, this.entityInstantiator, this.sourceStateTransmitter, this.entityToStatementsConverter, this.semanticDB);
+				SemanticEntityConverterImpl entityConverter = new SemanticEntityConverterImpl(this.mappingContext, this.conversionService, this.entityInstantiator, this.sourceStateTransmitter, this.entityToStatementsConverter, this.semanticDB);
+				entityConverter.setStatementGenerator(new ParallelMaterializer(this.parallelWriteThreshold, this.materializationExecutor));
+				if(this.lazyAssociations){
+					entityConverter.setLazyAssociationLoader(new LazyAssociationLoader(this));
+				}
+				this.entityConverter = entityConverter;
 				this.entityPersister = new SemanticEntityPersisterImpl(this.entityConverter);
 				this.entityRemover = new SemanticEntityRemoverImpl(this.semanticDB, this.entityToStatementsConverter, this.mappingContext);
+				this.projectionFactory = new SemanticProjectionFactory(this.conversionService);
+				this.snapshots = this.dirtyTracking ? new EntitySnapshots(this.entityToStatementsConverter) : null;
 				if(this.entityCache != null){
 					this.entityCache.clearAll();
 					if(applicationContext.getBeanNamesForType(CacheManager.class).length != 0){
@@ -169,15 +269,80 @@ public class SemanticTemplateCRUD implements SemanticOperationsCRUD, Initializin
 		lazyInit();
 		Map<T, RDFState> entityToExistingState = new HashMap<T, RDFState>();
 		for(T entity : entities){
-			entityToExistingState.put(entity, new RDFState());
+			entityToExistingState.put(LazyAssociationLoader.getTarget(entity), new RDFState());
+		}
+		Iterable<T> created = this.entityPersister.persistEntities(entityToExistingState);
+		takeSnapshots(created);
+		return created;
+	}
+
+	@Override
+	public <T> BulkCreateReport createInChunks(Iterable<T> entities, int maxChunkEntities, int maxChunkStatements, BulkCreateListener listener) {
+		if(maxChunkEntities <= 0){
+			throw new IllegalArgumentException("The maximal number of entities in a chunk must be positive.");
+		}
+		lazyInit();
+		BulkCreateReport report = new BulkCreateReport();
+		int chunk = 0;
+		RDFState chunkState = new RDFState();
+		List<IRI> chunkIds = new ArrayList<IRI>(Math.min(maxChunkEntities, 1024));
+		List<Object> chunkEntities = new ArrayList<Object>(Math.min(maxChunkEntities, 1024));
+		for(T entity : entities){
+			entity = LazyAssociationLoader.getTarget(entity);
+			IRI resourceId = null;
+			RDFState entityState;
+			try{
+				resourceId = this.mappingContext.getPersistentEntity(entity.getClass()).getResourceId(entity);
+				entityState = this.entityConverter.getChanges(entity, new RDFState());
+			} catch (RuntimeException e){
+				logger.error("Failed to convert entity "+resourceId+" of chunk "+chunk+".", e);
+				report.addFailedEntity(chunk, resourceId, e);
+				if(listener != null){
+					listener.entityFailed(chunk, resourceId, e);
+				}
+				continue;
+			}
+			chunkState.merge(entityState);
+			chunkIds.add(resourceId);
+			chunkEntities.add(entity);
+			if(chunkIds.size() >= maxChunkEntities || (maxChunkStatements > 0 && chunkState.getCurrentStatements().size() >= maxChunkStatements)){
+				commitChunk(chunk++, chunkState, chunkIds, chunkEntities, report, listener);
+				chunkState = new RDFState();
+				chunkIds = new ArrayList<IRI>(Math.min(maxChunkEntities, 1024));
+				chunkEntities = new ArrayList<Object>(Math.min(maxChunkEntities, 1024));
+			}
+		}
+		if(!chunkIds.isEmpty()){
+			commitChunk(chunk, chunkState, chunkIds, chunkEntities, report, listener);
+		}
+		return report;
+	}
+	
+	private void commitChunk(int chunk, RDFState chunkState, List<IRI> chunkIds, List<Object> chunkEntities, BulkCreateReport report, BulkCreateListener listener){
+		int statements = chunkState.getCurrentStatements().size();
+		try{
+			this.semanticDB.addStatements(chunkState.getCurrentStatements());
+		} catch (RuntimeException e){
+			logger.error("Failed to commit chunk "+chunk+" of "+chunkIds.size()+" entities.", e);
+			report.addFailedChunk(chunk, chunkIds, e);
+			if(listener != null){
+				listener.chunkFailed(chunk, chunkIds, e);
+			}
+			return;
+		}
+		this.entityConverter.updateVersions(chunkEntities, chunkState);
+		report.addCommittedChunk(chunkIds.size(), statements);
+		if(listener != null){
+			listener.chunkCommitted(chunk, chunkIds.size(), statements);
 		}
-		return this.entityPersister.persistEntities(entityToExistingState);
 	}
 
 	@Override
 	public <T> T create(T entity) {
 		lazyInit();
+		entity = LazyAssociationLoader.getTarget(entity);
 		entity = this.entityPersister.persistEntity(entity, new RDFState());
+		takeSnapshot(entity);
 		entityCache.put(entity);
 		return entity;
 	}
@@ -186,11 +351,19 @@ public class SemanticTemplateCRUD implements SemanticOperationsCRUD, Initializin
 	@Override
 	public <T> T save(T entity) {
 		lazyInit();
+		entity = LazyAssociationLoader.getTarget(entity);
 		@SuppressWarnings("unchecked")
 		SemanticPersistentEntity<T> persistentEntity = (SemanticPersistentEntity<T>) this.mappingContext.getPersistentEntity(entity.getClass());
-		IRI id = persistentEntity.getResourceId(entity);
-		Model dbState = this.statementsCollector.getStatementsForResourceOriginalPredicates(id, entity.getClass(), MappingPolicyImpl.DEFAULT_POLICY);
-		entity = this.entityPersister.persistEntity(entity, new RDFState(dbState));
+		if(persistentEntity.isUpsert()){
+			return upsert(entity);
+		}
+		RDFState storedState = getSnapshotState(entity);
+		if(storedState == null){
+			IRI id = persistentEntity.getResourceId(entity);
+			storedState = new RDFState(this.statementsCollector.getStatementsForResourceOriginalPredicates(id, entity.getClass(), MappingPolicyImpl.DEFAULT_POLICY));
+		}
+		entity = this.entityPersister.persistEntity(entity, storedState);
+		takeSnapshot(entity);
 		entityCache.put(entity);
 		return entity;
 	}
@@ -198,26 +371,94 @@ public class SemanticTemplateCRUD implements SemanticOperationsCRUD, Initializin
 	@Override
 	public <T> Iterable<T> save(Iterable<T> entities) {
 		lazyInit();
+		List<T> updates = new ArrayList<T>();
+		List<T> upserts = new ArrayList<T>();
+		for(T entity : entities){
+			entity = LazyAssociationLoader.getTarget(entity);
+			if(this.mappingContext.getPersistentEntity(entity.getClass()).isUpsert()){
+				upserts.add(entity);
+			}
+			else{
+				updates.add(entity);
+			}
+		}
+		if(upserts.isEmpty()){
+			Iterable<T> saved = this.entityPersister.persistEntities(getStoredStates(updates));
+			takeSnapshots(saved);
+			return saved;
+		}
+		List<T> saved = new ArrayList<T>(upserts.size() + updates.size());
+		if(!updates.isEmpty()){
+			for(T entity : this.entityPersister.persistEntities(getStoredStates(updates))){
+				saved.add(entity);
+			}
+		}
+		for(T entity : upsert(upserts)){
+			saved.add(entity);
+		}
+		takeSnapshots(saved);
+		return saved;
+	}
+	
+	@Override
+	public <T> T upsert(T entity) {
+		lazyInit();
+		entity = LazyAssociationLoader.getTarget(entity);
+		this.entityPersister.upsertEntities(Collections.singletonList(entity));
+		takeSnapshot(entity);
+		entityCache.put(entity);
+		return entity;
+	}
+	
+	@Override
+	public <T> Iterable<T> upsert(Iterable<T> entities) {
+		lazyInit();
+		List<T> targets = new ArrayList<T>();
+		for(T entity : entities){
+			targets.add(LazyAssociationLoader.getTarget(entity));
+		}
+		Iterable<T> upserted = this.entityPersister.upsertEntities(targets);
+		takeSnapshots(upserted);
+		return upserted;
+	}
+	
+	/**
+	 * Get the stored state of each of the given entities from its snapshot or, for entities without a snapshot, 
+	 * from the store with one batched read per entity type.
+	 * @param entities
+	 * @return
+	 */
+	private <T> Map<T, RDFState> getStoredStates(Iterable<T> entities){
 		Map<T, RDFState> entityToExistingState = new HashMap<T, RDFState>();
+		Map<Class<?>, Map<IRI, T>> entitiesByType = new LinkedHashMap<Class<?>, Map<IRI, T>>();
 		for(T entity : entities){
-			@SuppressWarnings("unchecked")
-			SemanticPersistentEntity<T> persistentEntity = (SemanticPersistentEntity<T>) this.mappingContext.getPersistentEntity(entity.getClass());
-			IRI id = persistentEntity.getResourceId(entity);
-			Model dbState = this.statementsCollector.getStatementsForResourceOriginalPredicates(id, entity.getClass(), MappingPolicyImpl.DEFAULT_POLICY);
-			entityToExistingState.put(entity, new RDFState(dbState));
+			entity = LazyAssociationLoader.getTarget(entity);
+			RDFState snapshotState = getSnapshotState(entity);
+			if(snapshotState != null){
+				entityToExistingState.put(entity, snapshotState);
+				continue;
+			}
+			Map<IRI, T> idToEntity = entitiesByType.get(entity.getClass());
+			if(idToEntity == null){
+				idToEntity = new LinkedHashMap<IRI, T>();
+				entitiesByType.put(entity.getClass(), idToEntity);
+			}
+			idToEntity.put(this.mappingContext.getPersistentEntity(entity.getClass()).getResourceId(entity), entity);
 		}
-		return this.entityPersister.persistEntities(entityToExistingState);
+		for(Map.Entry<Class<?>, Map<IRI, T>> typeToEntities : entitiesByType.entrySet()){
+			Map<IRI, Model> dbStates = this.statementsCollector.getStatementsForResourcesOriginalPredicates(typeToEntities.getValue().keySet(), typeToEntities.getKey(), MappingPolicyImpl.DEFAULT_POLICY);
+			for(Map.Entry<IRI, T> idToEntity : typeToEntities.getValue().entrySet()){
+				entityToExistingState.put(idToEntity.getValue(), new RDFState(dbStates.get(idToEntity.getKey())));
+			}
+		}
+		return entityToExistingState;
 	}
 	
 	@Override
 	public <T> List<T> findAll(Class<? extends T> clazz) {
 		lazyInit();
 		Collection<Model> statementsPerEntity = this.statementsCollector.getStatementsForResources(clazz);
-		List<T> results = new LinkedList<T>();
-		for(Model statements : statementsPerEntity){
-			results.add(createEntity(statements, clazz));
-		}
-		return results;
+		return createEntities(statementsPerEntity, clazz);
 	}
 
 	@Override
@@ -226,7 +467,8 @@ public class SemanticTemplateCRUD implements SemanticOperationsCRUD, Initializin
 		T entity = entityCache.get(resourceId, clazz);
 		if(entity == null){
 			try{
-				entity = createEntity(this.statementsCollector.getStatementsForResource(resourceId, clazz, MappingPolicyImpl.ALL_POLICY), clazz);
+				entity = createEntity(this.statementsCollector.getStatementsForResource(resourceId, clazz, MappingPolicyImpl.ALL_POLICY), clazz, new EntityIdentityMap());
+				takeSnapshot(entity);
 				entityCache.put(entity);
 			} catch (DataAccessException e){
 				logger.error(e.getMessage(), e);
@@ -235,11 +477,107 @@ public class SemanticTemplateCRUD implements SemanticOperationsCRUD, Initializin
 		return entity;
 	}
 
+	@Override
+	public <T> List<T> find(Collection<IRI> resourceIds, Class<? extends T> clazz) {
+		lazyInit();
+		Map<IRI, T> entities = new HashMap<IRI, T>();
+		List<IRI> missing = new ArrayList<IRI>();
+		for(IRI resourceId : resourceIds){
+			if(!entities.containsKey(resourceId)){
+				T entity = entityCache.get(resourceId, clazz);
+				entities.put(resourceId, entity);
+				if(entity == null){
+					missing.add(resourceId);
+				}
+			}
+		}
+		if(!missing.isEmpty()){
+			try{
+				SemanticPersistentEntity<?> persistentEntity = this.mappingContext.getPersistentEntity(clazz);
+				Collection<Model> statementsPerEntity = this.statementsCollector.getStatementsForResources(missing, clazz, MappingPolicyImpl.ALL_POLICY);
+				for(T entity : this.<T>createEntities(statementsPerEntity, clazz)){
+					IRI resourceId = persistentEntity.getResourceId(entity);
+					if(entities.containsKey(resourceId) && entities.get(resourceId) == null){
+						entities.put(resourceId, entity);
+						entityCache.put(entity);
+					}
+				}
+			} catch (DataAccessException e){
+				logger.error(e.getMessage(), e);
+			}
+		}
+		List<T> result = new ArrayList<T>(entities.size());
+		for(IRI resourceId : resourceIds){
+			T entity = entities.get(resourceId);
+			if(entity != null){
+				result.add(entity);
+			}
+		}
+		return result;
+	}
 	
 	public <T> T createEntity(Model statements, Class<T> clazz) {
 		lazyInit();
-		return entityPersister.createEntityFromState(new RDFState(statements), clazz);
+		T entity = entityPersister.createEntityFromState(new RDFState(statements), clazz);
+		takeSnapshot(entity);
+		return entity;
     }
+	
+	private <T> T createEntity(Model statements, Class<T> clazz, EntityIdentityMap identityMap) {
+		return entityPersister.createEntityFromState(new RDFState(statements), clazz, identityMap);
+	}
+	
+	/**
+	 * Materializes the entities of a single load operation, sharing one identity map between them. 
+	 * The entities of all molecules are registered as roots first, so that each is populated from its own molecule.
+	 * @param statementsPerEntity
+	 * @param clazz
+	 * @return
+	 */
+	<T> List<T> createEntities(Collection<Model> statementsPerEntity, final Class<? extends T> clazz){
+		final EntityIdentityMap identityMap = new EntityIdentityMap();
+		SemanticPersistentEntity<?> persistentEntity = this.mappingContext.getPersistentEntity(clazz);
+		for(Model statements : statementsPerEntity){
+			Iterator<Resource> subjects = statements.filter(null, RDF.TYPE, persistentEntity.getRDFType()).subjects().iterator();
+			if(subjects.hasNext()){
+				Resource subject = subjects.next();
+				if(subject instanceof IRI){
+					identityMap.addRoot(persistentEntity, (IRI) subject);
+				}
+			}
+		}
+		List<T> entities = materializer.materialize(statementsPerEntity, new Converter<Model, T>() {
+			@Override
+			public T convert(Model statements) {
+				return createEntity(statements, clazz, identityMap);
+			}
+		});
+		takeSnapshots(entities);
+		return entities;
+	}
+	
+	/**
+	 * Get the state of the entity as of its snapshot, if dirty tracking is enabled.
+	 * @param entity
+	 * @return the state or null if the entity has to be diffed against the store
+	 */
+	private RDFState getSnapshotState(Object entity){
+		return snapshots != null ? snapshots.getState(entity) : null;
+	}
+	
+	private void takeSnapshot(Object entity){
+		if(snapshots != null && entity != null){
+			snapshots.take(this.mappingContext.getPersistentEntity(entity.getClass()), entity);
+		}
+	}
+	
+	private void takeSnapshots(Iterable<?> entities){
+		if(snapshots != null){
+			for(Object entity : entities){
+				takeSnapshot(entity);
+			}
+		}
+	}
 
 	@Override
 	public <T> long count(Class<T> clazz) {
@@ -270,19 +608,89 @@ public class SemanticTemplateCRUD implements SemanticOperationsCRUD, Initializin
 	@Override
 	public <T> void delete(IRI resourceId, Class<? extends T> clazz) {
 		lazyInit();
-		T entity = this.find(resourceId, clazz);
-		this.delete(entity);
-		
+		@SuppressWarnings("unchecked")
+		SemanticPersistentEntity<T> persistentEntity = (SemanticPersistentEntity<T>) this.mappingContext.getPersistentEntity(clazz);
+		if(snapshots != null){
+			// instances loaded before the delete must be written in full when saved again
+			snapshots.remove(persistentEntity, resourceId);
+		}
+		if(hasCascadeDelete(persistentEntity)){
+			// the dependents to delete are only known from the loaded entity
+			T entity = this.find(resourceId, clazz);
+			if(entity != null){
+				this.delete(entity);
+			}
+			return;
+		}
+		entityCache.remove(resourceId, clazz);
+		this.entityRemover.delete(persistentEntity, resourceId);
+	}
+	
+	private boolean hasCascadeDelete(SemanticPersistentEntity<?> persistentEntity){
+		final boolean[] cascadeDelete = new boolean[1];
+		persistentEntity.doWithAssociations(new AssociationHandler<SemanticPersistentProperty>() {
+			@Override
+			public void doWithAssociation(Association<SemanticPersistentProperty> association) {
+				cascadeDelete[0] |= association.getInverse().getMappingPolicy().shouldCascade(Cascade.DELETE);
+			}
+		});
+		return cascadeDelete[0];
+	}
+	
+	/**
+	 * Evict the entities whose rdf:type statements were deleted from the cache, including the dependents removed by cascade delete.
+	 * @param deleted
+	 */
+	private void evictDeleted(RDFState deleted){
+		Model typeStatements = deleted.getDeleteStatements().filter(null, RDF.TYPE, null);
+		if(typeStatements.isEmpty()){
+			return;
+		}
+		Map<Value, List<Class<?>>> typeToClasses = new HashMap<Value, List<Class<?>>>();
+		for(SemanticPersistentEntity<?> persistentEntity : this.mappingContext.getPersistentEntities()){
+			List<Class<?>> classes = typeToClasses.get(persistentEntity.getRDFType());
+			if(classes == null){
+				classes = new ArrayList<Class<?>>();
+				typeToClasses.put(persistentEntity.getRDFType(), classes);
+			}
+			classes.add(persistentEntity.getType());
+		}
+		for(Statement typeStatement : typeStatements){
+			List<Class<?>> classes = typeToClasses.get(typeStatement.getObject());
+			if(classes != null && typeStatement.getSubject() instanceof IRI){
+				for(Class<?> clazz : classes){
+					entityCache.remove((IRI) typeStatement.getSubject(), clazz);
+				}
+			}
+		}
 	}
 
 	@Override
 	public <T> void delete(T entity) {
 		lazyInit();
+		entity = LazyAssociationLoader.getTarget(entity);
 		@SuppressWarnings("unchecked")
 		SemanticPersistentEntity<T> persistentEntity = (SemanticPersistentEntity<T>) this.mappingContext.getPersistentEntity(entity.getClass());
 		entityCache.remove(entity);
-		this.entityRemover.delete(persistentEntity, entity);
-		
+		if(snapshots != null){
+			snapshots.remove(entity);
+		}
+		evictDeleted(this.entityRemover.delete(persistentEntity, entity));
+	}
+
+	@Override
+	public <T> void delete(Iterable<? extends T> entities) {
+		lazyInit();
+		List<Object> targets = new ArrayList<Object>();
+		for(T entity : entities){
+			Object target = LazyAssociationLoader.getTarget(entity);
+			entityCache.remove(target);
+			if(snapshots != null){
+				snapshots.remove(target);
+			}
+			targets.add(target);
+		}
+		evictDeleted(this.entityRemover.delete(targets));
 	}
 
 	@Override
@@ -291,21 +699,105 @@ public class SemanticTemplateCRUD implements SemanticOperationsCRUD, Initializin
 		@SuppressWarnings("unchecked")
 		SemanticPersistentEntity<T> persistentEntity = (SemanticPersistentEntity<T>) this.mappingContext.getPersistentEntity(clazz);
 		entityCache.clear(clazz);
+		if(snapshots != null){
+			snapshots.clear();
+		}
 		this.entityRemover.deleteAll(persistentEntity);
 	}
 
+	@Override
+	public SemanticSession openSession() {
+		return new SemanticTemplateSession(this);
+	}
+	
+	@Override
+	public SemanticSession getCurrentSession() {
+		if(!TransactionSynchronizationManager.isSynchronizationActive()){
+			throw new IllegalStateException("No transaction synchronization is active; use openSession() and flush the session explicitly.");
+		}
+		SemanticSession session = (SemanticSession) TransactionSynchronizationManager.getResource(this);
+		if(session == null){
+			final SemanticSession transactionSession = openSession();
+			TransactionSynchronizationManager.bindResource(this, transactionSession);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void beforeCommit(boolean readOnly) {
+					if(!readOnly){
+						transactionSession.flush();
+					}
+				}
+				
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(SemanticTemplateCRUD.this);
+					transactionSession.clear();
+				}
+			});
+			session = transactionSession;
+		}
+		return session;
+	}
+	
+	/**
+	 * Write the changes of a session: the statements of all entities are merged and applied as one delete 
+	 * and one insert in a single transaction.
+	 * @param creates - entities to store without checking their existing statements
+	 * @param saves - entities to store, updating their existing statements
+	 * @param deletes - entities to delete
+	 */
+	void flush(List<Object> creates, List<Object> saves, List<Object> deletes) {
+		lazyInit();
+		RDFState deleted = new RDFState();
+		for(Object entity : deletes){
+			deleted.merge(this.entityToStatementsConverter.convertEntityToDeleteStatements(this.mappingContext.getPersistentEntity(entity.getClass()), entity));
+		}
+		RDFState changes = new RDFState();
+		changes.merge(deleted);
+		Map<Object, RDFState> entityToExistingState = getStoredStates(saves);
+		for(Object entity : creates){
+			entityToExistingState.put(entity, new RDFState());
+		}
+		changes.merge(this.entityConverter.getChanges(entityToExistingState));
+		this.semanticDB.applyChanges(changes.getDeleteStatements(), changes.getCurrentStatements(), changes.getExpectedStatements());
+		this.entityConverter.updateVersions(entityToExistingState.keySet(), changes);
+		evictDeleted(deleted);
+		for(Object entity : deletes){
+			entityCache.remove(entity);
+			if(snapshots != null){
+				snapshots.remove(entity);
+			}
+		}
+		for(Object entity : entityToExistingState.keySet()){
+			takeSnapshot(entity);
+			entityCache.put(entity);
+		}
+	}
+	
 	@Override
 	public <T> Collection<T> findByProperty(Class<? extends T> clazz,
 			Map<String, Object> parameterToValue) {
 		lazyInit();
 		Collection<Model> statementsPerEntity = this.statementsCollector.getStatementsForResourcesAndProperties(clazz, parameterToValue, null, null);
-		List<T> results = new LinkedList<T>();
-		for(Model statements : statementsPerEntity){
-			T entity = createEntity(statements, clazz);
-			//TODO set required values
-			results.add(entity);
-		}
-		return results;
+		//TODO set required values
+		return createEntities(statementsPerEntity, clazz);
+	}
+	
+	@Override
+	public <T, P> Collection<P> findByProperty(Class<? extends T> clazz,
+			Map<String, Object> parameterToValue, final Class<P> projectionType) {
+		lazyInit();
+		final SemanticPersistentEntity<?> persistentEntity = this.mappingContext.getPersistentEntity(clazz);
+		Set<String> projectedProperties = this.projectionFactory.getProjectedProperties(projectionType, persistentEntity);
+		Collection<Model> statementsPerEntity = this.statementsCollector.getStatementsForResourcesAndProperties(clazz, parameterToValue, projectedProperties, null, null);
+		List<P> projections = materializer.materialize(statementsPerEntity, new Converter<Model, P>() {
+			@Override
+			public P convert(Model statements) {
+				return projectionFactory.createProjection(projectionType, persistentEntity, statements);
+			}
+		});
+		//molecules without a subject of the entity type have no projection
+		projections.removeAll(Collections.singleton(null));
+		return projections;
 	}
 
 	@Override
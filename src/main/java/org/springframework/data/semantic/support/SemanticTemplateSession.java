@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.springframework.data.semantic.core.SemanticSession;
+import org.springframework.data.semantic.support.convert.LazyAssociationLoader;
+
+/**
+ * A {@link SemanticSession} which collects the pending changes per resource and writes them through 
+ * {@link SemanticTemplateCRUD#flush(List, List, List)}.
+ *
+ */
+public class SemanticTemplateSession implements SemanticSession {
+	
+	private enum Operation { CREATE, SAVE, DELETE }
+	
+	private final SemanticTemplateCRUD operations;
+	
+	private final Map<Key, PendingChange> pendingChanges = new LinkedHashMap<Key, PendingChange>();
+	
+	public SemanticTemplateSession(SemanticTemplateCRUD operations){
+		this.operations = operations;
+	}
+
+	@Override
+	public <T> T create(T entity) {
+		register(Operation.CREATE, entity);
+		return entity;
+	}
+
+	@Override
+	public <T> T save(T entity) {
+		register(Operation.SAVE, entity);
+		return entity;
+	}
+
+	@Override
+	public <T> Iterable<T> save(Iterable<T> entities) {
+		for(T entity : entities){
+			register(Operation.SAVE, entity);
+		}
+		return entities;
+	}
+
+	@Override
+	public <T> void delete(T entity) {
+		register(Operation.DELETE, entity);
+	}
+
+	@Override
+	public void flush() {
+		if(pendingChanges.isEmpty()){
+			return;
+		}
+		List<Object> creates = new ArrayList<Object>();
+		List<Object> saves = new ArrayList<Object>();
+		List<Object> deletes = new ArrayList<Object>();
+		for(PendingChange change : pendingChanges.values()){
+			switch(change.operation){
+			case CREATE: 
+				creates.add(change.entity);
+				break;
+			case SAVE: 
+				saves.add(change.entity);
+				break;
+			default: 
+				deletes.add(change.entity);
+			}
+		}
+		operations.flush(creates, saves, deletes);
+		pendingChanges.clear();
+	}
+
+	@Override
+	public void clear() {
+		pendingChanges.clear();
+	}
+
+	@Override
+	public boolean hasPendingChanges() {
+		return !pendingChanges.isEmpty();
+	}
+	
+	private void register(Operation operation, Object entity){
+		entity = LazyAssociationLoader.getTarget(entity);
+		IRI id = operations.getSemanticMappingContext().getPersistentEntity(entity.getClass()).getResourceId(entity);
+		Key key = new Key(id, entity.getClass());
+		PendingChange previous = pendingChanges.remove(key);
+		if(previous != null && previous.operation == Operation.CREATE && operation == Operation.SAVE){
+			operation = Operation.CREATE;
+		}
+		pendingChanges.put(key, new PendingChange(operation, entity));
+	}
+	
+	private static class PendingChange {
+		
+		private final Operation operation;
+		private final Object entity;
+		
+		public PendingChange(Operation operation, Object entity){
+			this.operation = operation;
+			this.entity = entity;
+		}
+	}
+	
+	private static class Key {
+		
+		private final IRI id;
+		private final Class<?> type;
+		
+		public Key(IRI id, Class<?> type){
+			this.id = id;
+			this.type = type;
+		}
+		
+		@Override
+		public int hashCode() {
+			return 31 * id.hashCode() + type.hashCode();
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if(this == obj){
+				return true;
+			}
+			if(!(obj instanceof Key)){
+				return false;
+			}
+			Key other = (Key) obj;
+			return id.equals(other.id) && type.equals(other.type);
+		}
+	}
+
+}
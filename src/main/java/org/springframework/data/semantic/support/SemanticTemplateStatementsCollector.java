@@ -15,18 +15,23 @@
  */
 package org.springframework.data.semantic.support;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
-import org.eclipse.rdf4j.model.impl.TreeModel;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.MalformedQueryException;
@@ -39,15 +44,25 @@ import org.springframework.data.semantic.core.SemanticOperationsStatementsCollec
 import org.springframework.data.semantic.mapping.MappingPolicy;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
+import org.springframework.data.semantic.query.model.ConstructQuery;
 import org.springframework.data.semantic.support.convert.EntityToQueryConverter;
+import org.springframework.data.semantic.support.convert.SubjectLookupPlan;
+import org.springframework.data.semantic.support.convert.SubjectLookupPlanner;
 import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
 import org.springframework.data.semantic.support.mapping.SemanticPersistentEntityImpl;
+import org.springframework.data.semantic.support.util.CompactModel;
 
 public class SemanticTemplateStatementsCollector implements SemanticOperationsStatementsCollector {
 	
+	/**
+	 * The maximal number of resources bound in a single VALUES block.
+	 */
+	private static final int VALUES_CHUNK_SIZE = 200;
+	
 	private SemanticDatabase semanticDB;	
 	private SemanticMappingContext mappingContext;
 	private EntityToQueryConverter entityToQueryConverter;
+	private SubjectLookupPlanner subjectLookupPlanner;
 	
 	
 	public SemanticTemplateStatementsCollector(SemanticDatabase semanticDB,
@@ -57,6 +72,7 @@ public class SemanticTemplateStatementsCollector implements SemanticOperationsSt
 		this.mappingContext = mappingContext != null ? mappingContext 
 				: new SemanticMappingContext(semanticDB.getNamespaces(), semanticDB.getDefaultNamespace(), true);
 		this.entityToQueryConverter = entityToQueryConverter;
+		this.subjectLookupPlanner = new SubjectLookupPlanner(entityToQueryConverter);
 	}	
 	
 	public MappingPolicy getMappingPolicy(Class<?> clazz){
@@ -88,11 +104,97 @@ public class SemanticTemplateStatementsCollector implements SemanticOperationsSt
 		}
 	}
 
+	@Override
+	public <T> Map<IRI, Model> getStatementsForResourcesOriginalPredicates(Collection<IRI> resources, Class<? extends T> clazz, MappingPolicy globalMappingPolicy){
+		try {
+			SemanticPersistentEntity<?> persistentEntity = getPersistentEntity(clazz);
+			List<IRI> ids = new ArrayList<IRI>(new LinkedHashSet<IRI>(resources));
+			Map<IRI, Model> models = new LinkedHashMap<IRI, Model>();
+			for(int from = 0; from < ids.size(); from += VALUES_CHUNK_SIZE){
+				List<IRI> chunk = ids.subList(from, Math.min(from + VALUES_CHUNK_SIZE, ids.size()));
+				Model results = semanticDB.getGraphQueryResults(entityToQueryConverter.getGraphQueryForResourcesWithOriginalPredicates(chunk, persistentEntity, globalMappingPolicy));
+				models.putAll(splitModels(chunk, results));
+			}
+			return models;
+		} catch (Exception e) {
+			throw ExceptionTranslator.translateExceptionIfPossible(e);
+		}
+	}
+	
+	/**
+	 * Split the result of a multi-subject graph query into the statements each subject would have got from a query of its own: 
+	 * its own statements, the statements referring to it and the statements of the resources reachable from it 
+	 * which are not among the queried subjects.
+	 * @param resources - the queried subjects
+	 * @param allStatements
+	 * @return the statements per subject, empty for subjects without statements
+	 */
+	public Map<IRI, Model> splitModels(Collection<IRI> resources, Model allStatements){
+		Map<Resource, List<Statement>> subjectToStatements = new HashMap<Resource, List<Statement>>();
+		Map<Value, List<Statement>> objectToStatements = new HashMap<Value, List<Statement>>();
+		Set<IRI> queried = new HashSet<IRI>(resources);
+		for(Statement st : allStatements){
+			List<Statement> statements = subjectToStatements.get(st.getSubject());
+			if(statements == null){
+				statements = new ArrayList<Statement>();
+				subjectToStatements.put(st.getSubject(), statements);
+			}
+			statements.add(st);
+			if(queried.contains(st.getObject()) && !st.getObject().equals(st.getSubject())){
+				statements = objectToStatements.get(st.getObject());
+				if(statements == null){
+					statements = new ArrayList<Statement>();
+					objectToStatements.put(st.getObject(), statements);
+				}
+				statements.add(st);
+			}
+		}
+		Map<IRI, Model> models = new LinkedHashMap<IRI, Model>();
+		Set<Resource> visited = new HashSet<Resource>();
+		Deque<Resource> pending = new ArrayDeque<Resource>();
+		for(IRI resource : resources){
+			List<Statement> molecule = new ArrayList<Statement>();
+			visited.clear();
+			visited.add(resource);
+			pending.add(resource);
+			List<Statement> incoming = objectToStatements.get(resource);
+			if(incoming != null){
+				molecule.addAll(incoming);
+				for(Statement st : incoming){
+					if(!queried.contains(st.getSubject()) && visited.add(st.getSubject())){
+						pending.add(st.getSubject());
+					}
+				}
+			}
+			while(!pending.isEmpty()){
+				Resource subject = pending.poll();
+				List<Statement> statements = subjectToStatements.get(subject);
+				if(statements == null){
+					continue;
+				}
+				molecule.addAll(statements);
+				for(Statement st : statements){
+					Value object = st.getObject();
+					if(object instanceof Resource && !RDF.TYPE.equals(st.getPredicate()) && !queried.contains(object) && visited.add((Resource) object)){
+						pending.add((Resource) object);
+					}
+				}
+			}
+			models.put(resource, new CompactModel(molecule));
+		}
+		return models;
+	}
+
 	@Override
 	public <T> Model getStatementsForResource(IRI resource, Class<? extends T> clazz, MappingPolicy globalMappingPolicy) {
 		try {
+			SemanticPersistentEntity<?> persistentEntity = getPersistentEntity(clazz);
+			SubjectLookupPlan plan = subjectLookupPlanner.getPlan(persistentEntity, globalMappingPolicy);
+			if(plan != null){
+				return plan.createModel(resource, semanticDB.getStatementsForSubject(resource));
+			}
 			return semanticDB.getGraphQueryResults(
-					entityToQueryConverter.getGraphQueryForResource(resource, getPersistentEntity(clazz), globalMappingPolicy));
+					entityToQueryConverter.getGraphQueryForResource(resource, persistentEntity, globalMappingPolicy));
 		} catch (Exception e) {
 			throw ExceptionTranslator.translateExceptionIfPossible(e);
 		} 
@@ -103,11 +205,31 @@ public class SemanticTemplateStatementsCollector implements SemanticOperationsSt
 		return getStatementsForResources(clazz, null, null);
 	}
 
+	@Override
+	public <T> Collection<Model> getStatementsForResources(Collection<IRI> resources, Class<? extends T> clazz, MappingPolicy globalMappingPolicy) {
+		try {
+			SemanticPersistentEntity<?> persistentEntity = getPersistentEntity(clazz);
+			List<IRI> ids = new ArrayList<IRI>(new LinkedHashSet<IRI>(resources));
+			List<Model> models = new ArrayList<Model>(ids.size());
+			for(int from = 0; from < ids.size(); from += VALUES_CHUNK_SIZE){
+				List<IRI> chunk = ids.subList(from, Math.min(from + VALUES_CHUNK_SIZE, ids.size()));
+				Model results = semanticDB.getGraphQueryResults(entityToQueryConverter.getGraphQueryForResources(chunk, persistentEntity, globalMappingPolicy));
+				models.addAll(assembleModels(persistentEntity.getRDFType(), results));
+			}
+			return models;
+		} catch (Exception e) {
+			throw ExceptionTranslator.translateExceptionIfPossible(e);
+		}
+	}
+
 	@Override
 	public <T> Collection<Model> getStatementsForResources(Class<? extends T> clazz, Long offset, Long limit) {
 		try {
 			SemanticPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(clazz);
-			Model results = semanticDB.getGraphQueryResults(entityToQueryConverter.getGraphQueryForEntityClass(persistentEntity), offset, limit);
+			ConstructQuery query = entityToQueryConverter.getGraphQueryForEntityClass(persistentEntity);
+			query.setOffset(offset);
+			query.setLimit(limit);
+			Model results = semanticDB.getGraphQueryResults(query);
 			return assembleModels(persistentEntity.getRDFType(), results);
 		} catch (Exception e) {
 			throw ExceptionTranslator.translateExceptionIfPossible(e);
@@ -120,34 +242,78 @@ public class SemanticTemplateStatementsCollector implements SemanticOperationsSt
 			Long offset, Long limit) {
 		try {
 			SemanticPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(clazz);
-			Model results = semanticDB.getGraphQueryResults(entityToQueryConverter.getGraphQueryForEntityClass(persistentEntity, parameterToValue), offset, limit);
+			ConstructQuery query = entityToQueryConverter.getGraphQueryForEntityClass(persistentEntity, parameterToValue);
+			query.setOffset(offset);
+			query.setLimit(limit);
+			Model results = semanticDB.getGraphQueryResults(query);
 			return assembleModels(persistentEntity.getRDFType(), results);
 		} catch (Exception e) {
 			throw ExceptionTranslator.translateExceptionIfPossible(e);
 		}
 	}
 	
-	public <T> Collection<Model> assembleModels(IRI type, Model allStatements){
-		Model subjects = allStatements.filter(null, null, type);
-		Map<Resource, Model> entityIdToModel = new HashMap<Resource, Model>();
-		for(Statement st : subjects){
-			Resource subject = st.getSubject();
-			Model statementsForSubject = new TreeModel();
-			getStatementsForSubject(allStatements, subject, statementsForSubject);
-			entityIdToModel.put(subject, statementsForSubject);
+	@Override
+	public <T> Collection<Model> getStatementsForResourcesAndProperties(
+			Class<? extends T> clazz, Map<String, Object> parameterToValue,
+			Set<String> projectedProperties, Long offset, Long limit) {
+		try {
+			SemanticPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(clazz);
+			ConstructQuery query = entityToQueryConverter.getGraphQueryForEntityClass(persistentEntity, parameterToValue, projectedProperties);
+			query.setOffset(offset);
+			query.setLimit(limit);
+			Model results = semanticDB.getGraphQueryResults(query);
+			return assembleModels(persistentEntity.getRDFType(), results);
+		} catch (Exception e) {
+			throw ExceptionTranslator.translateExceptionIfPossible(e);
 		}
-		return entityIdToModel.values();
 	}
 	
-	private void getStatementsForSubject(Model source, Resource subject, Model dest){
-		Model directStatements = source.filter(subject, null, null);
-		dest.addAll(directStatements);
-		for(Statement st : directStatements){
-			Value object = st.getObject();
-			if(object instanceof Resource && !st.getPredicate().equals(RDF.TYPE) && dest.filter((Resource) object, null, null).isEmpty()){
-				getStatementsForSubject(source, (Resource) object, dest);
+	/**
+	 * Split the result of a graph query into the molecules of the entities of the given type. Statements are indexed 
+	 * by subject once and each molecule collects the statements reachable from its entity, so resources shared 
+	 * between entities are included in every molecule referring to them. 
+	 * @param type
+	 * @param allStatements
+	 * @return
+	 */
+	public <T> Collection<Model> assembleModels(IRI type, Model allStatements){
+		Map<Resource, List<Statement>> subjectToStatements = new HashMap<Resource, List<Statement>>();
+		Set<Resource> entityIds = new LinkedHashSet<Resource>();
+		for(Statement st : allStatements){
+			List<Statement> statements = subjectToStatements.get(st.getSubject());
+			if(statements == null){
+				statements = new ArrayList<Statement>();
+				subjectToStatements.put(st.getSubject(), statements);
+			}
+			statements.add(st);
+			if(type.equals(st.getObject())){
+				entityIds.add(st.getSubject());
+			}
+		}
+		List<Model> models = new ArrayList<Model>(entityIds.size());
+		Set<Resource> visited = new HashSet<Resource>();
+		Deque<Resource> pending = new ArrayDeque<Resource>();
+		for(Resource entityId : entityIds){
+			List<Statement> molecule = new ArrayList<Statement>();
+			visited.clear();
+			visited.add(entityId);
+			pending.add(entityId);
+			while(!pending.isEmpty()){
+				List<Statement> statements = subjectToStatements.get(pending.poll());
+				if(statements == null){
+					continue;
+				}
+				molecule.addAll(statements);
+				for(Statement st : statements){
+					Value object = st.getObject();
+					if(object instanceof Resource && !RDF.TYPE.equals(st.getPredicate()) && visited.add((Resource) object)){
+						pending.add((Resource) object);
+					}
+				}
 			}
+			models.add(CompactModel.fromDistinct(molecule));
 		}
+		return models;
 	}
 	
 	private SemanticPersistentEntity<?> getPersistentEntity(Class<?> targetClazz){
@@ -45,6 +45,12 @@ public class EhCacheEntityCache implements EntityCache {
 		cache.remove(getId(entity).stringValue());
 	}
 
+	@Override
+	public <T> void remove(IRI id, Class<? extends T> clazz) {
+		Ehcache cache = getCache(clazz);
+		cache.remove(id.stringValue());
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T get(IRI id, Class<? extends T> clazz) {
@@ -25,6 +25,11 @@ public class EmptyEntityCache implements EntityCache {
 		return;
 	}
 
+	@Override
+	public <T> void remove(IRI id, Class<? extends T> clazz) {
+		return;
+	}
+
 	@Override
 	public <T> T get(IRI id, Class<? extends T> clazz) {
 		return null;
@@ -0,0 +1,176 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.springframework.data.semantic.core.RDFState;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.support.util.CompactModel;
+
+/**
+ * Keeps the statements of loaded entities as they were when loaded, so that saving them can compute the 
+ * statements to add and delete without reading the entity back from the store. Snapshots are bound to the 
+ * identity of the entity instance and are dropped once the instance is garbage collected.
+ * <p>
+ * A snapshot assumes that the statements of the entity are not changed in the store by other means between 
+ * load and save; such changes are neither detected nor overwritten.
+ *
+ */
+public class EntitySnapshots {
+	
+	private final ConcurrentMap<Object, Model> snapshots = new ConcurrentHashMap<Object, Model>();
+	
+	private final ReferenceQueue<Object> collected = new ReferenceQueue<Object>();
+	
+	private final EntityToStatementsConverter toStatementsConverter;
+	
+	public EntitySnapshots(EntityToStatementsConverter toStatementsConverter){
+		this.toStatementsConverter = toStatementsConverter;
+	}
+	
+	/**
+	 * Take a snapshot of the statements of the given entity, replacing any previous snapshot of the instance.
+	 * @param persistentEntity
+	 * @param entity
+	 */
+	public void take(SemanticPersistentEntity<?> persistentEntity, Object entity){
+		if(entity == null){
+			return;
+		}
+		Model statements = toStatementsConverter.convertEntityToStatements(persistentEntity, entity).getCurrentStatements();
+		expungeCollected();
+		snapshots.put(new WeakKey(entity, collected), statements);
+	}
+	
+	/**
+	 * Get the state of the given entity as of its last snapshot. The returned state is a copy and may be modified.
+	 * @param entity
+	 * @return the snapshot state or null if there is no snapshot of the instance
+	 */
+	public RDFState getState(Object entity){
+		Model statements = snapshots.get(new LookupKey(entity));
+		return statements != null ? new RDFState(new CompactModel(statements)) : null;
+	}
+	
+	/**
+	 * Drop the snapshot of the given entity.
+	 * @param entity
+	 */
+	public void remove(Object entity){
+		snapshots.remove(new LookupKey(entity));
+	}
+	
+	/**
+	 * Drop the snapshots of all instances of the given type with the given id, e.g. after the entity was deleted by its id.
+	 * @param persistentEntity
+	 * @param resourceId
+	 */
+	public void remove(SemanticPersistentEntity<?> persistentEntity, IRI resourceId){
+		for(Object key : snapshots.keySet()){
+			Object entity = referent(key);
+			if(persistentEntity.getType().isInstance(entity) && resourceId.equals(persistentEntity.getResourceId(entity))){
+				snapshots.remove(key);
+			}
+		}
+	}
+	
+	/**
+	 * Drop all snapshots.
+	 */
+	public void clear(){
+		snapshots.clear();
+	}
+	
+	/**
+	 * @return the number of snapshots kept, including those of instances which are collected but not yet expunged
+	 */
+	public int size(){
+		return snapshots.size();
+	}
+	
+	private void expungeCollected(){
+		Object key;
+		while((key = collected.poll()) != null){
+			snapshots.remove(key);
+		}
+	}
+	
+	private static Object referent(Object key){
+		if(key instanceof WeakKey){
+			return ((WeakKey) key).get();
+		}
+		else if(key instanceof LookupKey){
+			return ((LookupKey) key).entity;
+		}
+		return null;
+	}
+	
+	/**
+	 * Weakly references an entity and compares by the identity of the entity.
+	 */
+	private static class WeakKey extends WeakReference<Object> {
+		
+		private final int hash;
+		
+		public WeakKey(Object entity, ReferenceQueue<Object> queue){
+			super(entity, queue);
+			this.hash = System.identityHashCode(entity);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if(this == obj){
+				return true;
+			}
+			Object entity = get();
+			return entity != null && entity == referent(obj);
+		}
+	}
+	
+	/**
+	 * Strongly references an entity for the duration of a lookup.
+	 */
+	private static class LookupKey {
+		
+		private final Object entity;
+		
+		public LookupKey(Object entity){
+			this.entity = entity;
+		}
+		
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(entity);
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			return this == obj || entity == referent(obj);
+		}
+	}
+
+}
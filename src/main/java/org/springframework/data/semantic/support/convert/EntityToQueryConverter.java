@@ -15,14 +15,28 @@
  */
 package org.springframework.data.semantic.support.convert;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.springframework.data.semantic.mapping.MappingPolicy;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
+import org.springframework.data.semantic.query.model.AskQuery;
+import org.springframework.data.semantic.query.model.ConstructQuery;
+import org.springframework.data.semantic.query.model.GraphPattern;
+import org.springframework.data.semantic.query.model.GroupPattern;
+import org.springframework.data.semantic.query.model.QueryTerm;
+import org.springframework.data.semantic.query.model.SelectQuery;
+import org.springframework.data.semantic.query.model.TriplePattern;
+import org.springframework.data.semantic.query.model.ValuesPattern;
 import org.springframework.data.semantic.support.MappingPolicyImpl;
 import org.springframework.data.semantic.support.convert.handlers.AbstractPropertiesToQueryHandler;
 import org.springframework.data.semantic.support.convert.handlers.PropertiesToBindingsHandler;
@@ -54,17 +68,8 @@ public class EntityToQueryConverter {
 	 * @param property
 	 * @return
 	 */
-	public String getGraphQueryForResourceProperty(IRI uri, SemanticPersistentEntity<?> entity, SemanticPersistentProperty property){
-		StringBuilder sb = new StringBuilder();
-		
-		sb.append("CONSTRUCT { ");
-		sb.append(getPropertyBinding(uri, property));
-		sb.append(" }\n");
-		sb.append("WHERE { ");
-		sb.append(getPropertyPattern(uri, entity, property));
-		sb.append(" }");
-		
-		return sb.toString();
+	public ConstructQuery getGraphQueryForResourceProperty(IRI uri, SemanticPersistentEntity<?> entity, SemanticPersistentProperty property){
+		return new ConstructQuery(Collections.singletonList(getPropertyBinding(uri, property)), getPropertyPattern(uri, entity, property));
 	}
 	
 	/**
@@ -74,7 +79,7 @@ public class EntityToQueryConverter {
 	 * @param entity - the container which holds the information about that entity
 	 * @return
 	 */
-	public String getGraphQueryForResourceWithOriginalPredicates(IRI uri, SemanticPersistentEntity<?> entity, MappingPolicy globalMappingPolicy){
+	public ConstructQuery getGraphQueryForResourceWithOriginalPredicates(IRI uri, SemanticPersistentEntity<?> entity, MappingPolicy globalMappingPolicy){
 		return getGraphQueryForResource(uri, entity, new HashMap<String, Object>(), globalMappingPolicy, true);
 	}
 	
@@ -85,7 +90,7 @@ public class EntityToQueryConverter {
 	 * @param entity - the container which holds the information about that entity
 	 * @return
 	 */
-	public String getGraphQueryForResource(IRI uri, SemanticPersistentEntity<?> entity, MappingPolicy globalMappingPolicy){
+	public ConstructQuery getGraphQueryForResource(IRI uri, SemanticPersistentEntity<?> entity, MappingPolicy globalMappingPolicy){
 		return getGraphQueryForResource(uri, entity, new HashMap<String, Object>(), globalMappingPolicy, false);
 	}
 	
@@ -97,16 +102,42 @@ public class EntityToQueryConverter {
 	 * @param propertiesToValues - the properties with their required values
 	 * @return
 	 */
-	public String getGraphQueryForResource(IRI uri, SemanticPersistentEntity<?> entity, Map<String, Object> propertyToValue, MappingPolicy globalMappingPolicy, Boolean originalPredicates){
-		StringBuilder sb = new StringBuilder();
-		
-		sb.append("CONSTRUCT { ");
-		sb.append(getPropertyBindings(uri, entity, propertyToValue, globalMappingPolicy, originalPredicates));
-		sb.append(" }\n");
-		sb.append("WHERE { ");
-		sb.append(getPropertyPatterns(uri, entity, propertyToValue, false, globalMappingPolicy, true));
-		sb.append(" }");
-		return sb.toString();
+	public ConstructQuery getGraphQueryForResource(IRI uri, SemanticPersistentEntity<?> entity, Map<String, Object> propertyToValue, MappingPolicy globalMappingPolicy, Boolean originalPredicates){
+		return new ConstructQuery(
+				createPropertyBindings(uri, entity, propertyToValue, globalMappingPolicy, originalPredicates, null), 
+				createPropertyPatterns(uri, entity, propertyToValue, false, globalMappingPolicy, true, null));
+	}
+	
+	/**
+	 * Create a graph query retrieving the molecules of several entities at once. The entities are bound 
+	 * to the subject variable through an inline VALUES block.
+	 * @param uris - the uris of the entities
+	 * @param entity - the container which holds the information about the entities
+	 * @param globalMappingPolicy
+	 * @return
+	 */
+	public ConstructQuery getGraphQueryForResources(Collection<IRI> uris, SemanticPersistentEntity<?> entity, MappingPolicy globalMappingPolicy){
+		return getGraphQueryForResources(uris, entity, globalMappingPolicy, false, false);
+	}
+	
+	/**
+	 * Create a graph query retrieving the molecules of several entities at once with their original predicates, 
+	 * the multi-subject counterpart of {@link #getGraphQueryForResourceWithOriginalPredicates(IRI, SemanticPersistentEntity, MappingPolicy)}.
+	 * @param uris - the uris of the entities
+	 * @param entity - the container which holds the information about the entities
+	 * @param globalMappingPolicy
+	 * @return
+	 */
+	public ConstructQuery getGraphQueryForResourcesWithOriginalPredicates(Collection<IRI> uris, SemanticPersistentEntity<?> entity, MappingPolicy globalMappingPolicy){
+		return getGraphQueryForResources(uris, entity, globalMappingPolicy, true, true);
+	}
+	
+	private ConstructQuery getGraphQueryForResources(Collection<IRI> uris, SemanticPersistentEntity<?> entity, MappingPolicy globalMappingPolicy, boolean originalPredicates, boolean useUnions){
+		GroupPattern where = new GroupPattern(new ValuesPattern(getSubjectBinding(null, entity).getName(), uris));
+		for(GraphPattern pattern : createPropertyPatterns(null, entity, new HashMap<String, Object>(), false, globalMappingPolicy, useUnions, null).getPatterns()){
+			where.add(pattern);
+		}
+		return new ConstructQuery(createPropertyBindings(null, entity, new HashMap<String, Object>(), globalMappingPolicy, originalPredicates, null), where);
 	}
 	
 	/**
@@ -114,13 +145,13 @@ public class EntityToQueryConverter {
 	 * @param entity
 	 * @return
 	 */
-	public String getGraphQueryForResourceCount(SemanticPersistentEntity<?> entity, Map<String, Object> propertyToValue){
-		StringBuilder sb = new StringBuilder();
-		String subjectBinding  = getSubjectBinding(null, entity);
-		sb.append("SELECT (COUNT (DISTINCT "+subjectBinding+") as ?count) WHERE { "+subjectBinding+" a <"+entity.getRDFType()+"> . ");
-		sb.append(getPropertyPatterns(null, entity, propertyToValue, true, MappingPolicyImpl.ALL_POLICY, false));
-		sb.append("}");
-		return sb.toString();
+	public SelectQuery getGraphQueryForResourceCount(SemanticPersistentEntity<?> entity, Map<String, Object> propertyToValue){
+		QueryTerm subjectBinding = getSubjectBinding(null, entity);
+		GroupPattern where = new GroupPattern(new TriplePattern(subjectBinding, RDF.TYPE, entity.getRDFType()));
+		for(GraphPattern pattern : createPropertyPatterns(null, entity, propertyToValue, true, MappingPolicyImpl.ALL_POLICY, false, null).getPatterns()){
+			where.add(pattern);
+		}
+		return SelectQuery.countDistinct(where, subjectBinding.getName(), "count");
 	}
 	
 	/**
@@ -129,8 +160,8 @@ public class EntityToQueryConverter {
 	 * @param entity
 	 * @return
 	 */
-	public String getQueryForResourceExistence(IRI resourceId, SemanticPersistentEntity<?> entity){
-		return "ASK {<"+resourceId+"> a <"+entity.getRDFType()+"> }";
+	public AskQuery getQueryForResourceExistence(IRI resourceId, SemanticPersistentEntity<?> entity){
+		return new AskQuery(new GroupPattern(new TriplePattern(QueryTerm.value(resourceId), RDF.TYPE, entity.getRDFType())));
 	}
 	
 	/**
@@ -140,29 +171,39 @@ public class EntityToQueryConverter {
 	 * @param size
 	 * @return
 	 */
-	public String getQueryForIds(SemanticPersistentEntity<?> entity, int offset, int size){
-		return "SELECT ?id WHERE { ?id a <"+entity.getRDFType()+"> } OFFSET "+offset+" LIMIT "+size+"";
+	public SelectQuery getQueryForIds(SemanticPersistentEntity<?> entity, int offset, int size){
+		SelectQuery query = new SelectQuery(new GroupPattern(new TriplePattern(QueryTerm.var("id"), RDF.TYPE, entity.getRDFType())), "id");
+		query.setOffset((long) offset);
+		query.setLimit((long) size);
+		return query;
 	}
 	
-	public String getGraphQueryForEntityClass(SemanticPersistentEntity<?> entity){
+	public ConstructQuery getGraphQueryForEntityClass(SemanticPersistentEntity<?> entity){
 		return getGraphQueryForEntityClass(entity, new HashMap<String, Object>());
 	}
 	
-	public String getGraphQueryForEntityClass(SemanticPersistentEntity<?> entity, Map<String, Object> propertyToValue){
-		StringBuilder sb = new StringBuilder();
-		
-		sb.append("CONSTRUCT { ");
-		sb.append(getPropertyBindings(null, entity, propertyToValue, MappingPolicyImpl.ALL_POLICY, false));
-		sb.append(" }\n");
-		sb.append("WHERE { ");
-		sb.append(getPropertyPatterns(null, entity, propertyToValue, false, MappingPolicyImpl.ALL_POLICY, false));
-		sb.append(" }");
-		
-		return sb.toString();
+	public ConstructQuery getGraphQueryForEntityClass(SemanticPersistentEntity<?> entity, Map<String, Object> propertyToValue){
+		return new ConstructQuery(
+				createPropertyBindings(null, entity, propertyToValue, MappingPolicyImpl.ALL_POLICY, false, null), 
+				createPropertyPatterns(null, entity, propertyToValue, false, MappingPolicyImpl.ALL_POLICY, false, null));
 	}
 	
-	private String getSubjectBinding(IRI uri, SemanticPersistentEntity<?> entity){
-		return uri != null ? "<"+uri+">" : "?"+entity.getRDFType().getLocalName();
+	/**
+	 * Create a graph query retrieving only the given properties of the entities that fulfill the parameter requirements.
+	 * Associations are not cascaded and optional properties outside of the projection are not matched.
+	 * @param entity
+	 * @param propertyToValue
+	 * @param projectedProperties - the names of the properties to retrieve
+	 * @return
+	 */
+	public ConstructQuery getGraphQueryForEntityClass(SemanticPersistentEntity<?> entity, Map<String, Object> propertyToValue, Set<String> projectedProperties){
+		return new ConstructQuery(
+				createPropertyBindings(null, entity, propertyToValue, MappingPolicyImpl.DEFAULT_POLICY, false, projectedProperties), 
+				createPropertyPatterns(null, entity, propertyToValue, false, MappingPolicyImpl.DEFAULT_POLICY, false, projectedProperties));
+	}
+	
+	private QueryTerm getSubjectBinding(IRI uri, SemanticPersistentEntity<?> entity){
+		return uri != null ? QueryTerm.value(uri) : QueryTerm.var(entity.getRDFType().getLocalName());
 	}
 	
 	/**
@@ -173,12 +214,21 @@ public class EntityToQueryConverter {
 	 */
 	protected String getPropertyBindings(IRI uri, SemanticPersistentEntity<?> entity, Map<String, Object> propertyToValue, MappingPolicy globalMappingPolicy, Boolean originalPredicates){
 		StringBuilder sb = new StringBuilder();
-		String subjectBinding = getSubjectBinding(uri, entity);
-		AbstractPropertiesToQueryHandler.appendPattern(sb, subjectBinding, "a", "<"+entity.getRDFType()+">");
-		PropertiesToBindingsHandler handler = new PropertiesToBindingsHandler(sb, subjectBinding, propertyToValue, this.mappingContext, globalMappingPolicy, originalPredicates);
+		for(TriplePattern pattern : createPropertyBindings(uri, entity, propertyToValue, globalMappingPolicy, originalPredicates, null)){
+			pattern.appendTo(sb, true);
+		}
+		return sb.toString();
+	}
+	
+	private List<TriplePattern> createPropertyBindings(IRI uri, SemanticPersistentEntity<?> entity, Map<String, Object> propertyToValue, MappingPolicy globalMappingPolicy, Boolean originalPredicates, Set<String> projectedProperties){
+		List<TriplePattern> template = new ArrayList<TriplePattern>();
+		QueryTerm subjectBinding = getSubjectBinding(uri, entity);
+		template.add(new TriplePattern(subjectBinding, RDF.TYPE, entity.getRDFType()));
+		PropertiesToBindingsHandler handler = new PropertiesToBindingsHandler(template, subjectBinding, propertyToValue, this.mappingContext, globalMappingPolicy, originalPredicates);
+		handler.setProjectedProperties(projectedProperties);
 		entity.doWithProperties(handler);
 		entity.doWithAssociations(handler);
-		return sb.toString();
+		return template;
 	}
 	
 	/**
@@ -187,10 +237,9 @@ public class EntityToQueryConverter {
 	 * @param property
 	 * @return
 	 */
-	protected static String getPropertyBinding(IRI uri, SemanticPersistentProperty property){
-		StringBuilder sb = new StringBuilder();
-		AbstractPropertiesToQueryHandler.appendPattern(sb, "<"+uri+">", "<" + property.getAliasPredicate() + ">", "?"+property.getName());
-		return sb.toString();
+	protected static TriplePattern getPropertyBinding(IRI uri, SemanticPersistentProperty property){
+		QueryTerm subjectBinding = QueryTerm.value(uri);
+		return new TriplePattern(subjectBinding, ValueUtils.createIRI(property.getAliasPredicate()), AbstractPropertiesToQueryHandler.getObjectBinding(subjectBinding, property));
 	}
 	
 	/**
@@ -200,38 +249,39 @@ public class EntityToQueryConverter {
 	 * @param property
 	 * @return
 	 */
-	protected String getPropertyPattern(IRI uri, SemanticPersistentEntity<?> entity, SemanticPersistentProperty property){
-		StringBuilder sb = new StringBuilder();
-		new PropertiesToPatternsHandler(sb, "<"+uri+">", new HashMap<String, Object>(), this.mappingContext, false, false, MappingPolicyImpl.ALL_POLICY).doWithPersistentProperty(property);
-		return sb.toString();
+	protected GroupPattern getPropertyPattern(IRI uri, SemanticPersistentEntity<?> entity, SemanticPersistentProperty property){
+		GroupPattern group = new GroupPattern();
+		new PropertiesToPatternsHandler(group, QueryTerm.value(uri), new HashMap<String, Object>(), this.mappingContext, false, false, MappingPolicyImpl.ALL_POLICY).doWithPersistentProperty(property);
+		return group;
 	}
 	
 	protected String getPropertyPatterns(IRI uri, SemanticPersistentEntity<?> entity, Map<String, Object> propertyToValue, boolean isCount, MappingPolicy globalMappingPolicy, boolean useUnions){
 		StringBuilder sb = new StringBuilder();
+		createPropertyPatterns(uri, entity, propertyToValue, isCount, globalMappingPolicy, useUnions, null).appendContentTo(sb);
+		return sb.toString();
+	}
+	
+	private GroupPattern createPropertyPatterns(IRI uri, SemanticPersistentEntity<?> entity, Map<String, Object> propertyToValue, boolean isCount, MappingPolicy globalMappingPolicy, boolean useUnions, Set<String> projectedProperties){
+		GroupPattern group = new GroupPattern();
 		/*SemanticPersistentProperty contextP = entity.getContextProperty();
 		if(contextP != null){
 			sb.append("GRAPH ");
 			//sb.append(contextP.); TODO
 			sb.append("{ ");
 		}*/
-		String binding;
-		if(uri != null){
-			binding = "<"+uri.stringValue()+">";
+		QueryTerm binding = getSubjectBinding(uri, entity);
+		TriplePattern typePattern = new TriplePattern(binding, RDF.TYPE, entity.getRDFType());
+		if(useUnions){
+			group.add(new GroupPattern(typePattern));
 		}
 		else{
-			binding = "?"+entity.getRDFType().getLocalName();
+			group.add(typePattern);
 		}
-        if(useUnions){
-            sb.append("{ ");
-        }
-		AbstractPropertiesToQueryHandler.appendPattern(sb, binding, "<"+ValueUtils.RDF_TYPE_PREDICATE+">", "<"+entity.getRDFType()+">");
-		if(useUnions){
-            sb.append("} ");
-        }
-        PropertiesToPatternsHandler handler = new PropertiesToPatternsHandler(sb, binding, propertyToValue, this.mappingContext, isCount, false, globalMappingPolicy, useUnions);
+		PropertiesToPatternsHandler handler = new PropertiesToPatternsHandler(group, binding, propertyToValue, this.mappingContext, isCount, false, globalMappingPolicy, useUnions);
+		handler.setProjectedProperties(projectedProperties);
 		entity.doWithProperties(handler);
 		entity.doWithAssociations(handler);
-		return sb.toString();
+		return group;
 	}
 	
 	protected String getVar(int input){
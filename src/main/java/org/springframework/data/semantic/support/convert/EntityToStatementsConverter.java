@@ -15,8 +15,28 @@
  */
 package org.springframework.data.semantic.support.convert;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.semantic.core.RDFState;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
+import org.springframework.data.semantic.query.model.GroupPattern;
+import org.springframework.data.semantic.query.model.ModifyOperation;
+import org.springframework.data.semantic.query.model.QueryTerm;
+import org.springframework.data.semantic.query.model.TriplePattern;
+import org.springframework.data.semantic.query.model.UpdateOperation;
+import org.springframework.data.semantic.query.model.ValuesPattern;
+import org.springframework.data.semantic.support.Direction;
 import org.springframework.data.semantic.support.convert.handlers.PropertiesToDeleteStatementsHandler;
 import org.springframework.data.semantic.support.convert.handlers.PropertiesToStatementsHandler;
 import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
@@ -52,6 +72,75 @@ public class EntityToStatementsConverter {
 		return statements;
 	}
 	
+	/**
+	 * Create the operations which clear the predicates owned by the given entities of one type: their persisted 
+	 * properties and associations, including the incoming statements of incoming associations. The rdf:type 
+	 * statements and the statements of cascaded entities are left untouched.
+	 * @param persistentEntity
+	 * @param resourceIds
+	 * @return
+	 */
+	public List<UpdateOperation> convertEntitiesToClearOperations(SemanticPersistentEntity<?> persistentEntity, Collection<IRI> resourceIds){
+		final Set<IRI> outgoingPredicates = new LinkedHashSet<IRI>();
+		final Set<IRI> incomingPredicates = new LinkedHashSet<IRI>();
+		persistentEntity.doWithProperties(new PropertyHandler<SemanticPersistentProperty>() {
+			@Override
+			public void doWithPersistentProperty(SemanticPersistentProperty persistentProperty) {
+				if(persistentProperty.shallBePersisted() && !persistentProperty.isContext() && !persistentProperty.isIdProperty()){
+					outgoingPredicates.add(persistentProperty.getPredicate());
+				}
+			}
+		});
+		persistentEntity.doWithAssociations(new AssociationHandler<SemanticPersistentProperty>() {
+			@Override
+			public void doWithAssociation(Association<SemanticPersistentProperty> association) {
+				SemanticPersistentProperty persistentProperty = association.getInverse();
+				if(!Direction.INCOMING.equals(persistentProperty.getDirection())){
+					outgoingPredicates.add(persistentProperty.getPredicate());
+				}
+				if(!Direction.OUTGOING.equals(persistentProperty.getDirection())){
+					SemanticPersistentProperty inverseProperty = persistentProperty.getInverseProperty();
+					incomingPredicates.add(inverseProperty != null ? inverseProperty.getPredicate() : persistentProperty.getPredicate());
+				}
+			}
+		});
+		List<UpdateOperation> operations = new ArrayList<UpdateOperation>(2);
+		QueryTerm subject = QueryTerm.var("s");
+		QueryTerm predicate = QueryTerm.var("p");
+		QueryTerm object = QueryTerm.var("o");
+		if(!outgoingPredicates.isEmpty()){
+			TriplePattern pattern = new TriplePattern(subject, predicate, object);
+			operations.add(new ModifyOperation(Collections.singletonList(pattern), null, 
+					new GroupPattern(new ValuesPattern(subject.getName(), resourceIds), new ValuesPattern(predicate.getName(), outgoingPredicates), pattern)));
+		}
+		if(!incomingPredicates.isEmpty()){
+			TriplePattern pattern = new TriplePattern(object, predicate, subject);
+			operations.add(new ModifyOperation(Collections.singletonList(pattern), null, 
+					new GroupPattern(new ValuesPattern(subject.getName(), resourceIds), new ValuesPattern(predicate.getName(), incomingPredicates), pattern)));
+		}
+		return operations;
+	}
+	
+	/**
+	 * Create the operations which delete the entities of one type with the given ids: their owned predicates, 
+	 * as cleared by {@link #convertEntitiesToClearOperations(SemanticPersistentEntity, Collection)}, and their rdf:type statements.
+	 * @param persistentEntity
+	 * @param resourceIds
+	 * @return
+	 */
+	public List<UpdateOperation> convertIdsToDeleteOperations(SemanticPersistentEntity<?> persistentEntity, Collection<IRI> resourceIds){
+		List<UpdateOperation> operations = convertEntitiesToClearOperations(persistentEntity, resourceIds);
+		List<IRI> types = new ArrayList<IRI>();
+		types.add(persistentEntity.getRDFType());
+		types.addAll(persistentEntity.getRDFSuperTypes());
+		QueryTerm subject = QueryTerm.var("s");
+		QueryTerm type = QueryTerm.var("type");
+		TriplePattern pattern = new TriplePattern(subject, RDF.TYPE, type);
+		operations.add(new ModifyOperation(Collections.singletonList(pattern), null, 
+				new GroupPattern(new ValuesPattern(subject.getName(), resourceIds), new ValuesPattern(type.getName(), types), pattern)));
+		return operations;
+	}
+	
 	public RDFState convertClassToDeleteStatements(SemanticPersistentEntity<?> persistentEntity){
 		RDFState statements = new RDFState();
 		//TODO
@@ -0,0 +1,235 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.springframework.aop.TargetSource;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.semantic.convert.EntityIdentityMap;
+import org.springframework.data.semantic.core.SemanticOperationsCRUD;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.orm.ObjectRetrievalFailureException;
+
+/**
+ * Creates lazy-loading proxies for associated entities which are not fetched together with their owner. 
+ * A proxy carries the id of its entity and loads the entity on the first call of one of its methods. 
+ * All proxies of the same type which were created by one load operation and are still pending 
+ * are resolved together with a single batch retrieval. Accessing a proxy whose entity no longer exists fails with 
+ * an {@link ObjectRetrievalFailureException}.
+ *
+ */
+public class LazyAssociationLoader {
+	
+	private final SemanticOperationsCRUD operations;
+	
+	public LazyAssociationLoader(SemanticOperationsCRUD operations){
+		this.operations = operations;
+	}
+	
+	/**
+	 * Check if instances of the given entity can be replaced by proxies. Final types cannot be subclassed.
+	 * @param persistentEntity
+	 * @return
+	 */
+	public boolean canProxy(SemanticPersistentEntity<?> persistentEntity){
+		Class<?> type = persistentEntity.getType();
+		return !type.isInterface() && !Modifier.isFinal(type.getModifiers()) && !Modifier.isPrivate(type.getModifiers());
+	}
+	
+	/**
+	 * Create a proxy of the given entity which is loaded on first access together with the other pending proxies 
+	 * of the same type created during the given load operation.
+	 * @param persistentEntity
+	 * @param id
+	 * @param identityMap - the instances of the current load operation
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T createProxy(SemanticPersistentEntity<T> persistentEntity, IRI id, EntityIdentityMap identityMap){
+		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.setTargetSource(getPendingAssociations(identityMap).register(persistentEntity, id));
+		proxyFactory.setProxyTargetClass(true);
+		T proxy = (T) proxyFactory.getProxy(persistentEntity.getType().getClassLoader());
+		persistentEntity.setResourceId(proxy, id);
+		return proxy;
+	}
+	
+	/**
+	 * 
+	 * @param entity
+	 * @return true if the given object is a lazy-loading proxy
+	 */
+	public static boolean isProxy(Object entity){
+		return entity instanceof Advised && ((Advised) entity).getTargetSource() instanceof LazyEntityTargetSource;
+	}
+	
+	/**
+	 * 
+	 * @param entity
+	 * @return false if the given object is a lazy-loading proxy whose entity is not loaded yet
+	 */
+	public static boolean isInitialized(Object entity){
+		return !isProxy(entity) || ((LazyEntityTargetSource) ((Advised) entity).getTargetSource()).isResolved();
+	}
+	
+	/**
+	 * Get the entity behind a lazy-loading proxy, loading it if necessary. Other objects are returned as they are.
+	 * @param entity
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T getTarget(T entity){
+		if(isProxy(entity)){
+			return (T) ((LazyEntityTargetSource) ((Advised) entity).getTargetSource()).getTarget();
+		}
+		return entity;
+	}
+	
+	private PendingAssociations getPendingAssociations(EntityIdentityMap identityMap){
+		PendingAssociations pendingAssociations = (PendingAssociations) identityMap.getAttribute(this);
+		if(pendingAssociations == null){
+			pendingAssociations = new PendingAssociations();
+			PendingAssociations existing = (PendingAssociations) identityMap.putAttributeIfAbsent(this, pendingAssociations);
+			if(existing != null){
+				pendingAssociations = existing;
+			}
+		}
+		return pendingAssociations;
+	}
+	
+	/**
+	 * The proxied associations of a single load operation, grouped by entity type.
+	 */
+	private class PendingAssociations {
+		
+		private final Map<Class<?>, Map<IRI, LazyEntityTargetSource>> targetSources = new HashMap<Class<?>, Map<IRI, LazyEntityTargetSource>>();
+		
+		public synchronized LazyEntityTargetSource register(SemanticPersistentEntity<?> persistentEntity, IRI id){
+			Map<IRI, LazyEntityTargetSource> sourcesOfType = targetSources.get(persistentEntity.getType());
+			if(sourcesOfType == null){
+				sourcesOfType = new LinkedHashMap<IRI, LazyEntityTargetSource>();
+				targetSources.put(persistentEntity.getType(), sourcesOfType);
+			}
+			LazyEntityTargetSource targetSource = sourcesOfType.get(id);
+			if(targetSource == null){
+				targetSource = new LazyEntityTargetSource(persistentEntity, id, this);
+				sourcesOfType.put(id, targetSource);
+			}
+			return targetSource;
+		}
+		
+		/**
+		 * Load the entity of the given target source together with all other unresolved entities of its type. 
+		 * Target sources whose entity is not found stay unresolved.
+		 * @param targetSource
+		 * @throws ObjectRetrievalFailureException if the entity of the given target source is not found
+		 */
+		public synchronized void resolve(LazyEntityTargetSource targetSource){
+			if(targetSource.isResolved()){
+				return;
+			}
+			SemanticPersistentEntity<?> persistentEntity = targetSource.persistentEntity;
+			List<LazyEntityTargetSource> unresolved = new ArrayList<LazyEntityTargetSource>();
+			List<IRI> ids = new ArrayList<IRI>();
+			for(LazyEntityTargetSource source : targetSources.get(persistentEntity.getType()).values()){
+				if(!source.isResolved()){
+					unresolved.add(source);
+					ids.add(source.id);
+				}
+			}
+			Map<IRI, Object> entities = new HashMap<IRI, Object>();
+			for(Object entity : operations.find(ids, persistentEntity.getType())){
+				entities.put(persistentEntity.getResourceId(entity), entity);
+			}
+			for(LazyEntityTargetSource source : unresolved){
+				source.target = entities.get(source.id);
+			}
+			if(!targetSource.isResolved()){
+				throw new ObjectRetrievalFailureException(persistentEntity.getType(), targetSource.id);
+			}
+		}
+	}
+	
+	/**
+	 * Supplies the entity behind a lazy-loading proxy. Two target sources are equal if they stand for the same resource, 
+	 * so proxies of the same entity are equal to each other.
+	 */
+	private static class LazyEntityTargetSource implements TargetSource {
+		
+		private final SemanticPersistentEntity<?> persistentEntity;
+		private final IRI id;
+		private final PendingAssociations pendingAssociations;
+		private volatile Object target;
+		
+		public LazyEntityTargetSource(SemanticPersistentEntity<?> persistentEntity, IRI id, PendingAssociations pendingAssociations){
+			this.persistentEntity = persistentEntity;
+			this.id = id;
+			this.pendingAssociations = pendingAssociations;
+		}
+		
+		public boolean isResolved(){
+			return target != null;
+		}
+
+		@Override
+		public Class<?> getTargetClass() {
+			return persistentEntity.getType();
+		}
+
+		@Override
+		public boolean isStatic() {
+			return false;
+		}
+
+		@Override
+		public Object getTarget() {
+			if(target == null){
+				pendingAssociations.resolve(this);
+			}
+			return target;
+		}
+
+		@Override
+		public void releaseTarget(Object target) {
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * id.hashCode() + persistentEntity.getType().hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(this == obj){
+				return true;
+			}
+			if(!(obj instanceof LazyEntityTargetSource)){
+				return false;
+			}
+			LazyEntityTargetSource other = (LazyEntityTargetSource) obj;
+			return id.equals(other.id) && persistentEntity.getType().equals(other.persistentEntity.getType());
+		}
+	}
+
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.convert.ReflectionEntityInstantiator;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.MappingInstantiationException;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link EntityInstantiator} which resolves the no-argument constructor of each persistent entity once. 
+ * Public constructors of public classes visible to this class are bound to a generated {@link Supplier}, other constructors 
+ * are invoked through a cached {@link MethodHandle}. Entities with a parameterized persistence constructor 
+ * or without an accessible constructor are created by the {@link ReflectionEntityInstantiator}.
+ *
+ */
+public class MethodHandleEntityInstantiator implements EntityInstantiator {
+	
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandleEntityInstantiator.class);
+	
+	private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+	
+	private final Map<PersistentEntity<?, ?>, InstanceFactory> factories = new ConcurrentHashMap<PersistentEntity<?, ?>, InstanceFactory>();
+	
+	private final EntityInstantiator fallback = ReflectionEntityInstantiator.INSTANCE;
+	
+	/**
+	 * The factory used last; large loads create many instances of the same entity in a row. 
+	 */
+	private volatile CachedFactory lastFactory;
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T, E extends PersistentEntity<? extends T, P>, P extends PersistentProperty<P>> T createInstance(E entity, ParameterValueProvider<P> provider) {
+		CachedFactory cached = lastFactory;
+		InstanceFactory factory;
+		if(cached != null && cached.entity == entity){
+			factory = cached.factory;
+		}
+		else{
+			factory = factories.get(entity);
+			if(factory == null){
+				factory = createFactory(entity);
+				factories.put(entity, factory);
+			}
+			lastFactory = new CachedFactory(entity, factory);
+		}
+		if(factory.reflective){
+			return fallback.createInstance(entity, provider);
+		}
+		try{
+			return (T) factory.supplier.get();
+		} catch (RuntimeException e) {
+			throw new MappingInstantiationException(entity, Collections.emptyList(), e);
+		}
+	}
+	
+	private InstanceFactory createFactory(PersistentEntity<?, ?> entity){
+		Class<?> type = entity.getType();
+		PreferredConstructor<?, ?> persistenceConstructor = entity.getPersistenceConstructor();
+		if(Modifier.isAbstract(type.getModifiers()) || (persistenceConstructor != null && !persistenceConstructor.isNoArgConstructor())){
+			return InstanceFactory.reflective();
+		}
+		try{
+			Constructor<?> constructor = persistenceConstructor != null ? persistenceConstructor.getConstructor() : type.getDeclaredConstructor();
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			if(Modifier.isPublic(type.getModifiers()) && Modifier.isPublic(constructor.getModifiers()) && ClassUtils.isVisible(type, MethodHandleEntityInstantiator.class.getClassLoader())){
+				MethodHandle handle = lookup.unreflectConstructor(constructor);
+				return new InstanceFactory(createSupplier(lookup, handle));
+			}
+			ReflectionUtils.makeAccessible(constructor);
+			final MethodHandle handle = lookup.unreflectConstructor(constructor).asType(FACTORY_TYPE);
+			return new InstanceFactory(new Supplier<Object>() {
+				@Override
+				public Object get() {
+					try {
+						return (Object) handle.invokeExact();
+					} catch (RuntimeException | Error e) {
+						throw e;
+					} catch (Throwable e) {
+						throw new IllegalStateException(e);
+					}
+				}
+			});
+		} catch (Throwable e) {
+			logger.debug("Falling back to reflective instantiation of {}: {}", type.getName(), e.getMessage());
+			return InstanceFactory.reflective();
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static Supplier<Object> createSupplier(MethodHandles.Lookup lookup, MethodHandle constructor) throws Throwable {
+		return (Supplier<Object>) LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class), 
+				FACTORY_TYPE, constructor, constructor.type()).getTarget().invokeExact();
+	}
+	
+	/**
+	 * Creates the instances of one entity, either through its supplier or, if reflective, through the fallback instantiator.
+	 */
+	private static class InstanceFactory {
+		
+		private final Supplier<Object> supplier;
+		private final boolean reflective;
+		
+		InstanceFactory(Supplier<Object> supplier){
+			this(supplier, false);
+		}
+		
+		private InstanceFactory(Supplier<Object> supplier, boolean reflective){
+			this.supplier = supplier;
+			this.reflective = reflective;
+		}
+		
+		static InstanceFactory reflective(){
+			return new InstanceFactory(null, true);
+		}
+	}
+	
+	private static class CachedFactory {
+		
+		private final PersistentEntity<?, ?> entity;
+		private final InstanceFactory factory;
+		
+		CachedFactory(PersistentEntity<?, ?> entity, InstanceFactory factory){
+			this.entity = entity;
+			this.factory = factory;
+		}
+	}
+
+}
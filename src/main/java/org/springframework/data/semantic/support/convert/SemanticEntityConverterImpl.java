@@ -15,6 +15,11 @@
  */
 package org.springframework.data.semantic.support.convert;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -22,14 +27,23 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.semantic.convert.EntityIdentityMap;
+import org.springframework.data.semantic.convert.ObjectToLiteralConverter;
 import org.springframework.data.semantic.convert.SemanticEntityConverter;
 import org.springframework.data.semantic.convert.SemanticEntityInstantiator;
 import org.springframework.data.semantic.convert.state.EntityState;
@@ -38,8 +52,11 @@ import org.springframework.data.semantic.core.SemanticDatabase;
 import org.springframework.data.semantic.mapping.MappingPolicy;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
+import org.springframework.data.semantic.query.model.SparqlUpdate;
+import org.springframework.data.semantic.query.model.UpdateOperation;
 import org.springframework.data.semantic.support.Cascade;
 import org.springframework.data.semantic.support.Direction;
+import org.springframework.data.semantic.support.ParallelMaterializer;
 import org.springframework.data.semantic.support.exceptions.RequiredPropertyException;
 import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
 import org.springframework.data.semantic.support.mapping.SemanticPersistentEntityImpl;
@@ -59,6 +76,8 @@ public class SemanticEntityConverterImpl implements SemanticEntityConverter {
 	private final SemanticSourceStateTransmitter sourceStateTransmitter;
 	private final EntityToStatementsConverter toStatementsConverter;
 	private final SemanticDatabase semanticDatabase;
+	private LazyAssociationLoader lazyAssociationLoader;
+	private volatile ParallelMaterializer statementGenerator = new ParallelMaterializer(0, null);
 	
 	
 	
@@ -71,6 +90,69 @@ public class SemanticEntityConverterImpl implements SemanticEntityConverter {
 		this.semanticDatabase = semanticDatabase;
 	}
 
+	/**
+	 * Set the loader of associations which are not fetched with their owner. Null (default) disables lazy loading.
+	 * @param lazyAssociationLoader
+	 */
+	public void setLazyAssociationLoader(LazyAssociationLoader lazyAssociationLoader) {
+		this.lazyAssociationLoader = lazyAssociationLoader;
+	}
+
+	/**
+	 * Convert an entity into statements. The statement of the version of a versioned entity is replaced by one of its next version 
+	 * and the version it was read with is expected to be still stored; entities without a version or with version 0 are new and 
+	 * are stored with version 1. The entity itself is not modified, its version is set once the statements are committed, 
+	 * see {@link #updateVersions(Iterable, RDFState)}. Cascaded entities are converted as they are, without a version change or check.
+	 * @param persistentEntity
+	 * @param source
+	 * @return
+	 */
+	private RDFState convertEntityToStatements(SemanticPersistentEntity<?> persistentEntity, Object source){
+		RDFState currentState = toStatementsConverter.convertEntityToStatements(persistentEntity, source);
+		if(!persistentEntity.hasVersionProperty()){
+			return currentState;
+		}
+		SemanticPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+		Number version = (Number) versionProperty.getValue(source, persistentEntity.getMappingPolicy());
+		boolean isNew = version == null || version.longValue() == 0;
+		IRI resourceId = persistentEntity.getResourceId(source);
+		Resource context = persistentEntity.getContext(source);
+		Value nextVersion = ObjectToLiteralConverter.getInstance().convert(conversionService.convert(isNew ? 1L : version.longValue() + 1, versionProperty.getType()));
+		Model statements = currentState.getCurrentStatements();
+		statements.remove(resourceId, versionProperty.getPredicate(), null);
+		statements.add(resourceId, versionProperty.getPredicate(), nextVersion, context != null ? new Resource[]{context} : new Resource[0]);
+		if(!isNew){
+			currentState.expectStatement(SimpleValueFactory.getInstance().createStatement(resourceId, versionProperty.getPredicate(), ObjectToLiteralConverter.getInstance().convert(version)));
+		}
+		return currentState;
+	}
+	
+	@Override
+	public void updateVersions(Iterable<?> entities, RDFState changes) {
+		Model written = changes.getCurrentStatements();
+		for(Object source : entities){
+			SemanticPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(source.getClass());
+			if(!persistentEntity.hasVersionProperty()){
+				continue;
+			}
+			SemanticPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+			for(Value version : written.filter(persistentEntity.getResourceId(source), versionProperty.getPredicate(), null).objects()){
+				if(version instanceof Literal){
+					versionProperty.setValue(source, conversionService.convert(((Literal) version).longValue(), versionProperty.getType()));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Set the materializer which converts the entities of bulk writes into statements, possibly in parallel. 
+	 * Defaults to sequential conversion on the calling thread.
+	 * @param statementGenerator
+	 */
+	public void setStatementGenerator(ParallelMaterializer statementGenerator) {
+		this.statementGenerator = statementGenerator;
+	}
+
 	@Override
 	public MappingContext<? extends SemanticPersistentEntity<?>, SemanticPersistentProperty> getMappingContext() {
 		return mappingContext;
@@ -83,72 +165,159 @@ public class SemanticEntityConverterImpl implements SemanticEntityConverter {
 
 	@Override
 	public <R> R read(Class<R> type, RDFState source) {
+		return read(type, source, new EntityIdentityMap());
+	}
+	
+	@Override
+	public <R> R read(Class<R> type, RDFState source, EntityIdentityMap identityMap) {
 		
 		@SuppressWarnings("unchecked")
 		final SemanticPersistentEntityImpl<R> persistentEntity = (SemanticPersistentEntityImpl<R>) mappingContext.getPersistentEntity(type);
-		R dao = entityInstantiator.createInstanceFromState(persistentEntity, source);
-		loadEntity(dao, source, persistentEntity.getMappingPolicy(), persistentEntity);
+		Iterator<Resource> subjects = source.getCurrentStatements().filter(null, RDF.TYPE, persistentEntity.getRDFType()).subjects().iterator();
+		Resource subject = subjects.hasNext() ? subjects.next() : null;
+		if(!(subject instanceof IRI)){
+			R dao = entityInstantiator.createInstanceFromState(persistentEntity, source);
+			loadEntity(dao, source, persistentEntity.getMappingPolicy(), persistentEntity, identityMap);
+			return dao;
+		}
+		IRI id = (IRI) subject;
+		R dao = identityMap.getInstance(persistentEntity, id, entityInstantiator);
+		if(identityMap.claimPopulation(persistentEntity, id)){
+			loadEntity(dao, source, persistentEntity.getMappingPolicy(), persistentEntity, identityMap);
+		}
 		return dao;
 	}
 
 	@Override
 	public void write(Object source, RDFState dbStatements) {
-		final SemanticPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(source.getClass());
-		final BeanWrapper<Object> wrapper = BeanWrapper.<Object>create(source, conversionService);
-        RDFState currentState = toStatementsConverter.convertEntityToStatements(persistentEntity, source);
-		if (dbStatements != null && !dbStatements.isEmpty()) {
-			//TODO optimize conversion of alias statements to actual statements
-			//Object dbObject = read(source.getClass(), dbStatements);
-			//RDFState dbState = toStatementsConverter.convertEntityToStatements(persistentEntity, dbObject);
-			//dbState.getCurrentStatements().removeAll(currentState.getCurrentStatements());
-			dbStatements.getCurrentStatements().removeAll(currentState.getCurrentStatements());
-        	currentState.setDeleteStatements(dbStatements.getCurrentStatements());
-        }
-		EntityState<Object, RDFState> state = sourceStateTransmitter.copyPropertiesTo(wrapper, currentState);
+		EntityState<Object, RDFState> state = getEntityState(source, dbStatements);
 		state.persist();
+		updateVersions(Collections.singleton(source), state.getPersistentState());
 	}
 	
 	@Override
 	public void write(Map<Object, RDFState> objectsAndState) {
+		RDFState mergedModel = getChanges(objectsAndState);
+		semanticDatabase.applyChanges(mergedModel.getDeleteStatements(), mergedModel.getCurrentStatements(), mergedModel.getExpectedStatements());
+		updateVersions(objectsAndState.keySet(), mergedModel);
+	}
+	
+	@Override
+	public void upsert(Collection<?> objects) {
+		Map<Object, RDFState> objectsAndState = new LinkedHashMap<Object, RDFState>();
+		Map<SemanticPersistentEntity<?>, List<IRI>> idsByEntity = new LinkedHashMap<SemanticPersistentEntity<?>, List<IRI>>();
+		for(Object source : objects){
+			objectsAndState.put(source, new RDFState());
+			SemanticPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(source.getClass());
+			List<IRI> ids = idsByEntity.get(persistentEntity);
+			if(ids == null){
+				ids = new ArrayList<IRI>();
+				idsByEntity.put(persistentEntity, ids);
+			}
+			ids.add(persistentEntity.getResourceId(source));
+		}
+		// an entity which fails to convert must not be skipped, otherwise its predicates would be cleared without inserting its statements
+		RDFState changes = mergeChanges(objectsAndState, false);
+		SparqlUpdate clearUpdate = new SparqlUpdate();
+		for(Entry<SemanticPersistentEntity<?>, List<IRI>> entry : idsByEntity.entrySet()){
+			for(UpdateOperation operation : toStatementsConverter.convertEntitiesToClearOperations(entry.getKey(), entry.getValue())){
+				clearUpdate.add(operation);
+			}
+		}
+		semanticDatabase.replaceStatements(clearUpdate, changes.getCurrentStatements());
+		updateVersions(objects, changes);
+	}
+	
+	@Override
+	public RDFState getChanges(Map<Object, RDFState> objectsAndState) {
+		return mergeChanges(objectsAndState, true);
+	}
+	
+	/**
+	 * Compute and merge the changes of all given entities.
+	 * @param objectsAndState
+	 * @param skipInvalid - true to log and skip the entities with a missing required property, false to fail with their exception
+	 * @return
+	 */
+	private RDFState mergeChanges(Map<Object, RDFState> objectsAndState, final boolean skipInvalid) {
+		List<RDFState> changesPerEntity = statementGenerator.materialize(objectsAndState.entrySet(), new Converter<Entry<Object, RDFState>, RDFState>() {
+			@Override
+			public RDFState convert(Entry<Object, RDFState> entry) {
+				try{
+					return getChanges(entry.getKey(), entry.getValue());
+				} catch(RequiredPropertyException e){
+					if(!skipInvalid){
+						throw e;
+					}
+					logger.error(e.getMessage(), e);
+					return null;
+				}
+			}
+		});
 		RDFState mergedModel = new RDFState();
-		for(Entry<Object, RDFState> entry : objectsAndState.entrySet()){
-			try{
-				Object source = entry.getKey();
-				RDFState dbStatements = entry.getValue();
-				final SemanticPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(source.getClass());
-				final BeanWrapper<Object> wrapper = BeanWrapper.<Object>create(source, conversionService);
-		        RDFState currentState = toStatementsConverter.convertEntityToStatements(persistentEntity, source);
-				if (dbStatements != null && !dbStatements.isEmpty()) {
-					//TODO optimize conversion of alias statements to actual statements
-					//Object dbObject = read(source.getClass(), dbStatements);
-					//RDFState dbState = toStatementsConverter.convertEntityToStatements(persistentEntity, dbObject);
-					//dbState.getCurrentStatements().removeAll(currentState.getCurrentStatements());
-					dbStatements.getCurrentStatements().removeAll(currentState.getCurrentStatements());
-		        	currentState.setDeleteStatements(dbStatements.getCurrentStatements());
-		        }
-				EntityState<Object, RDFState> state = sourceStateTransmitter.copyPropertiesTo(wrapper, currentState);
-				mergedModel.merge(state.getPersistentState());
-			} catch(RequiredPropertyException e){
-				logger.error(e.getMessage(), e);
+		for(RDFState changes : changesPerEntity){
+			if(changes != null){
+				mergedModel.merge(changes);
+			}
+		}
+		return mergedModel;
+	}
+	
+	@Override
+	public RDFState getChanges(Object source, RDFState dbStatements) {
+		return getEntityState(source, dbStatements).getPersistentState();
+	}
+	
+	private EntityState<Object, RDFState> getEntityState(Object source, RDFState dbStatements) {
+		final SemanticPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(source.getClass());
+		final BeanWrapper<Object> wrapper = BeanWrapper.<Object>create(source, conversionService);
+        RDFState currentState = convertEntityToStatements(persistentEntity, source);
+		diffWithStoredState(currentState, dbStatements);
+		return sourceStateTransmitter.copyPropertiesTo(wrapper, currentState);
+	}
+	
+	/**
+	 * Reduce the statements of an entity to the changes against its stored state: the stored statements which are 
+	 * no longer present become the delete statements and the statements which are already stored are not added again.
+	 * @param currentState - the statements of the entity, reduced to the ones to add
+	 * @param storedState - the statements of the entity in the store or in its snapshot; consumed by the diff
+	 */
+	private void diffWithStoredState(RDFState currentState, RDFState storedState){
+		if (storedState != null && !storedState.isEmpty()) {
+			//TODO optimize conversion of alias statements to actual statements
+			Model storedStatements = storedState.getCurrentStatements();
+			Model currentStatements = currentState.getCurrentStatements();
+			List<Statement> unchanged = new ArrayList<Statement>();
+			for(Statement statement : storedStatements){
+				if(currentStatements.contains(statement)){
+					unchanged.add(statement);
+				}
 			}
+			storedStatements.removeAll(unchanged);
+			currentStatements.removeAll(unchanged);
+			currentState.setDeleteStatements(storedStatements);
 		}
-		semanticDatabase.removeStatements(mergedModel.getDeleteStatements());
-		semanticDatabase.addStatements(mergedModel.getCurrentStatements());
 	}
 
 	@Override
 	public <R> R loadEntity(R entity, RDFState source,
 			MappingPolicy mappingPolicy,
 			SemanticPersistentEntity<R> persistentEntity) {
+		return loadEntity(entity, source, mappingPolicy, persistentEntity, new EntityIdentityMap());
+	}
+	
+	private <R> R loadEntity(R entity, RDFState source,
+			MappingPolicy mappingPolicy,
+			SemanticPersistentEntity<R> persistentEntity, EntityIdentityMap identityMap) {
 		
 		final BeanWrapper<R> wrapper = BeanWrapper.<R>create(entity, conversionService);
         sourceStateTransmitter.copyPropertiesFrom(wrapper, source, persistentEntity, mappingPolicy);
-        cascadeFetch(entity, persistentEntity, wrapper, source);
+        cascadeFetch(entity, persistentEntity, wrapper, source, identityMap);
         
         return entity;
 	}
 	
-	private <R> void cascadeFetch(final R entity, final SemanticPersistentEntity<R> persistentEntity, final BeanWrapper<R> wrapper, final RDFState source) {
+	private <R> void cascadeFetch(final R entity, final SemanticPersistentEntity<R> persistentEntity, final BeanWrapper<R> wrapper, final RDFState source, final EntityIdentityMap identityMap) {
 		persistentEntity.doWithAssociations(new AssociationHandler<SemanticPersistentProperty>() {
             @Override
             public void doWithAssociation(Association<SemanticPersistentProperty> association) {
@@ -169,13 +338,13 @@ public class SemanticEntityConverterImpl implements SemanticEntityConverter {
             		for(Value associatedEntityId : associatedEntityIds){
                 		if(associatedEntityId instanceof IRI){
                 			IRI associatedEntityIRI = (IRI) associatedEntityId;
-                			Object associatedEntity = entityInstantiator.createInstance(associatedPersistentEntity, (IRI) associatedEntityId);
+                			Object associatedEntity = getAssociatedInstance(associatedPersistentEntity, associatedEntityIRI, mappingPolicy, identityMap);
                 			associationValuesList.add(associatedEntity);
-                			if (mappingPolicy.shouldCascade(Cascade.GET)) {
+                			if (mappingPolicy.shouldCascade(Cascade.GET) && identityMap.claimAssociationPopulation(associatedPersistentEntity, associatedEntityIRI)) {
                                 RDFState associatedEntityState = new RDFState(source.getCurrentStatements().filter(associatedEntityIRI, null, null));
                                 final BeanWrapper<Object> associatedWrapper = BeanWrapper.<Object>create(associatedEntity, conversionService);
                                 sourceStateTransmitter.copyPropertiesFrom(associatedWrapper, associatedEntityState, associatedPersistentEntity, mappingPolicy);
-                                cascadeFetch(associatedEntity, associatedPersistentEntity, associatedWrapper, source);
+                                cascadeFetch(associatedEntity, associatedPersistentEntity, associatedWrapper, source, identityMap);
                             }
                 		}
                 	}
@@ -184,12 +353,12 @@ public class SemanticEntityConverterImpl implements SemanticEntityConverter {
             	else{
             		if(!associatedEntityIds.isEmpty()){
             			IRI associatedEntityIRI = (IRI) associatedEntityIds.iterator().next();
-            			Object associatedEntity = entityInstantiator.createInstance(associatedPersistentEntity, associatedEntityIRI);
-            			if (mappingPolicy.shouldCascade(Cascade.GET)) {
+            			Object associatedEntity = getAssociatedInstance(associatedPersistentEntity, associatedEntityIRI, mappingPolicy, identityMap);
+            			if (mappingPolicy.shouldCascade(Cascade.GET) && identityMap.claimAssociationPopulation(associatedPersistentEntity, associatedEntityIRI)) {
             				 RDFState associatedEntityState = new RDFState(source.getCurrentStatements().filter(associatedEntityIRI, null, null));
                              final BeanWrapper<Object> associatedWrapper = BeanWrapper.<Object>create(associatedEntity, conversionService);
                              sourceStateTransmitter.copyPropertiesFrom(associatedWrapper, associatedEntityState, associatedPersistentEntity, mappingPolicy);
-                             cascadeFetch(associatedEntity, associatedPersistentEntity, associatedWrapper, source);
+                             cascadeFetch(associatedEntity, associatedPersistentEntity, associatedWrapper, source, identityMap);
                         }
             			sourceStateTransmitter.setProperty(wrapper, property, associatedEntity);
             			
@@ -199,4 +368,21 @@ public class SemanticEntityConverterImpl implements SemanticEntityConverter {
         });
 	}
 
+	/**
+	 * Get the instance of an associated entity. Associations which are not fetched with their owner are represented 
+	 * by lazy-loading proxies if a {@link LazyAssociationLoader} is set, otherwise by instances holding only their id.
+	 * @param associatedPersistentEntity
+	 * @param id
+	 * @param mappingPolicy
+	 * @param identityMap
+	 * @return
+	 */
+	private Object getAssociatedInstance(SemanticPersistentEntity<Object> associatedPersistentEntity, IRI id, MappingPolicy mappingPolicy, EntityIdentityMap identityMap){
+		if(lazyAssociationLoader != null && !mappingPolicy.shouldCascade(Cascade.GET) && lazyAssociationLoader.canProxy(associatedPersistentEntity)){
+			Object existing = identityMap.getExistingInstance(associatedPersistentEntity, id);
+			return existing != null ? existing : lazyAssociationLoader.createProxy(associatedPersistentEntity, id, identityMap);
+		}
+		return identityMap.getInstance(associatedPersistentEntity, id, entityInstantiator);
+	}
+
 }
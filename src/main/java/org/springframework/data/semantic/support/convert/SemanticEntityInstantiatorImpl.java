@@ -17,14 +17,13 @@ package org.springframework.data.semantic.support.convert;
 
 import org.eclipse.rdf4j.model.IRI;
 import org.springframework.data.convert.EntityInstantiator;
-import org.springframework.data.convert.ReflectionEntityInstantiator;
 import org.springframework.data.semantic.convert.SemanticEntityInstantiator;
 import org.springframework.data.semantic.core.RDFState;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 
 public class SemanticEntityInstantiatorImpl implements SemanticEntityInstantiator{
 
-	private EntityInstantiator instantiator = ReflectionEntityInstantiator.INSTANCE;
+	private EntityInstantiator instantiator = new MethodHandleEntityInstantiator();
 
 	@Override
 	public <T> T createInstanceFromState(SemanticPersistentEntity<T> entity,
@@ -15,8 +15,10 @@
  */
 package org.springframework.data.semantic.support.convert;
 
+import java.util.Collection;
 import java.util.Map;
 
+import org.springframework.data.semantic.convert.EntityIdentityMap;
 import org.springframework.data.semantic.convert.SemanticEntityConverter;
 import org.springframework.data.semantic.convert.SemanticEntityPersister;
 import org.springframework.data.semantic.core.RDFState;
@@ -38,6 +40,14 @@ public class SemanticEntityPersisterImpl implements SemanticEntityPersister{
         }
 		return entityConverter.read(type, statements);
 	}
+	
+	@Override
+	public <T> T createEntityFromState(RDFState statements, Class<T> type, EntityIdentityMap identityMap) {
+		if (statements.isEmpty()) {
+            return null;
+        }
+		return entityConverter.read(type, statements, identityMap);
+	}
 
 
 	@Override
@@ -55,4 +65,11 @@ public class SemanticEntityPersisterImpl implements SemanticEntityPersister{
 		return entitiesToExistingState.keySet();
 	}
 
+
+	@Override
+	public <T> Iterable<T> upsertEntities(Collection<T> entities) {
+		entityConverter.upsert(entities);
+		return entities;
+	}
+
 }
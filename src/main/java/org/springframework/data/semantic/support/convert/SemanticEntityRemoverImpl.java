@@ -15,19 +15,34 @@
  */
 package org.springframework.data.semantic.support.convert;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.springframework.data.semantic.convert.SemanticEntityRemover;
 import org.springframework.data.semantic.core.RDFState;
 import org.springframework.data.semantic.core.SemanticDatabase;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.query.model.GroupPattern;
+import org.springframework.data.semantic.query.model.ModifyOperation;
+import org.springframework.data.semantic.query.model.QueryTerm;
+import org.springframework.data.semantic.query.model.SparqlUpdate;
+import org.springframework.data.semantic.query.model.TriplePattern;
+import org.springframework.data.semantic.query.model.UpdateOperation;
 import org.springframework.data.semantic.support.MappingPolicyImpl;
 import org.springframework.data.semantic.support.convert.handlers.PropertiesToPatternsHandler;
 import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
 
 public class SemanticEntityRemoverImpl implements SemanticEntityRemover {
 	
+	/**
+	 * The maximal number of statements removed in one transaction by a batched delete.
+	 */
+	private static final int MAX_CHUNK_STATEMENTS = 50000;
+	
 	private SemanticDatabase semanticDb;
 	private EntityToStatementsConverter toStatementsConverter;
 	private SemanticMappingContext mappingContext;
@@ -39,36 +54,50 @@ public class SemanticEntityRemoverImpl implements SemanticEntityRemover {
 	}
 
 	@Override
-	public <T> void delete(SemanticPersistentEntity<T> persistentEntity,
+	public <T> RDFState delete(SemanticPersistentEntity<T> persistentEntity,
 			T entity) {
 		
 		RDFState state = this.toStatementsConverter.convertEntityToDeleteStatements(persistentEntity, entity);
-		this.semanticDb.removeStatements(state.getDeleteStatements());
+		this.semanticDb.applyChanges(state.getDeleteStatements(), Collections.<Statement>emptyList());
+		return state;
+	}
+
+	@Override
+	public RDFState delete(Collection<?> entities) {
+		RDFState deleted = new RDFState();
+		RDFState chunk = new RDFState();
+		for(Object entity : entities){
+			chunk.merge(this.toStatementsConverter.convertEntityToDeleteStatements(this.mappingContext.getPersistentEntity(entity.getClass()), entity));
+			if(chunk.getDeleteStatements().size() >= MAX_CHUNK_STATEMENTS){
+				this.semanticDb.applyChanges(chunk.getDeleteStatements(), Collections.<Statement>emptyList());
+				deleted.merge(chunk);
+				chunk = new RDFState();
+			}
+		}
+		this.semanticDb.applyChanges(chunk.getDeleteStatements(), Collections.<Statement>emptyList());
+		deleted.merge(chunk);
+		return deleted;
+	}
+
+	@Override
+	public <T> void delete(SemanticPersistentEntity<T> persistentEntity, IRI resourceId) {
+		SparqlUpdate update = new SparqlUpdate();
+		for(UpdateOperation operation : this.toStatementsConverter.convertIdsToDeleteOperations(persistentEntity, Collections.singletonList(resourceId))){
+			update.add(operation);
+		}
+		this.semanticDb.executeUpdate(update);
 	}
 
 	@Override
 	public <T> void deleteAll(SemanticPersistentEntity<T> persistentEntity) {
-		String binding = "?uri";
-		StringBuilder sb = new StringBuilder();
-		sb.append("DELETE { ");
-		sb.append(binding);
-		sb.append(" <");
-		sb.append(RDF.TYPE.stringValue());
-		sb.append("> <");
-		sb.append(persistentEntity.getRDFType().stringValue());
-		sb.append("> . ");
-		PropertiesToPatternsHandler handler = new PropertiesToPatternsHandler(sb, binding, new HashMap<String, Object>(), mappingContext, false, true, MappingPolicyImpl.DEFAULT_POLICY);
+		QueryTerm binding = QueryTerm.var("uri");
+		TriplePattern typePattern = new TriplePattern(binding, RDF.TYPE, persistentEntity.getRDFType());
+		GroupPattern deletePatterns = new GroupPattern(typePattern);
+		PropertiesToPatternsHandler handler = new PropertiesToPatternsHandler(deletePatterns, binding, new HashMap<String, Object>(), mappingContext, false, true, MappingPolicyImpl.DEFAULT_POLICY);
 		persistentEntity.doWithProperties(handler);
 		persistentEntity.doWithAssociations(handler);
-		sb.append("} WHERE { ");
-		sb.append(binding);
-		sb.append(" <");
-		sb.append(RDF.TYPE.stringValue());
-		sb.append("> <");
-		sb.append(persistentEntity.getRDFType().stringValue());
-		sb.append("> }");
 		
-		this.semanticDb.executeUpdateStatement(sb.toString());
+		this.semanticDb.executeUpdate(new SparqlUpdate(new ModifyOperation(deletePatterns.getTriplePatterns(), null, new GroupPattern(typePattern))));
 	}
 	
 	
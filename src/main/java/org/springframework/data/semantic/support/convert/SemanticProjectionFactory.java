@@ -0,0 +1,287 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
+import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Creates projections of semantic entities directly from the statements retrieved for them.
+ * Interface projections are backed by a map of the projected values, DTO projections are instantiated
+ * through their default constructor and populated field by field. No entity state is created for a projection.
+ *
+ */
+public class SemanticProjectionFactory {
+
+	private static final TypeDescriptor STRING_TYPE = TypeDescriptor.valueOf(String.class);
+
+	private final ConversionService conversionService;
+
+	private final Map<Class<?>, ProjectionInformation> projectionInformation = new ConcurrentHashMap<Class<?>, ProjectionInformation>();
+
+	public SemanticProjectionFactory(ConversionService conversionService){
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Check if the given type can be used as a projection of the given domain class: an interface or a class which is not 
+	 * a persistent entity and neither a super- nor a subtype of the domain class.
+	 * @param projectionType
+	 * @param domainClass
+	 * @param mappingContext
+	 * @return
+	 */
+	public static boolean isProjection(Class<?> projectionType, Class<?> domainClass, SemanticMappingContext mappingContext){
+		if(projectionType == null || projectionType.isAssignableFrom(domainClass) || domainClass.isAssignableFrom(projectionType) 
+				|| BeanUtils.isSimpleProperty(projectionType)){
+			return false;
+		}
+		return projectionType.isInterface() || !mappingContext.isSemanticPersistentEntity(projectionType);
+	}
+
+	/**
+	 * Get the names of the persistent properties of the entity which are exposed by the projection type.
+	 * @param projectionType
+	 * @param persistentEntity
+	 * @return
+	 */
+	public Set<String> getProjectedProperties(Class<?> projectionType, SemanticPersistentEntity<?> persistentEntity){
+		Set<String> projectedProperties = new HashSet<String>();
+		for(String name : getProjectionInformation(projectionType).getPropertyNames()){
+			if(persistentEntity.getPersistentProperty(name) != null){
+				projectedProperties.add(name);
+			}
+		}
+		return projectedProperties;
+	}
+
+	/**
+	 * Create a projection of the given type from the statements of a single entity.
+	 * @param projectionType
+	 * @param persistentEntity
+	 * @param statements - the statements retrieved for the entity
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <P> P createProjection(Class<P> projectionType, SemanticPersistentEntity<?> persistentEntity, Model statements){
+		ProjectionInformation information = getProjectionInformation(projectionType);
+		Iterator<Resource> subjects = statements.filter(null, RDF.TYPE, persistentEntity.getRDFType()).subjects().iterator();
+		if(!subjects.hasNext()){
+			return null;
+		}
+		Resource subject = subjects.next();
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+		for(Map.Entry<String, TypeDescriptor> property : information.getPropertyTypes().entrySet()){
+			SemanticPersistentProperty persistentProperty = persistentEntity.getPersistentProperty(property.getKey());
+			if(persistentProperty == null){
+				continue;
+			}
+			Object value;
+			if(persistentProperty.isIdProperty()){
+				value = convertValue(subject, property.getValue());
+			}
+			else{
+				Collection<Value> objects = statements.filter(subject, ValueUtils.createIRI(persistentProperty.getAliasPredicate()), null).objects();
+				value = convertValues(objects, property.getValue());
+			}
+			if(value != null){
+				values.put(property.getKey(), value);
+			}
+		}
+		if(projectionType.isInterface()){
+			return (P) Proxy.newProxyInstance(projectionType.getClassLoader(), new Class<?>[]{projectionType}, new ProjectionInvocationHandler(projectionType, information, values));
+		}
+		P projection = BeanUtils.instantiateClass(projectionType);
+		for(Map.Entry<String, Object> value : values.entrySet()){
+			ReflectionUtils.setField(information.getFields().get(value.getKey()), projection, value.getValue());
+		}
+		return projection;
+	}
+
+	private Object convertValues(Collection<Value> objects, TypeDescriptor targetType){
+		if(targetType.isCollection() || targetType.isArray()){
+			TypeDescriptor elementType = targetType.getElementTypeDescriptor() != null ? targetType.getElementTypeDescriptor() : STRING_TYPE;
+			List<Object> elements = new ArrayList<Object>(objects.size());
+			for(Value object : objects){
+				elements.add(convertValue(object, elementType));
+			}
+			if(targetType.isArray()){
+				Object array = Array.newInstance(elementType.getType(), elements.size());
+				for(int i = 0; i < elements.size(); i++){
+					Array.set(array, i, elements.get(i));
+				}
+				return array;
+			}
+			Collection<Object> collection = CollectionFactory.createCollection(targetType.getType(), elementType.getType(), elements.size());
+			collection.addAll(elements);
+			return collection;
+		}
+		else if(objects.isEmpty()){
+			return null;
+		}
+		return convertValue(objects.iterator().next(), targetType);
+	}
+
+	private Object convertValue(Value value, TypeDescriptor targetType){
+		if(targetType.getObjectType().isInstance(value)){
+			return value;
+		}
+		return conversionService.convert(value.stringValue(), STRING_TYPE, targetType);
+	}
+
+	private ProjectionInformation getProjectionInformation(Class<?> projectionType){
+		ProjectionInformation information = projectionInformation.get(projectionType);
+		if(information == null){
+			information = new ProjectionInformation(projectionType);
+			projectionInformation.put(projectionType, information);
+		}
+		return information;
+	}
+
+	/**
+	 * The properties exposed by a projection type: the getters of an interface or the fields of a DTO.
+	 */
+	private static class ProjectionInformation {
+
+		private final Map<String, TypeDescriptor> propertyTypes = new LinkedHashMap<String, TypeDescriptor>();
+		private final Map<Method, String> getters = new HashMap<Method, String>();
+		private final Map<String, Field> fields = new HashMap<String, Field>();
+
+		public ProjectionInformation(Class<?> projectionType){
+			if(projectionType.isInterface()){
+				Set<Class<?>> interfaces = new LinkedHashSet<Class<?>>();
+				interfaces.add(projectionType);
+				interfaces.addAll(ClassUtils.getAllInterfacesForClassAsSet(projectionType));
+				for(Class<?> type : interfaces){
+					for(PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)){
+						Method getter = descriptor.getReadMethod();
+						if(getter != null){
+							propertyTypes.put(descriptor.getName(), new TypeDescriptor(new MethodParameter(getter, -1)));
+							getters.put(getter, descriptor.getName());
+						}
+					}
+				}
+			}
+			else{
+				Class<?> type = projectionType;
+				while(type != null && !Object.class.equals(type)){
+					for(Field field : type.getDeclaredFields()){
+						if(!Modifier.isStatic(field.getModifiers()) && !fields.containsKey(field.getName())){
+							ReflectionUtils.makeAccessible(field);
+							propertyTypes.put(field.getName(), new TypeDescriptor(field));
+							fields.put(field.getName(), field);
+						}
+					}
+					type = type.getSuperclass();
+				}
+			}
+		}
+
+		public Set<String> getPropertyNames(){
+			return Collections.unmodifiableSet(propertyTypes.keySet());
+		}
+
+		public Map<String, TypeDescriptor> getPropertyTypes() {
+			return propertyTypes;
+		}
+
+		public Map<Method, String> getGetters() {
+			return getters;
+		}
+
+		public Map<String, Field> getFields() {
+			return fields;
+		}
+	}
+
+	/**
+	 * Backs interface projections with the map of projected values.
+	 */
+	private static class ProjectionInvocationHandler implements InvocationHandler {
+
+		private final Class<?> projectionType;
+		private final ProjectionInformation information;
+		private final Map<String, Object> values;
+
+		public ProjectionInvocationHandler(Class<?> projectionType, ProjectionInformation information, Map<String, Object> values){
+			this.projectionType = projectionType;
+			this.information = information;
+			this.values = values;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if(ReflectionUtils.isEqualsMethod(method)){
+				Object other = args[0];
+				if(other == null || !Proxy.isProxyClass(other.getClass()) || !(Proxy.getInvocationHandler(other) instanceof ProjectionInvocationHandler)){
+					return false;
+				}
+				ProjectionInvocationHandler otherHandler = (ProjectionInvocationHandler) Proxy.getInvocationHandler(other);
+				return projectionType.equals(otherHandler.projectionType) && values.equals(otherHandler.values);
+			}
+			else if(ReflectionUtils.isHashCodeMethod(method)){
+				return values.hashCode();
+			}
+			else if(ReflectionUtils.isToStringMethod(method)){
+				return projectionType.getSimpleName() + values;
+			}
+			String property = information.getGetters().get(method);
+			if(property == null){
+				throw new MappingException("Method "+method+" is not a property of the projection "+projectionType.getName());
+			}
+			Object value = values.get(property);
+			if(value == null && method.getReturnType().isPrimitive()){
+				return Array.get(Array.newInstance(method.getReturnType(), 1), 0);
+			}
+			return value;
+		}
+	}
+
+}
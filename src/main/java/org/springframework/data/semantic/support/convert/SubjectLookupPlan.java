@@ -0,0 +1,150 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.springframework.data.semantic.query.model.ConstructQuery;
+
+/**
+ * Produces the result of a molecule {@link ConstructQuery} of a single resource from the statements 
+ * of that resource, as returned by a subject lookup. The query must only consist of triple patterns 
+ * on the resource, either joined or as alternatives of each other (see {@link SubjectLookupPlanner}).
+ *
+ */
+public class SubjectLookupPlan {
+	
+	private final List<Set<Pattern>> joinedAlternatives;
+	private final List<Template> templates;
+	private final Set<IRI> predicates = new HashSet<IRI>();
+	
+	SubjectLookupPlan(List<Set<Pattern>> joinedAlternatives, List<Template> templates){
+		this.joinedAlternatives = joinedAlternatives;
+		this.templates = templates;
+		for(Set<Pattern> alternatives : joinedAlternatives){
+			for(Pattern pattern : alternatives){
+				predicates.add(pattern.predicate);
+			}
+		}
+	}
+	
+	/**
+	 * Create the statements the molecule query would have returned for the given resource.
+	 * @param resource
+	 * @param statements - all statements with the resource as subject
+	 * @return
+	 */
+	public Model createModel(IRI resource, Collection<Statement> statements){
+		Map<IRI, List<Value>> predicateToValues = new HashMap<IRI, List<Value>>();
+		for(Statement statement : statements){
+			if(predicates.contains(statement.getPredicate())){
+				List<Value> values = predicateToValues.get(statement.getPredicate());
+				if(values == null){
+					values = new ArrayList<Value>();
+					predicateToValues.put(statement.getPredicate(), values);
+				}
+				values.add(statement.getObject());
+			}
+		}
+		Model model = new LinkedHashModel();
+		for(Set<Pattern> alternatives : joinedAlternatives){
+			if(!matchesAny(alternatives, predicateToValues)){
+				return model;
+			}
+		}
+		for(Template template : templates){
+			if(template.source == null){
+				model.add(resource, template.predicate, template.object);
+			}
+			else if(template.source.matches(predicateToValues)){
+				for(Value value : predicateToValues.get(template.source.predicate)){
+					model.add(resource, template.predicate, value);
+				}
+			}
+		}
+		return model;
+	}
+	
+	private static boolean matchesAny(Set<Pattern> alternatives, Map<IRI, List<Value>> predicateToValues){
+		for(Pattern pattern : alternatives){
+			if(pattern.matches(predicateToValues)){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * A triple pattern on the resource with either a fixed or a variable object.
+	 */
+	static class Pattern {
+		
+		private final IRI predicate;
+		private final Value object;
+		
+		Pattern(IRI predicate, Value object){
+			this.predicate = predicate;
+			this.object = object;
+		}
+		
+		boolean matches(Map<IRI, List<Value>> predicateToValues){
+			List<Value> values = predicateToValues.get(predicate);
+			return values != null && (object == null || values.contains(object));
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if(!(obj instanceof Pattern)){
+				return false;
+			}
+			Pattern other = (Pattern) obj;
+			return predicate.equals(other.predicate) && (object == null ? other.object == null : object.equals(other.object));
+		}
+		
+		@Override
+		public int hashCode() {
+			return predicate.hashCode() * 31 + (object != null ? object.hashCode() : 0);
+		}
+	}
+	
+	/**
+	 * A statement of the query template: either constant or taking its objects from the values of a pattern.
+	 */
+	static class Template {
+		
+		private final IRI predicate;
+		private final Value object;
+		private final Pattern source;
+		
+		Template(IRI predicate, Value object, Pattern source){
+			this.predicate = predicate;
+			this.object = object;
+			this.source = source;
+		}
+	}
+
+}
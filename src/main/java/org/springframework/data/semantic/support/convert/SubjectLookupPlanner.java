@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.springframework.data.semantic.mapping.MappingPolicy;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.query.model.ConstructQuery;
+import org.springframework.data.semantic.query.model.GraphPattern;
+import org.springframework.data.semantic.query.model.GroupPattern;
+import org.springframework.data.semantic.query.model.QueryTerm;
+import org.springframework.data.semantic.query.model.TriplePattern;
+import org.springframework.data.semantic.query.model.UnionPattern;
+import org.springframework.data.semantic.support.convert.SubjectLookupPlan.Pattern;
+import org.springframework.data.semantic.support.convert.SubjectLookupPlan.Template;
+import org.springframework.data.semantic.support.util.ValueUtils;
+
+/**
+ * Decides whether the molecule of an entity can be retrieved with a subject lookup instead of a graph query. 
+ * This is the case for flat entities, i.e. when the molecule query only matches statements with the entity as subject:
+ * no cascaded or incoming associations. The decision is taken once per entity and mapping policy.
+ *
+ */
+public class SubjectLookupPlanner {
+	
+	private static final IRI PLAN_RESOURCE = ValueUtils.createIRI("urn:spring-data-semantic:plan-resource");
+	
+	private static final SubjectLookupPlan NOT_APPLICABLE = new SubjectLookupPlan(new ArrayList<Set<Pattern>>(), new ArrayList<Template>());
+	
+	private final EntityToQueryConverter entityToQueryConverter;
+	
+	private final Map<SemanticPersistentEntity<?>, Map<MappingPolicy, SubjectLookupPlan>> plans = new ConcurrentHashMap<SemanticPersistentEntity<?>, Map<MappingPolicy, SubjectLookupPlan>>();
+	
+	public SubjectLookupPlanner(EntityToQueryConverter entityToQueryConverter){
+		this.entityToQueryConverter = entityToQueryConverter;
+	}
+	
+	/**
+	 * Get the plan retrieving the molecule of an entity with a subject lookup.
+	 * @param entity
+	 * @param globalMappingPolicy
+	 * @return the plan or null if the molecule cannot be retrieved with a subject lookup
+	 */
+	public SubjectLookupPlan getPlan(SemanticPersistentEntity<?> entity, MappingPolicy globalMappingPolicy){
+		Map<MappingPolicy, SubjectLookupPlan> entityPlans = plans.get(entity);
+		if(entityPlans == null){
+			entityPlans = new ConcurrentHashMap<MappingPolicy, SubjectLookupPlan>();
+			plans.put(entity, entityPlans);
+		}
+		SubjectLookupPlan plan = entityPlans.get(globalMappingPolicy);
+		if(plan == null){
+			plan = createPlan(entityToQueryConverter.getGraphQueryForResource(PLAN_RESOURCE, entity, globalMappingPolicy));
+			entityPlans.put(globalMappingPolicy, plan != null ? plan : NOT_APPLICABLE);
+		}
+		return plan != NOT_APPLICABLE ? plan : null;
+	}
+	
+	private SubjectLookupPlan createPlan(ConstructQuery query){
+		Map<String, Pattern> variableToPattern = new HashMap<String, Pattern>();
+		List<Set<Pattern>> joinedAlternatives = new ArrayList<Set<Pattern>>();
+		for(GraphPattern element : query.getWhere().getPatterns()){
+			Set<Pattern> alternatives = new LinkedHashSet<Pattern>();
+			if(element instanceof UnionPattern){
+				for(GraphPattern alternative : ((UnionPattern) element).getPatterns()){
+					if(!addPattern(alternative, alternatives, variableToPattern)){
+						return null;
+					}
+				}
+			}
+			else if(!addPattern(element, alternatives, variableToPattern)){
+				return null;
+			}
+			joinedAlternatives.add(alternatives);
+		}
+		List<Template> templates = new ArrayList<Template>();
+		for(TriplePattern triple : query.getTemplate()){
+			if(!isResource(triple.getSubject()) || triple.getPredicate().isVariable()){
+				return null;
+			}
+			IRI predicate = (IRI) triple.getPredicate().getValue();
+			if(!triple.getObject().isVariable()){
+				templates.add(new Template(predicate, triple.getObject().getValue(), null));
+			}
+			else if(variableToPattern.containsKey(triple.getObject().getName())){
+				templates.add(new Template(predicate, null, variableToPattern.get(triple.getObject().getName())));
+			}
+		}
+		return new SubjectLookupPlan(joinedAlternatives, templates);
+	}
+	
+	private boolean addPattern(GraphPattern pattern, Set<Pattern> alternatives, Map<String, Pattern> variableToPattern){
+		while(pattern instanceof GroupPattern && ((GroupPattern) pattern).getPatterns().size() == 1){
+			pattern = ((GroupPattern) pattern).getPatterns().get(0);
+		}
+		if(!(pattern instanceof TriplePattern)){
+			return false;
+		}
+		TriplePattern triple = (TriplePattern) pattern;
+		if(!isResource(triple.getSubject()) || triple.getPredicate().isVariable()){
+			return false;
+		}
+		QueryTerm object = triple.getObject();
+		if(object.isVariable()){
+			if(variableToPattern.containsKey(object.getName())){
+				return false;
+			}
+			Pattern result = new Pattern((IRI) triple.getPredicate().getValue(), null);
+			variableToPattern.put(object.getName(), result);
+			alternatives.add(result);
+		}
+		else{
+			alternatives.add(new Pattern((IRI) triple.getPredicate().getValue(), object.getValue()));
+		}
+		return true;
+	}
+	
+	private static boolean isResource(QueryTerm term){
+		return !term.isVariable() && PLAN_RESOURCE.equals(term.getValue());
+	}
+
+}
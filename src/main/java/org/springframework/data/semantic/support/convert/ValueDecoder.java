@@ -0,0 +1,34 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import org.eclipse.rdf4j.model.Value;
+
+/**
+ * Decodes the RDF value of a property directly into the type of the property.
+ *
+ */
+public interface ValueDecoder {
+	
+	/**
+	 * 
+	 * @param value
+	 * @return the decoded value or null if the value cannot be decoded directly, 
+	 * in which case its string form should be converted instead
+	 */
+	Object decode(Value value);
+
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The {@link ValueDecoder}s for property types. Literals are decoded through their native accessors, 
+ * so numbers, booleans and dates are not rendered to strings and parsed again by the conversion service. 
+ * Decoders are resolved once per type.
+ *
+ */
+public abstract class ValueDecoders {
+	
+	private static final Map<Class<?>, ValueDecoder> LITERAL_DECODERS = new HashMap<Class<?>, ValueDecoder>();
+	
+	static {
+		LITERAL_DECODERS.put(Integer.class, new LiteralDecoder() {
+			@Override
+			protected Object decodeLiteral(Literal literal) {
+				return literal.intValue();
+			}
+		});
+		LITERAL_DECODERS.put(Long.class, new LiteralDecoder() {
+			@Override
+			protected Object decodeLiteral(Literal literal) {
+				return literal.longValue();
+			}
+		});
+		LITERAL_DECODERS.put(Short.class, new LiteralDecoder() {
+			@Override
+			protected Object decodeLiteral(Literal literal) {
+				return literal.shortValue();
+			}
+		});
+		LITERAL_DECODERS.put(Byte.class, new LiteralDecoder() {
+			@Override
+			protected Object decodeLiteral(Literal literal) {
+				return literal.byteValue();
+			}
+		});
+		LITERAL_DECODERS.put(Float.class, new LiteralDecoder() {
+			@Override
+			protected Object decodeLiteral(Literal literal) {
+				return literal.floatValue();
+			}
+		});
+		LITERAL_DECODERS.put(Double.class, new LiteralDecoder() {
+			@Override
+			protected Object decodeLiteral(Literal literal) {
+				return literal.doubleValue();
+			}
+		});
+		LITERAL_DECODERS.put(Boolean.class, new LiteralDecoder() {
+			@Override
+			protected Object decodeLiteral(Literal literal) {
+				return literal.booleanValue();
+			}
+		});
+		LITERAL_DECODERS.put(BigInteger.class, new LiteralDecoder() {
+			@Override
+			protected Object decodeLiteral(Literal literal) {
+				return literal.integerValue();
+			}
+		});
+		LITERAL_DECODERS.put(BigDecimal.class, new LiteralDecoder() {
+			@Override
+			protected Object decodeLiteral(Literal literal) {
+				return literal.decimalValue();
+			}
+		});
+		LITERAL_DECODERS.put(XMLGregorianCalendar.class, new LiteralDecoder() {
+			@Override
+			protected Object decodeLiteral(Literal literal) {
+				return literal.calendarValue();
+			}
+		});
+		LITERAL_DECODERS.put(Date.class, new LiteralDecoder() {
+			@Override
+			protected Object decodeLiteral(Literal literal) {
+				return literal.calendarValue().toGregorianCalendar().getTime();
+			}
+		});
+	}
+	
+	private static final ValueDecoder STRING_DECODER = new ValueDecoder() {
+		@Override
+		public Object decode(Value value) {
+			return value.stringValue();
+		}
+	};
+	
+	private static final ClassValue<ValueDecoder> DECODERS = new ClassValue<ValueDecoder>() {
+		@Override
+		protected ValueDecoder computeValue(Class<?> type) {
+			return createDecoder(type);
+		}
+	};
+	
+	private ValueDecoders(){}
+	
+	/**
+	 * Get the decoder for values of properties of the given type.
+	 * @param type
+	 * @return
+	 */
+	public static ValueDecoder forType(Class<?> type){
+		return DECODERS.get(type);
+	}
+	
+	private static ValueDecoder createDecoder(Class<?> type){
+		final Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(type);
+		if(String.class.equals(targetType) || CharSequence.class.equals(targetType)){
+			return STRING_DECODER;
+		}
+		final ValueDecoder literalDecoder = LITERAL_DECODERS.get(targetType);
+		// only properties typed as rdf4j values get the value itself; e.g. Object properties get the string as before
+		final boolean valueType = Value.class.isAssignableFrom(targetType);
+		return new ValueDecoder() {
+			@Override
+			public Object decode(Value value) {
+				if(valueType && targetType.isInstance(value)){
+					return value;
+				}
+				return literalDecoder != null ? literalDecoder.decode(value) : null;
+			}
+		};
+	}
+	
+	/**
+	 * Decodes literals through their native accessors; values which are not literals or not valid for the 
+	 * accessor are left to the conversion service.
+	 */
+	private static abstract class LiteralDecoder implements ValueDecoder {
+		
+		@Override
+		public Object decode(Value value) {
+			if(value instanceof Literal){
+				try{
+					return decodeLiteral((Literal) value);
+				} catch(IllegalArgumentException e){
+					return null;
+				}
+			}
+			return null;
+		}
+		
+		protected abstract Object decodeLiteral(Literal literal);
+	}
+
+}
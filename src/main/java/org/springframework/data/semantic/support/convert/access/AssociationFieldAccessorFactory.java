@@ -15,19 +15,18 @@
  */
 package org.springframework.data.semantic.support.convert.access;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
-import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
 import org.springframework.data.semantic.convert.access.FieldAccessor;
 import org.springframework.data.semantic.convert.access.FieldAccessorFactory;
 import org.springframework.data.semantic.core.SemanticOperationsCRUD;
 import org.springframework.data.semantic.mapping.MappingPolicy;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
-import org.springframework.data.semantic.support.MappingPolicyImpl;
 import org.springframework.data.semantic.support.SemanticTemplateStatementsCollector;
 
 /**
@@ -57,7 +56,8 @@ public class AssociationFieldAccessorFactory implements FieldAccessorFactory {
 	
 	/**
 	 * Field accessor for associations
-	 * getValue populates the association object from the database
+	 * getValue populates the association object from the database. The associated entities are retrieved 
+	 * together, entities found in the entity cache are not queried again.
 	 * @author petar.kostov
 	 *
 	 */
@@ -65,17 +65,18 @@ public class AssociationFieldAccessorFactory implements FieldAccessorFactory {
 		
 		private SemanticPersistentProperty property;
 		//private List<URI> predicates;
-		private Class<?> fieldType;
+		private Class<Object> entityType;
 		private SemanticTemplateStatementsCollector statementsCollector;
 		private SemanticOperationsCRUD operations;
 		
+		@SuppressWarnings("unchecked")
 		public AssociationFieldAccessor(SemanticTemplateStatementsCollector statementsCollector, 
 				SemanticOperationsCRUD operations, SemanticPersistentProperty property) {
 			this.statementsCollector = statementsCollector;
 			this.operations = operations;
 			this.property = property;
 			//this.predicates = property.getPredicate();
-			this.fieldType = property.getType();
+			this.entityType = (Class<Object>) property.getActualType();
 		}
 		
 		@Override
@@ -93,27 +94,24 @@ public class AssociationFieldAccessorFactory implements FieldAccessorFactory {
 		@Override
 		public Object getValue(Object entity, MappingPolicy mappingPolicy) {
 			Model stIterator = statementsCollector.getStatementsForResourceProperty(entity, property);
-			if(this.property.isCollectionLike()){
-				Set<Resource> subjects = stIterator.subjects();
-				List<Object> result = new ArrayList<Object>(subjects.size());
-				for(Resource subject : subjects){
-					Model iterator = statementsCollector.getStatementsForResource((IRI) subject, fieldType, MappingPolicyImpl.ALL_POLICY);
-					result.add(operations.createEntity(iterator, fieldType));
+			List<IRI> ids = new ArrayList<IRI>();
+			for(Value object : stIterator.objects()){
+				if(object instanceof IRI){
+					ids.add((IRI) object);
 				}
+			}
+			if(this.property.isCollectionLike()){
+				List<Object> result = operations.find(ids, entityType);
 				if(this.property.isArray()){
-					return result.toArray();
+					return result.toArray((Object[]) Array.newInstance(entityType, result.size()));
 				}
 				else{
 					return result;
 				}
 			}
 			else{
-				if(!stIterator.isEmpty()) {
-					
-					IRI resource = (IRI) stIterator.objects().iterator().next();
-					Model iterator = statementsCollector.getStatementsForResource(resource, fieldType, MappingPolicyImpl.ALL_POLICY);
-					
-					return operations.createEntity(iterator, fieldType);
+				if(!ids.isEmpty()) {
+					return operations.find(ids.get(0), entityType);
 				}
 			}
 			return null;
@@ -15,8 +15,10 @@
  */
 package org.springframework.data.semantic.support.convert.access;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.AssociationHandler;
@@ -27,11 +29,16 @@ import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
 import org.springframework.data.util.TypeInformation;
 
+/**
+ * Provides the field accessors of a persistent entity. The accessors are computed once per entity type 
+ * and the returned maps are immutable, so one provider can be shared by the states of all entity instances.
+ *
+ */
 public class DelegatingFieldAccessorProvider implements FieldAccessorProvider {
 
 	private final DelegatingFieldAccessorFactory delegatingFactory;
 	
-	private final Map<TypeInformation<?>, Map<SemanticPersistentProperty, FieldAccessor>> fieldAccessorCache = new HashMap<TypeInformation<?>, Map<SemanticPersistentProperty,FieldAccessor>>();
+	private final Map<TypeInformation<?>, Map<SemanticPersistentProperty, FieldAccessor>> fieldAccessorCache = new ConcurrentHashMap<TypeInformation<?>, Map<SemanticPersistentProperty,FieldAccessor>>();
 	
 	public DelegatingFieldAccessorProvider(DelegatingFieldAccessorFactory factory){
 		this.delegatingFactory = factory;
@@ -42,8 +49,9 @@ public class DelegatingFieldAccessorProvider implements FieldAccessorProvider {
 			SemanticPersistentEntity<?> entity) {
 		
 		final TypeInformation<?> typeInformation = entity.getTypeInformation();
-		if(fieldAccessorCache.containsKey(typeInformation)){
-			return fieldAccessorCache.get(typeInformation);
+		Map<SemanticPersistentProperty, FieldAccessor> cached = fieldAccessorCache.get(typeInformation);
+		if(cached != null){
+			return cached;
 		}
 		else{
 			final Map<SemanticPersistentProperty, FieldAccessor> fieldAccessors =  new HashMap<SemanticPersistentProperty, FieldAccessor>();
@@ -67,8 +75,9 @@ public class DelegatingFieldAccessorProvider implements FieldAccessorProvider {
 	                }
 	            }
 	        });
-			fieldAccessorCache.put(typeInformation, fieldAccessors);
-			return fieldAccessors;
+			cached = Collections.unmodifiableMap(fieldAccessors);
+			fieldAccessorCache.put(typeInformation, cached);
+			return cached;
 		}
 	}
 
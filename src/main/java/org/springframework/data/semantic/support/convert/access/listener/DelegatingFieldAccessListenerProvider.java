@@ -15,9 +15,11 @@
  */
 package org.springframework.data.semantic.support.convert.access.listener;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.AssociationHandler;
@@ -28,10 +30,14 @@ import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
 import org.springframework.data.util.TypeInformation;
 
+/**
+ * Provides the field access listeners of a persistent entity, computed once per entity type.
+ *
+ */
 public class DelegatingFieldAccessListenerProvider implements FieldAccessListenerProvider{
 	
 	private final DelegatingFieldAccessListenerFactory delegatingListenerFactory;
-	private final Map<TypeInformation<?>, Map<SemanticPersistentProperty, List<FieldAccessListener>>> fieldAccessListenerCache = new HashMap<TypeInformation<?>, Map<SemanticPersistentProperty, List<FieldAccessListener>>>();
+	private final Map<TypeInformation<?>, Map<SemanticPersistentProperty, List<FieldAccessListener>>> fieldAccessListenerCache = new ConcurrentHashMap<TypeInformation<?>, Map<SemanticPersistentProperty, List<FieldAccessListener>>>();
 	
 	
 	public DelegatingFieldAccessListenerProvider(DelegatingFieldAccessListenerFactory delegatingListenerFactory){
@@ -41,8 +47,9 @@ public class DelegatingFieldAccessListenerProvider implements FieldAccessListene
 	@Override
 	public Map<SemanticPersistentProperty, List<FieldAccessListener>> provideFieldAccessListeners(SemanticPersistentEntity<?> entity) {
 		final TypeInformation<?> typeInformation = entity.getTypeInformation();
-		if(fieldAccessListenerCache.containsKey(typeInformation)){
-			return fieldAccessListenerCache.get(typeInformation);
+		Map<SemanticPersistentProperty, List<FieldAccessListener>> cached = fieldAccessListenerCache.get(typeInformation);
+		if(cached != null){
+			return cached;
 		}
 		else{
 			final Map<SemanticPersistentProperty, List<FieldAccessListener>> fieldAccessors =  new HashMap<SemanticPersistentProperty, List<FieldAccessListener>>();
@@ -66,8 +73,9 @@ public class DelegatingFieldAccessListenerProvider implements FieldAccessListene
 	                }
 	            }
 	        });
-			fieldAccessListenerCache.put(typeInformation, fieldAccessors);
-			return fieldAccessors;
+			cached = Collections.unmodifiableMap(fieldAccessors);
+			fieldAccessListenerCache.put(typeInformation, cached);
+			return cached;
 		}
 	}
 
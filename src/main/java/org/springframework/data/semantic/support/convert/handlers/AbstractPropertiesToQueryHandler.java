@@ -15,19 +15,42 @@
  */
 package org.springframework.data.semantic.support.convert.handlers;
 
+import java.util.Set;
+
 import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
+import org.springframework.data.semantic.query.model.QueryTerm;
 import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
 
 public abstract class AbstractPropertiesToQueryHandler implements PropertyHandler<SemanticPersistentProperty>,  AssociationHandler<SemanticPersistentProperty>{
 
 	protected SemanticMappingContext mappingContext;
 	
+	protected Set<String> projectedProperties;
+	
 	public AbstractPropertiesToQueryHandler(SemanticMappingContext mappingContext){
 		this.mappingContext = mappingContext;
 	}
 	
+	/**
+	 * Restrict the handled properties to the given names. Properties outside of the projection are not bound and, 
+	 * if optional, not matched either. A null value means that all properties are handled.
+	 * @param projectedProperties
+	 */
+	public void setProjectedProperties(Set<String> projectedProperties) {
+		this.projectedProperties = projectedProperties;
+	}
+	
+	/**
+	 * if a SemanticPersistentProperty is part of the current projection
+	 * @param persistentProperty
+	 * @return
+	 */
+	protected boolean isProjectedProperty(SemanticPersistentProperty persistentProperty) {
+		return projectedProperties == null || projectedProperties.contains(persistentProperty.getName());
+	}
+	
 	/**
 	 * if a SemanticPersistentProperty should be included in the query which retrieves the object
 	 * @param persistentProperty
@@ -43,24 +66,17 @@ public abstract class AbstractPropertiesToQueryHandler implements PropertyHandle
 				persistentProperty.getMappingPolicy().useDirty()*/;				
 	}
 	
-	public static void appendPattern(StringBuilder sb, String subj, String pred, String varName){
-		sb.append(subj);
-		sb.append(" ");
-		sb.append(pred);
-		sb.append(" ");
-		sb.append(varName);
-		sb.append(" . ");
-	}
-	
-	public static String getObjectBinding(String subjBinding, SemanticPersistentProperty persistentProperty){
-		String obj;
-		if(subjBinding.charAt(0) != '<'){
-			obj = subjBinding + "_" + persistentProperty.getBindingName();
-		}
-		else{
-			obj = "?" + persistentProperty.getBindingName();
+	/**
+	 * Get the variable bound to the value of the property for the given subject.
+	 * @param subjBinding
+	 * @param persistentProperty
+	 * @return
+	 */
+	public static QueryTerm getObjectBinding(QueryTerm subjBinding, SemanticPersistentProperty persistentProperty){
+		if(subjBinding.isVariable()){
+			return QueryTerm.var(subjBinding.getName() + "_" + persistentProperty.getBindingName());
 		}
-		return obj;
+		return QueryTerm.var(persistentProperty.getBindingName());
 	}
 	
 }
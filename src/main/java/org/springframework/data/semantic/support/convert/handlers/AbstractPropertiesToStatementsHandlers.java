@@ -28,6 +28,7 @@ import org.springframework.data.semantic.core.RDFState;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
 import org.springframework.data.semantic.support.Cascade;
+import org.springframework.data.semantic.support.convert.LazyAssociationLoader;
 import org.springframework.data.semantic.support.exceptions.RequiredPropertyException;
 import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
 
@@ -111,8 +112,8 @@ public abstract class AbstractPropertiesToStatementsHandlers implements Property
 				for(Object associatedEntityInstance : associatedEntityInstances){
 					IRI associatedResourceId = associatedEntity.getResourceId(associatedEntityInstance);
 					processAssociationStatement(persistentProperty, associatedResourceId);
-					if(persistentProperty.getMappingPolicy().shouldCascade(Cascade.SAVE) && !statements.getCurrentStatements().subjects().contains(associatedResourceId)){
-						AbstractPropertiesToStatementsHandlers associationHandler = getInstance(statements, associatedEntityInstance, mappingContext);
+					if(shouldCascade(persistentProperty, associatedEntityInstance, associatedResourceId)){
+						AbstractPropertiesToStatementsHandlers associationHandler = getInstance(statements, LazyAssociationLoader.getTarget(associatedEntityInstance), mappingContext);
 						associatedEntity.doWithProperties(associationHandler);
 						associatedEntity.doWithAssociations(associationHandler);
 					}
@@ -122,8 +123,8 @@ public abstract class AbstractPropertiesToStatementsHandlers implements Property
 				SemanticPersistentEntity<Object> associatedEntity = (SemanticPersistentEntity<Object>) mappingContext.getPersistentEntity(persistentProperty.getType());
 				IRI associatedResourceId = associatedEntity.getResourceId(value);
 				processAssociationStatement(persistentProperty, associatedResourceId);
-				if(persistentProperty.getMappingPolicy().shouldCascade(Cascade.SAVE) && !statements.getCurrentStatements().subjects().contains(associatedResourceId)){
-					AbstractPropertiesToStatementsHandlers associationHandler = getInstance(statements, value, mappingContext);
+				if(shouldCascade(persistentProperty, value, associatedResourceId)){
+					AbstractPropertiesToStatementsHandlers associationHandler = getInstance(statements, LazyAssociationLoader.getTarget(value), mappingContext);
 					associatedEntity.doWithProperties(associationHandler);
 					associatedEntity.doWithAssociations(associationHandler);
 				}
@@ -131,6 +132,20 @@ public abstract class AbstractPropertiesToStatementsHandlers implements Property
 		}
 	}
 	
+	/**
+	 * Associated entities are cascaded once and only if they are loaded; a lazy-loading proxy which has not been 
+	 * accessed holds no changes and contributes just the association itself.
+	 * @param persistentProperty
+	 * @param associatedEntityInstance
+	 * @param associatedResourceId
+	 * @return
+	 */
+	protected boolean shouldCascade(SemanticPersistentProperty persistentProperty, Object associatedEntityInstance, IRI associatedResourceId){
+		return persistentProperty.getMappingPolicy().shouldCascade(Cascade.SAVE) 
+				&& LazyAssociationLoader.isInitialized(associatedEntityInstance)
+				&& !statements.getCurrentStatements().subjects().contains(associatedResourceId);
+	}
+	
 	protected abstract AbstractPropertiesToStatementsHandlers getInstance(RDFState statements, Object entity, SemanticMappingContext mappingContext);
 	
 	protected abstract void processPropertyStatement(SemanticPersistentProperty property, Object value);
@@ -18,40 +18,45 @@ package org.springframework.data.semantic.support.convert.handlers;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.semantic.convert.ObjectToLiteralConverter;
 import org.springframework.data.semantic.mapping.MappingPolicy;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
+import org.springframework.data.semantic.query.model.QueryTerm;
+import org.springframework.data.semantic.query.model.TriplePattern;
 import org.springframework.data.semantic.support.Cascade;
 import org.springframework.data.semantic.support.Direction;
 import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+import org.springframework.data.semantic.support.util.ValueUtils;
 
 public class PropertiesToBindingsHandler extends AbstractPropertiesToQueryHandler {
 
-	private StringBuilder sb;
-	private String binding;
+	private List<TriplePattern> template;
+	private QueryTerm binding;
 	private Map<String, Object> propertyToValue;
 	private ObjectToLiteralConverter objectToLiteralConverter;
 	private int depth;
 	private final MappingPolicy globalMappingPolicy;
 	private final Boolean originalPredicates;
 	
-	public PropertiesToBindingsHandler(StringBuilder sb, String binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, MappingPolicy globalMappingPolicy){
-		this(sb, binding, propertyToValue, mappingContext, 0, globalMappingPolicy, false);
+	public PropertiesToBindingsHandler(List<TriplePattern> template, QueryTerm binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, MappingPolicy globalMappingPolicy){
+		this(template, binding, propertyToValue, mappingContext, 0, globalMappingPolicy, false);
 	}
 	
-	public PropertiesToBindingsHandler(StringBuilder sb, String binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, MappingPolicy globalMappingPolicy, Boolean originalPredicates){
-		this(sb, binding, propertyToValue, mappingContext, 0, globalMappingPolicy, originalPredicates);
+	public PropertiesToBindingsHandler(List<TriplePattern> template, QueryTerm binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, MappingPolicy globalMappingPolicy, Boolean originalPredicates){
+		this(template, binding, propertyToValue, mappingContext, 0, globalMappingPolicy, originalPredicates);
 	}
 	
-	public PropertiesToBindingsHandler(StringBuilder sb, String binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, int depth, MappingPolicy globalMappingPolicy, Boolean originalPredicates){
+	public PropertiesToBindingsHandler(List<TriplePattern> template, QueryTerm binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, int depth, MappingPolicy globalMappingPolicy, Boolean originalPredicates){
 		super(mappingContext);
-		this.sb = sb;
+		this.template = template;
 		this.binding = binding;
 		this.propertyToValue = propertyToValue;
 		this.objectToLiteralConverter = ObjectToLiteralConverter.getInstance();
@@ -77,7 +82,8 @@ public class PropertiesToBindingsHandler extends AbstractPropertiesToQueryHandle
 	
 	@SuppressWarnings("unchecked")
 	private void handlePersistentProperty(SemanticPersistentProperty persistentProperty) {
-		if(isRetrivableProperty(persistentProperty)){
+		if(isRetrivableProperty(persistentProperty) && isProjectedProperty(persistentProperty)){
+			IRI predicate = originalPredicates ? persistentProperty.getPredicate() : ValueUtils.createIRI(persistentProperty.getAliasPredicate());
 			Object objectValue = propertyToValue.get(persistentProperty.getName());
 			if(objectValue != null){
 				if(objectValue instanceof Collection<?> || objectValue.getClass().isArray()){
@@ -86,61 +92,48 @@ public class PropertiesToBindingsHandler extends AbstractPropertiesToQueryHandle
 					}
 					for(Object o : (Collection<Object>) objectValue){
 						Value val = this.objectToLiteralConverter.convert(o);
-						String obj = val instanceof IRI ? "<"+val+">" : val.toString();
-						if(originalPredicates){
-							appendPattern(sb, binding, "<" + persistentProperty.getPredicate() + ">", obj);
-						}
-						else{
-							appendPattern(sb, binding, "<" + persistentProperty.getAliasPredicate() + ">", obj);
-						}
+						template.add(new TriplePattern(binding, predicate, QueryTerm.value(val)));
 					}
 				}
 				else{
 					Value val = this.objectToLiteralConverter.convert(objectValue);
-					String obj = val instanceof IRI ? "<"+val+">" : val.toString();
-					if(originalPredicates){
-						appendPattern(sb, binding, "<" + persistentProperty.getPredicate() + ">", obj);
-					}
-					else{
-						appendPattern(sb, binding, "<" + persistentProperty.getAliasPredicate() + ">", obj);
-					}
+					template.add(new TriplePattern(binding, predicate, QueryTerm.value(val)));
 				}
 			}
 			else{
-				if(originalPredicates){
-					appendPattern(sb, binding, "<" + persistentProperty.getPredicate() + ">", getObjectBinding(binding, persistentProperty));
-				}
-				else{
-					appendPattern(sb, binding, "<" + persistentProperty.getAliasPredicate() + ">", getObjectBinding(binding, persistentProperty));
-				}
+				template.add(new TriplePattern(binding, predicate, getObjectBinding(binding, persistentProperty)));
 			}
 			
 		}
 	}
 	
 	private void handleAssociation(SemanticPersistentProperty persistentProperty) {
-		String associationBinding = getObjectBinding(binding, persistentProperty);
+		if(!isProjectedProperty(persistentProperty)){
+			return;
+		}
+		QueryTerm associationBinding = getObjectBinding(binding, persistentProperty);
 		Object objectValue = propertyToValue.get(persistentProperty.getName());
 		if(objectValue == null){
 			if(originalPredicates){
+				IRI predicate = persistentProperty.getPredicate();
 				if(Direction.OUTGOING.equals(persistentProperty.getDirection())){
-					appendPattern(sb, binding, "<" + persistentProperty.getPredicate() + ">", associationBinding);
+					template.add(new TriplePattern(binding, predicate, associationBinding));
 				}
 				else if(Direction.INCOMING.equals(persistentProperty.getDirection())){
-					appendPattern(sb, associationBinding, "<" + persistentProperty.getPredicate() + ">", binding);
+					template.add(new TriplePattern(associationBinding, predicate, binding));
 				}
 				else{
-					appendPattern(sb, binding, "<" + persistentProperty.getPredicate() + ">", associationBinding);
-					appendPattern(sb, associationBinding, "<" + persistentProperty.getPredicate() + ">", binding);
+					template.add(new TriplePattern(binding, predicate, associationBinding));
+					template.add(new TriplePattern(associationBinding, predicate, binding));
 				}
 			}
 			else{
-				appendPattern(sb, binding, "<" + persistentProperty.getAliasPredicate() + ">", associationBinding);
+				template.add(new TriplePattern(binding, ValueUtils.createIRI(persistentProperty.getAliasPredicate()), associationBinding));
 			}
 			if(persistentProperty.getMappingPolicy().combineWith(globalMappingPolicy).shouldCascade(Cascade.GET)){
 				SemanticPersistentEntity<?> associatedPersistentEntity = mappingContext.getPersistentEntity(persistentProperty.getActualType());
-				appendPattern(sb, associationBinding, "a", "<"+associatedPersistentEntity.getRDFType()+">");
-				PropertiesToBindingsHandler associationHandler = new PropertiesToBindingsHandler(this.sb, associationBinding, new HashMap<String, Object>(), this.mappingContext, ++this.depth, this.globalMappingPolicy, this.originalPredicates);
+				template.add(new TriplePattern(associationBinding, RDF.TYPE, associatedPersistentEntity.getRDFType()));
+				PropertiesToBindingsHandler associationHandler = new PropertiesToBindingsHandler(this.template, associationBinding, new HashMap<String, Object>(), this.mappingContext, ++this.depth, this.globalMappingPolicy, this.originalPredicates);
 				associatedPersistentEntity.doWithProperties(associationHandler);
 				associatedPersistentEntity.doWithAssociations(associationHandler);
 			}
@@ -19,6 +19,7 @@ import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.springframework.data.semantic.core.RDFState;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
@@ -89,13 +90,16 @@ public class PropertiesToDeleteStatementsHandler extends AbstractPropertiesToSta
 				deleteStatement(value, persistentProperty.getPredicate(), resourceId, context);
 			}
 		}
-		if(persistentProperty.getMappingPolicy().shouldCascade(Cascade.DELETE)){
-			cascadeDelete();
-		}
 	}
 	
-	private void cascadeDelete(){
-		//TODO
+	/**
+	 * Dependent entities are deleted together with their owner, loading lazy-loading proxies if necessary. 
+	 * An entity whose rdf:type statement is already deleted has been visited, which stops cycles in the dependent graph.
+	 */
+	@Override
+	protected boolean shouldCascade(SemanticPersistentProperty persistentProperty, Object associatedEntityInstance, IRI associatedResourceId) {
+		return persistentProperty.getMappingPolicy().shouldCascade(Cascade.DELETE) 
+				&& !statements.getDeleteStatements().contains(associatedResourceId, RDF.TYPE, null);
 	}
 	
 	private void deleteStatement(Resource subject, IRI predicate, Value object, Resource context){
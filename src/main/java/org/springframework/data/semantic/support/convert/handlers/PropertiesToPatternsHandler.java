@@ -20,43 +20,45 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.semantic.convert.ObjectToLiteralConverter;
 import org.springframework.data.semantic.mapping.MappingPolicy;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
+import org.springframework.data.semantic.query.model.GroupPattern;
+import org.springframework.data.semantic.query.model.OptionalPattern;
+import org.springframework.data.semantic.query.model.QueryTerm;
+import org.springframework.data.semantic.query.model.TriplePattern;
 import org.springframework.data.semantic.support.Cascade;
 import org.springframework.data.semantic.support.Direction;
 import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
-import org.springframework.data.semantic.support.util.ValueUtils;
 
 public class PropertiesToPatternsHandler extends AbstractPropertiesToQueryHandler{
 
-	private StringBuilder sb;
-	private String binding;
+	private GroupPattern group;
+	private QueryTerm binding;
 	private Map<String, Object> propertyToValue;
 	private ObjectToLiteralConverter objectToLiteralConverter;
 	private int depth;
 	private boolean isCount;
 	private boolean isDelete;
     private boolean useUnions;
-    private boolean lastWasOptional = false;
 	private final MappingPolicy globalMappingPolicy;
 
-    public PropertiesToPatternsHandler(StringBuilder sb, String binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, boolean isCount, boolean isDelete, MappingPolicy globalMappingPolicy, boolean useUnions){
-        this(sb, binding, propertyToValue, mappingContext, 0, isCount, isDelete, globalMappingPolicy);
+    public PropertiesToPatternsHandler(GroupPattern group, QueryTerm binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, boolean isCount, boolean isDelete, MappingPolicy globalMappingPolicy, boolean useUnions){
+        this(group, binding, propertyToValue, mappingContext, 0, isCount, isDelete, globalMappingPolicy);
         this.useUnions = useUnions;
     }
 	
-	public PropertiesToPatternsHandler(StringBuilder sb, String binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, boolean isCount, boolean isDelete, MappingPolicy globalMappingPolicy){
-		this(sb, binding, propertyToValue, mappingContext, 0, isCount, isDelete, globalMappingPolicy);
+	public PropertiesToPatternsHandler(GroupPattern group, QueryTerm binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, boolean isCount, boolean isDelete, MappingPolicy globalMappingPolicy){
+		this(group, binding, propertyToValue, mappingContext, 0, isCount, isDelete, globalMappingPolicy);
 	}
 	
-	public PropertiesToPatternsHandler(StringBuilder sb, String binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, int depth, boolean isCount, boolean isDelete, MappingPolicy globalMappingPolicy){
+	public PropertiesToPatternsHandler(GroupPattern group, QueryTerm binding, Map<String, Object> propertyToValue, SemanticMappingContext mappingContext, int depth, boolean isCount, boolean isDelete, MappingPolicy globalMappingPolicy){
 		super(mappingContext);
-		this.sb = sb;
+		this.group = group;
 		this.binding = binding;
 		this.propertyToValue = propertyToValue;
 		this.objectToLiteralConverter = ObjectToLiteralConverter.getInstance();
@@ -86,39 +88,28 @@ public class PropertiesToPatternsHandler extends AbstractPropertiesToQueryHandle
 		//handlePersistentProperty(persistentProperty);
 		Object objectValue = this.propertyToValue.get(persistentProperty.getName());
 		Boolean optional = persistentProperty.isOptional() && (objectValue == null) && !isDelete;
-		if(optional && isCount){
+		if(optional && (isCount || !isProjectedProperty(persistentProperty))){
 			return;
 		}
-        if(useUnions){
-            if(optional){
-                if(!lastWasOptional){
-                    lastWasOptional = true;
-                    //sb.append("{} ");
-                } else {
-                    lastWasOptional = false;
-                }
-                sb.append("UNION { ");
-            } else {
-                sb.append("{ ");
-            }
-        } else {
-            if (optional) {
-                sb.append("OPTIONAL { ");
-            }
-        }
+		GroupPattern outer = this.group;
+		if(optional || useUnions){
+			this.group = new GroupPattern();
+		}
 		handlePersistentProperty(persistentProperty);
 		if(persistentProperty.getMappingPolicy().combineWith(globalMappingPolicy).shouldCascade(Cascade.GET)){
 			SemanticPersistentEntity<?> associatedPersistentEntity = mappingContext.getPersistentEntity(persistentProperty.getActualType());
 			if(objectValue == null){
-				String associationBinding = getObjectBinding(binding, persistentProperty);
-				appendPattern(sb, associationBinding, "<"+ValueUtils.RDF_TYPE_PREDICATE+">", "<"+associatedPersistentEntity.getRDFType()+">");
-				PropertiesToPatternsHandler associationHandler = new PropertiesToPatternsHandler(this.sb, associationBinding, new HashMap<String, Object>(), this.mappingContext, ++this.depth, this.isCount, this.isDelete, globalMappingPolicy);
+				QueryTerm associationBinding = getObjectBinding(binding, persistentProperty);
+				this.group.add(new TriplePattern(associationBinding, RDF.TYPE, associatedPersistentEntity.getRDFType()));
+				PropertiesToPatternsHandler associationHandler = new PropertiesToPatternsHandler(this.group, associationBinding, new HashMap<String, Object>(), this.mappingContext, ++this.depth, this.isCount, this.isDelete, globalMappingPolicy);
 				associatedPersistentEntity.doWithProperties(associationHandler);
 				associatedPersistentEntity.doWithAssociations(associationHandler);
 			}
 		}
 		if(optional || useUnions){
-			sb.append("} ");
+			GroupPattern inner = this.group;
+			this.group = outer;
+			addGroup(inner, optional);
 		}
 	}
 	
@@ -127,14 +118,9 @@ public class PropertiesToPatternsHandler extends AbstractPropertiesToQueryHandle
 		if(isRetrivableProperty(persistentProperty)){
 			Object objectValue = this.propertyToValue.get(persistentProperty.getName());
 			Boolean optional = persistentProperty.isOptional() && (objectValue == null) && !persistentProperty.isAssociation() && !isDelete; //&& !isTransitiveOptional
-			if(optional && isCount){
+			if(optional && (isCount || !isProjectedProperty(persistentProperty))){
 				return;
 			}
-			IRI predicate = persistentProperty.getPredicate();
-			String subj = "";
-			String obj = "";
-			String pred = "<"+predicate+">";
-			subj = binding;
 			if(objectValue != null){
 				if(objectValue instanceof Collection<?> || objectValue.getClass().isArray()){
 					if(objectValue.getClass().isArray()){
@@ -142,60 +128,47 @@ public class PropertiesToPatternsHandler extends AbstractPropertiesToQueryHandle
 					}
 					for (Object o : (Collection<Object>) objectValue){
 						Value val = this.objectToLiteralConverter.convert(o);
-						obj = val instanceof IRI ? "<"+val.toString()+">" : val.toString();
-						addPattern(persistentProperty, optional, subj, pred, obj);
+						addPattern(persistentProperty, optional, QueryTerm.value(val));
 					}
 				}
 				else{
 					Value val = this.objectToLiteralConverter.convert(objectValue);
-					obj = val instanceof IRI ? "<"+val.toString()+">" : val.toString();
-					addPattern(persistentProperty, optional, subj, pred, obj);
+					addPattern(persistentProperty, optional, QueryTerm.value(val));
 				}
 			}
 			else{
-				obj = getObjectBinding(binding, persistentProperty);
-				addPattern(persistentProperty, optional, subj, pred, obj);
+				addPattern(persistentProperty, optional, getObjectBinding(binding, persistentProperty));
 			}
 		}
 	}
 	
-	private void addPattern(SemanticPersistentProperty persistentProperty, Boolean optional, String subj, String pred, String obj){
+	private void addPattern(SemanticPersistentProperty persistentProperty, Boolean optional, QueryTerm obj){
+		TriplePattern pattern = new TriplePattern(binding, persistentProperty.getPredicate(), obj);
+		if(persistentProperty.isAssociation() && Direction.INCOMING.equals(persistentProperty.getDirection())){
+			SemanticPersistentProperty associatedProperty = persistentProperty.getInverseProperty();
+			if(associatedProperty != null){
+				pattern = new TriplePattern(obj, associatedProperty.getPredicate(), binding);
+			}
+		}
+		if(optional || useUnions){
+			addGroup(new GroupPattern(pattern), optional);
+		}
+		else{
+			group.add(pattern);
+		}
+	}
+	
+	private void addGroup(GroupPattern pattern, boolean optional){
 		if(useUnions){
-            if(optional){
-                if(!lastWasOptional){
-                    lastWasOptional = true;
-                    //sb.append("{} ");
-                } else {
-                    lastWasOptional = false;
-                }
-                sb.append("UNION ");
-            }
-            sb.append("{ ");
-        } else {
-            if (optional) {
-                sb.append("OPTIONAL { ");
-            }
-        }
-		if(persistentProperty.isAssociation()){
-			if(Direction.INCOMING.equals(persistentProperty.getDirection())){
-				SemanticPersistentProperty associatedProperty = persistentProperty.getInverseProperty();
-				if(associatedProperty != null){
-					pred = "<"+associatedProperty.getPredicate()+">";
-					appendPattern(sb, obj, pred, subj);
-				}
-				else{
-					appendPattern(sb, subj, pred, obj);
-				}
+			if(optional){
+				group.union(pattern);
 			}
 			else{
-				appendPattern(sb, subj, pred, obj);
+				group.add(pattern);
 			}
 		}
 		else{
-			appendPattern(sb, subj, pred, obj);
-		}
-		if(optional || useUnions){
-			sb.append("} ");
+			group.add(new OptionalPattern(pattern));
 		}
 	}
 }
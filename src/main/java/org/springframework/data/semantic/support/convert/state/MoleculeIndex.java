@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert.state;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+
+/**
+ * The statements of an entity molecule grouped by predicate, built in a single pass over the molecule. 
+ * Property values are looked up by the string form of their (alias) predicate, so no IRI needs to be 
+ * created and no filtered view of the model is traversed per property.
+ *
+ */
+public class MoleculeIndex {
+	
+	private final Model molecule;
+	
+	private final int size;
+	
+	private final Map<String, List<Value>> valuesByPredicate;
+	
+	public MoleculeIndex(Model molecule){
+		this.molecule = molecule;
+		this.size = molecule.size();
+		this.valuesByPredicate = new HashMap<String, List<Value>>();
+		for(Statement st : molecule){
+			String predicate = st.getPredicate().stringValue();
+			List<Value> values = valuesByPredicate.get(predicate);
+			if(values == null){
+				values = new ArrayList<Value>(1);
+				valuesByPredicate.put(predicate, values);
+			}
+			values.add(st.getObject());
+		}
+	}
+	
+	/**
+	 * Get the objects of all statements with the given predicate, in molecule order.
+	 * @param predicate
+	 * @return
+	 */
+	public List<Value> getValues(String predicate){
+		List<Value> values = valuesByPredicate.get(predicate);
+		return values != null ? values : Collections.<Value>emptyList();
+	}
+	
+	/**
+	 * Check if the index still reflects the given model, i.e. it was built from the same instance and its size has not changed. 
+	 * @param model
+	 * @return
+	 */
+	public boolean isIndexOf(Model model){
+		return molecule == model && size == model.size();
+	}
+
+}
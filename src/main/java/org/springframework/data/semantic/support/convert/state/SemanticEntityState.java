@@ -17,13 +17,11 @@ package org.springframework.data.semantic.support.convert.state;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
-import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
-import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.semantic.convert.access.FieldAccessor;
 import org.springframework.data.semantic.convert.access.FieldAccessorProvider;
@@ -35,11 +33,12 @@ import org.springframework.data.semantic.core.SemanticDatabase;
 import org.springframework.data.semantic.mapping.MappingPolicy;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
+import org.springframework.data.semantic.support.convert.ValueDecoder;
+import org.springframework.data.semantic.support.convert.ValueDecoders;
 import org.springframework.data.semantic.support.convert.access.DelegatingFieldAccessorFactory;
 import org.springframework.data.semantic.support.convert.access.DelegatingFieldAccessorProvider;
 import org.springframework.data.semantic.support.convert.access.listener.DelegatingFieldAccessListenerFactory;
 import org.springframework.data.semantic.support.convert.access.listener.DelegatingFieldAccessListenerProvider;
-import org.springframework.data.semantic.support.util.ValueUtils;
 
 public class SemanticEntityState<T> implements
 		EntityState<T, RDFState> {
@@ -49,10 +48,9 @@ public class SemanticEntityState<T> implements
 	private final Map<SemanticPersistentProperty, FieldAccessor> fieldAccessors;
 	private final Map<SemanticPersistentProperty, List<FieldAccessListener>> fieldAccessorListeners;
 	private RDFState state;
+	private MoleculeIndex moleculeIndex;
 	private final SemanticDatabase semanticDb;
 	//private final static Logger log = LoggerFactory.getLogger(SemanticEntityState.class);
-	private final FieldAccessorProvider fieldAccessorProvider;
-	private final FieldAccessListenerProvider fieldAccessListenerProvider;
 	private final SemanticPersistentEntity<T> persistentEntity;
 	private final ConversionService conversionService;
 
@@ -64,13 +62,35 @@ public class SemanticEntityState<T> implements
 			final DelegatingFieldAccessListenerFactory delegatingFieldAccessListenerFactory,
 			SemanticPersistentEntity<T> persistentEntity, 
 			ConversionService conversionService) {
+		this(underlyingState, semanticDatabase, entity, 
+				new DelegatingFieldAccessorProvider(nodeDelegatingFieldAccessorFactory), 
+				new DelegatingFieldAccessListenerProvider(delegatingFieldAccessListenerFactory), 
+				persistentEntity, conversionService);
+	}
+	
+	/**
+	 * Create the state of an entity with accessors and listeners from shared providers, 
+	 * which compute them once per persistent entity.
+	 * @param underlyingState
+	 * @param semanticDatabase
+	 * @param entity
+	 * @param fieldAccessorProvider
+	 * @param fieldAccessListenerProvider
+	 * @param persistentEntity
+	 * @param conversionService
+	 */
+	public SemanticEntityState(
+			final RDFState underlyingState,
+			final SemanticDatabase semanticDatabase,
+			final T entity,
+			final FieldAccessorProvider fieldAccessorProvider,
+			final FieldAccessListenerProvider fieldAccessListenerProvider,
+			SemanticPersistentEntity<T> persistentEntity, 
+			ConversionService conversionService) {
 		this.entity = entity;
 		//this.type = type;
 		this.state = underlyingState;
 		this.semanticDb = semanticDatabase;
-		this.fieldAccessorProvider = new DelegatingFieldAccessorProvider(
-				nodeDelegatingFieldAccessorFactory);
-		this.fieldAccessListenerProvider = new DelegatingFieldAccessListenerProvider(delegatingFieldAccessListenerFactory);
 		this.fieldAccessors = fieldAccessorProvider.provideFieldAccessors(persistentEntity);
 		this.fieldAccessorListeners = fieldAccessListenerProvider.provideFieldAccessListeners(persistentEntity);
 		this.persistentEntity = persistentEntity;
@@ -85,6 +105,7 @@ public class SemanticEntityState<T> implements
 	@Override
 	public void setPersistentState(RDFState state) {
 		this.state = state;
+		this.moleculeIndex = null;
 	}
 
 	@Override
@@ -115,32 +136,40 @@ public class SemanticEntityState<T> implements
 	}
 	
 	private Object getValueFromState(SemanticPersistentProperty property){
-		String alias = property.getAliasPredicate();
-		IRI predicate = ValueUtils.createIRI(alias);
-		Model model = state.getCurrentStatements();
-		
-		List<Object> values = new LinkedList<Object>();
-		Model results = model.filter(null, predicate, null);
-		for(Statement st : results){
-			values.add(st.getObject().stringValue());
-		}
+		List<Value> objects = getMoleculeIndex().getValues(property.getAliasPredicate());
 		
 		if(property.isCollectionLike()){
 			Class<?> componentType = property.getComponentType();
-			List<Object> convertedValues = new ArrayList<Object>(values.size());
-			if(conversionService.canConvert(String.class, componentType)){
-				for(Object o : values){
-					convertedValues.add(conversionService.convert(o, componentType));
+			ValueDecoder decoder = ValueDecoders.forType(componentType);
+			List<Object> convertedValues = new ArrayList<Object>(objects.size());
+			for(Value object : objects){
+				Object decoded = decoder.decode(object);
+				if(decoded == null){
+					if(!conversionService.canConvert(String.class, componentType)){
+						throw new IllegalArgumentException("No converter available for target type "+componentType.getName()+".");
+					}
+					decoded = conversionService.convert(object.stringValue(), componentType);
 				}
-				return convertedValues;
-			}
-			else{
-				throw new IllegalArgumentException("No converter available for target type "+componentType.getName()+".");
+				convertedValues.add(decoded);
 			}
+			return convertedValues;
+		}
+		else if(objects.isEmpty()){
+			return null;
 		}
 		else{
-			return values.isEmpty() ? null : values.get(0);
+			Value object = objects.get(0);
+			Object decoded = ValueDecoders.forType(property.getType()).decode(object);
+			return decoded != null ? decoded : object.stringValue();
+		}
+	}
+
+	private MoleculeIndex getMoleculeIndex(){
+		Model model = state.getCurrentStatements();
+		if(moleculeIndex == null || !moleculeIndex.isIndexOf(model)){
+			moleculeIndex = new MoleculeIndex(model);
 		}
+		return moleculeIndex;
 	}
 
 	@Override
@@ -193,9 +222,8 @@ public class SemanticEntityState<T> implements
 
 	@Override
 	public T persist() {
-		semanticDb.removeStatements(state.getDeleteStatements());
+		semanticDb.applyChanges(state.getDeleteStatements(), state.getCurrentStatements(), state.getExpectedStatements());
 		state.getDeleteStatements().clear();
-		semanticDb.addStatements(state.getCurrentStatements());
 		return entity;
 	}
 
@@ -22,20 +22,22 @@ import org.springframework.data.semantic.core.RDFState;
 import org.springframework.data.semantic.core.SemanticDatabase;
 import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
 import org.springframework.data.semantic.support.convert.access.DelegatingFieldAccessorFactory;
+import org.springframework.data.semantic.support.convert.access.DelegatingFieldAccessorProvider;
 import org.springframework.data.semantic.support.convert.access.listener.DelegatingFieldAccessListenerFactory;
+import org.springframework.data.semantic.support.convert.access.listener.DelegatingFieldAccessListenerProvider;
 import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
 
 public class SemanticEntityStateFactory implements EntityStateFactory<RDFState>{
 	
 	private SemanticMappingContext mappingContext;
-	private DelegatingFieldAccessorFactory delegatingFieldAccessorFactory;
-	private DelegatingFieldAccessListenerFactory delegatingFieldAccessListenerFactory;
+	private DelegatingFieldAccessorProvider fieldAccessorProvider;
+	private DelegatingFieldAccessListenerProvider fieldAccessListenerProvider;
 	private SemanticDatabase semanticDatabase;
 	private ConversionService conversionService;
 	
 	public SemanticEntityStateFactory(SemanticMappingContext mappingContext, DelegatingFieldAccessorFactory delegatingFieldAccessorFactory, DelegatingFieldAccessListenerFactory delegatingFieldAccessListenerFactory, SemanticDatabase semanticDatabase, ConversionService conversionService){
-		this.delegatingFieldAccessorFactory = delegatingFieldAccessorFactory;
-		this.delegatingFieldAccessListenerFactory = delegatingFieldAccessListenerFactory;
+		this.fieldAccessorProvider = new DelegatingFieldAccessorProvider(delegatingFieldAccessorFactory);
+		this.fieldAccessListenerProvider = new DelegatingFieldAccessListenerProvider(delegatingFieldAccessListenerFactory);
 		this.mappingContext = mappingContext;
 		this.semanticDatabase = semanticDatabase;
 		this.conversionService = conversionService;
@@ -47,7 +49,7 @@ public class SemanticEntityStateFactory implements EntityStateFactory<RDFState>{
 			boolean detachable) {
 		final Class<?> entityType = entity.getClass();
 		SemanticPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entityType);
-		return new SemanticEntityState<R>(new RDFState(), semanticDatabase, entity, delegatingFieldAccessorFactory, delegatingFieldAccessListenerFactory, (SemanticPersistentEntity<R>) persistentEntity, conversionService);
+		return new SemanticEntityState<R>(new RDFState(), semanticDatabase, entity, fieldAccessorProvider, fieldAccessListenerProvider, (SemanticPersistentEntity<R>) persistentEntity, conversionService);
 	}
 	
 }
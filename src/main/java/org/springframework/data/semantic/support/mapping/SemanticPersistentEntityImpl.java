@@ -79,6 +79,12 @@ public class SemanticPersistentEntityImpl<T> extends BasicPersistentEntity<T, Se
 		super.addPersistentProperty(property);
 	}
 
+	@Override
+	public boolean isUpsert() {
+		SemanticEntity seAnnotation = getType().getAnnotation(SemanticEntity.class);
+		return seAnnotation != null && seAnnotation.upsert();
+	}
+
 	@Override
 	public IRI getRDFType() {
 		if(rdfType == null) {
@@ -28,6 +28,7 @@ import java.util.Map;
 
 import org.eclipse.rdf4j.model.IRI;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.model.AbstractPersistentProperty;
@@ -48,6 +49,7 @@ import org.springframework.data.semantic.mapping.SemanticPersistentProperty;
 import org.springframework.data.semantic.support.Direction;
 import org.springframework.data.semantic.support.MappingPolicyImpl;
 import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -81,6 +83,7 @@ public class SemanticPersistentPropertyImpl extends
 		annotations = extractAnnotations(field);
 		isIdProperty = annotations.containsKey(ResourceId.class);
 		this.mappingContext = mappingContext;
+		ReflectionUtils.makeAccessible(field);
 	}
 
 	@Override
@@ -203,10 +206,6 @@ public class SemanticPersistentPropertyImpl extends
 
 	private Object getValueFromEntity(Object entity) {
 		try {
-			final Field field = getField();
-			if (!field.isAccessible()) {
-				field.setAccessible(true);
-			}
 			return field.get(entity);
 		} catch (IllegalAccessException e) {
 			throw new MappingException("Could not access field " + field, e);
@@ -216,9 +215,6 @@ public class SemanticPersistentPropertyImpl extends
 	@Override
 	public void setValue(Object entity, Object newValue) {
 		try {
-			if (!field.isAccessible()) {
-				field.setAccessible(true);
-			}
 			field.set(entity, newValue);
 		} catch (IllegalAccessException e) {
 			throw new MappingException("Could not access field " + field
@@ -248,8 +244,7 @@ public class SemanticPersistentPropertyImpl extends
 
 	@Override
 	public boolean isVersionProperty() {
-		// TODO Auto-generated method stub
-		return false;
+		return annotations.containsKey(Version.class);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -271,7 +266,8 @@ public class SemanticPersistentPropertyImpl extends
 
 	@Override
 	public boolean isOptional() {
-		return annotations.containsKey(Optional.class);
+		// the version is assigned on write, so new entities have none
+		return annotations.containsKey(Optional.class) || isVersionProperty();
 	}
 
 	@Override
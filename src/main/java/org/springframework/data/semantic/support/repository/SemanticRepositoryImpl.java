@@ -110,9 +110,7 @@ public class SemanticRepositoryImpl<T> implements SemanticRepository<T> {
 
 	@Override
 	public void delete(Iterable<? extends T> entities) {
-		for(T entity : entities){
-			delete(entity);
-		}
+		this.operations.delete(entities);
 	}
 
 	@Override
@@ -23,15 +23,27 @@ import org.springframework.data.semantic.core.SemanticOperationsCRUD;
 public class FindSemanticRepositoryQuery extends AbstractSemanticRepositoryQuery{
 	
 	private static final String PREFIX = "By";
+	
+	private final Class<?> projectionType;
 
 	public FindSemanticRepositoryQuery(SemanticOperationsCRUD operations,
 			String queryMethodName, Class<?> domainClass,
 			Parameters<?, ?> parameters) {
+		this(operations, queryMethodName, domainClass, parameters, null);
+	}
+	
+	public FindSemanticRepositoryQuery(SemanticOperationsCRUD operations,
+			String queryMethodName, Class<?> domainClass,
+			Parameters<?, ?> parameters, Class<?> projectionType) {
 		super(operations, queryMethodName, domainClass, parameters);
+		this.projectionType = projectionType;
 	}
 
 	@Override
 	public Object doExecute(Map<String, Object> params) {
+		if(projectionType != null){
+			return operations.findByProperty(this.domainClass, params, projectionType);
+		}
 		return operations.findByProperty(this.domainClass, params);
 	}
 
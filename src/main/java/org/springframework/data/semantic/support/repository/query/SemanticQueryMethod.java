@@ -22,6 +22,7 @@ import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.semantic.core.SemanticOperationsCRUD;
+import org.springframework.data.semantic.support.convert.SemanticProjectionFactory;
 
 public class SemanticQueryMethod extends QueryMethod {
 	
@@ -44,6 +45,9 @@ public class SemanticQueryMethod extends QueryMethod {
 			//TODO
 			return null;
 		}
+		else if(SemanticProjectionFactory.isProjection(this.getReturnedObjectType(), this.getDomainClass(), operations.getSemanticMappingContext())){
+			return new FindSemanticRepositoryQuery(operations, this.getName(), this.getDomainClass(), this.getParameters(), this.getReturnedObjectType());
+		}
 		else {
 			return new FindSemanticRepositoryQuery(operations, this.getName(), this.getDomainClass(), this.getParameters());
 		}
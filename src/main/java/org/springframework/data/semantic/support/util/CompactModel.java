@@ -0,0 +1,418 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.AbstractModel;
+import org.eclipse.rdf4j.model.impl.FilteredModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+
+/**
+ * A {@link Model} backed by an array of statements, intended for the small molecules of single entities.
+ * Unlike the hash and tree based models it does not create index nodes per statement: a statement index 
+ * and a subject index are only built once the model grows beyond a few statements and they are actually needed.
+ * Removed statements leave empty slots which are reclaimed when the array is full, so that removing 
+ * from large models, e.g. the merged states of bulk writes, does not shift the remaining statements.
+ *
+ */
+public class CompactModel extends AbstractModel {
+
+	private static final long serialVersionUID = 4253818371206937367L;
+	
+	private static final int INDEX_THRESHOLD = 8;
+	
+	private static final Resource[] NO_CONTEXT = new Resource[]{ null };
+	
+	private Set<Namespace> namespaces;
+	
+	private Statement[] statements;
+	
+	/**
+	 * The number of used slots, including the empty slots of removed statements.
+	 */
+	private int end;
+	
+	private int size;
+	
+	private transient Map<Statement, Integer> positions;
+	
+	private transient Map<Resource, List<Statement>> subjectIndex;
+	
+	public CompactModel(){
+		this.statements = new Statement[INDEX_THRESHOLD];
+	}
+	
+	public CompactModel(Collection<? extends Statement> statements){
+		this.statements = new Statement[Math.max(statements.size(), INDEX_THRESHOLD)];
+		addAll(statements);
+	}
+	
+	/**
+	 * Create a model from statements which are known to be distinct, skipping the duplicate checks.
+	 * @param statements - distinct statements
+	 * @return
+	 */
+	public static CompactModel fromDistinct(Collection<? extends Statement> statements){
+		CompactModel model = new CompactModel();
+		model.statements = statements.toArray(new Statement[Math.max(statements.size(), INDEX_THRESHOLD)]);
+		model.size = statements.size();
+		model.end = model.size;
+		return model;
+	}
+
+	@Override
+	public Set<Namespace> getNamespaces() {
+		if(namespaces == null){
+			namespaces = new LinkedHashSet<Namespace>();
+		}
+		return namespaces;
+	}
+
+	@Override
+	public void setNamespace(Namespace namespace) {
+		removeNamespace(namespace.getPrefix());
+		getNamespaces().add(namespace);
+	}
+
+	@Override
+	public Optional<Namespace> removeNamespace(String prefix) {
+		Optional<Namespace> namespace = getNamespace(prefix);
+		if(namespace.isPresent()){
+			namespaces.remove(namespace.get());
+		}
+		return namespace;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean add(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		boolean modified = false;
+		for(Resource context : contexts.length == 0 ? NO_CONTEXT : contexts){
+			Statement st = context == null 
+					? SimpleValueFactory.getInstance().createStatement(subj, pred, obj) 
+					: SimpleValueFactory.getInstance().createStatement(subj, pred, obj, context);
+			modified |= add(st);
+		}
+		return modified;
+	}
+	
+	@Override
+	public boolean add(Statement st) {
+		if(contains(st)){
+			return false;
+		}
+		if(end == statements.length){
+			if(end - size > end / 4){
+				compact();
+			}
+			else{
+				statements = Arrays.copyOf(statements, end * 2);
+			}
+		}
+		if(positions != null){
+			positions.put(st, end);
+		}
+		statements[end++] = st;
+		size++;
+		if(subjectIndex != null){
+			getOrCreate(subjectIndex, st.getSubject()).add(st);
+		}
+		return true;
+	}
+	
+	@Override
+	public boolean contains(Object o) {
+		if(!(o instanceof Statement)){
+			return false;
+		}
+		return indexOf(o) >= 0;
+	}
+	
+	@Override
+	public boolean remove(Object o) {
+		if(!(o instanceof Statement)){
+			return false;
+		}
+		int index = indexOf(o);
+		if(index < 0){
+			return false;
+		}
+		removeAt(index);
+		return true;
+	}
+	
+	@Override
+	public void clear() {
+		Arrays.fill(statements, 0, end, null);
+		end = 0;
+		size = 0;
+		positions = null;
+		subjectIndex = null;
+	}
+
+	@Override
+	public boolean contains(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		return matchPattern(subj, pred, obj, contexts).hasNext();
+	}
+
+	@Override
+	public boolean remove(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		boolean modified = false;
+		for(int i = 0; i < end; i++){
+			if(statements[i] != null && matches(statements[i], subj, pred, obj, contexts)){
+				removeAt(i);
+				modified = true;
+			}
+		}
+		return modified;
+	}
+
+	@Override
+	public Iterator<Statement> iterator() {
+		return new MatchingIterator(null, null, null, new Resource[0]);
+	}
+
+	@Override
+	public Model filter(final Resource subj, final IRI pred, final Value obj, final Resource... contexts) {
+		return new FilteredModel(this, subj, pred, obj, contexts) {
+
+			private static final long serialVersionUID = -2353344619836599934L;
+
+			@Override
+			public Iterator<Statement> iterator() {
+				return CompactModel.this.matchPattern(subj, pred, obj, contexts);
+			}
+
+			@Override
+			protected void removeFilteredTermIteration(Iterator<Statement> iter, Resource subj, IRI pred, Value obj, Resource... contexts) {
+				CompactModel.this.removeTermIteration(iter, subj, pred, obj, contexts);
+			}
+		};
+	}
+	
+	private Iterator<Statement> matchPattern(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		if(subj != null && size > INDEX_THRESHOLD){
+			List<Statement> candidates = getSubjectIndex().get(subj);
+			if(candidates == null){
+				return new MatchingIterator(null, null, null, new Resource[0], new Statement[0], 0);
+			}
+			return new MatchingIterator(subj, pred, obj, contexts, candidates.toArray(new Statement[candidates.size()]), candidates.size());
+		}
+		return new MatchingIterator(subj, pred, obj, contexts);
+	}
+
+	@Override
+	public void removeTermIteration(Iterator<Statement> iter, Resource subj, IRI pred, Value obj, Resource... contexts) {
+		remove(subj, pred, obj, contexts);
+	}
+	
+	private int indexOf(Object o){
+		if(end <= INDEX_THRESHOLD){
+			for(int i = 0; i < end; i++){
+				if(o.equals(statements[i])){
+					return i;
+				}
+			}
+			return -1;
+		}
+		Integer position = getPositions().get(o);
+		return position != null ? position : -1;
+	}
+	
+	private Map<Statement, Integer> getPositions(){
+		if(positions == null){
+			positions = new HashMap<Statement, Integer>(Math.max(16, size * 4 / 3 + 1));
+			for(int i = 0; i < end; i++){
+				if(statements[i] != null){
+					positions.put(statements[i], i);
+				}
+			}
+		}
+		return positions;
+	}
+	
+	private Map<Resource, List<Statement>> getSubjectIndex(){
+		if(subjectIndex == null){
+			subjectIndex = new HashMap<Resource, List<Statement>>();
+			for(int i = 0; i < end; i++){
+				if(statements[i] != null){
+					getOrCreate(subjectIndex, statements[i].getSubject()).add(statements[i]);
+				}
+			}
+		}
+		return subjectIndex;
+	}
+	
+	private static List<Statement> getOrCreate(Map<Resource, List<Statement>> index, Resource subject){
+		List<Statement> list = index.get(subject);
+		if(list == null){
+			list = new ArrayList<Statement>(4);
+			index.put(subject, list);
+		}
+		return list;
+	}
+	
+	/**
+	 * Empty the slot of a statement. The slots after it keep their positions, so that iterators remain valid.
+	 * @param index
+	 */
+	private void removeAt(int index){
+		Statement st = statements[index];
+		statements[index] = null;
+		size--;
+		while(end > 0 && statements[end - 1] == null){
+			end--;
+		}
+		if(positions != null){
+			positions.remove(st);
+		}
+		if(subjectIndex != null){
+			List<Statement> subjectStatements = subjectIndex.get(st.getSubject());
+			subjectStatements.remove(st);
+			if(subjectStatements.isEmpty()){
+				subjectIndex.remove(st.getSubject());
+			}
+		}
+	}
+	
+	/**
+	 * Move the statements into the empty slots of removed statements, keeping their order.
+	 */
+	private void compact(){
+		int used = 0;
+		for(int i = 0; i < end; i++){
+			if(statements[i] != null){
+				statements[used++] = statements[i];
+			}
+		}
+		Arrays.fill(statements, used, end, null);
+		end = used;
+		positions = null;
+	}
+	
+	private static boolean matches(Statement st, Resource subj, IRI pred, Value obj, Resource... contexts){
+		if(subj != null && !subj.equals(st.getSubject())){
+			return false;
+		}
+		if(pred != null && !pred.equals(st.getPredicate())){
+			return false;
+		}
+		if(obj != null && !obj.equals(st.getObject())){
+			return false;
+		}
+		if(contexts == null || contexts.length == 0){
+			return true;
+		}
+		for(Resource context : contexts){
+			if(context == null ? st.getContext() == null : context.equals(st.getContext())){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Iterates over the statements matching a pattern, either directly over the slots of the model or over a snapshot of candidates.
+	 */
+	private class MatchingIterator implements Iterator<Statement> {
+		
+		private final Resource subj;
+		private final IRI pred;
+		private final Value obj;
+		private final Resource[] contexts;
+		private final Statement[] snapshot;
+		private final int limit;
+		private int cursor;
+		private Statement next;
+		private Statement last;
+		private int lastIndex;
+		
+		MatchingIterator(Resource subj, IRI pred, Value obj, Resource[] contexts){
+			this(subj, pred, obj, contexts, null, -1);
+		}
+		
+		MatchingIterator(Resource subj, IRI pred, Value obj, Resource[] contexts, Statement[] snapshot, int limit){
+			this.subj = subj;
+			this.pred = pred;
+			this.obj = obj;
+			this.contexts = contexts;
+			this.snapshot = snapshot;
+			this.limit = limit;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			while(next == null){
+				Statement[] source = snapshot != null ? snapshot : statements;
+				if(cursor >= (snapshot != null ? limit : end)){
+					return false;
+				}
+				Statement candidate = source[cursor++];
+				if(candidate != null && matches(candidate, subj, pred, obj, contexts)){
+					next = candidate;
+				}
+			}
+			return true;
+		}
+		
+		@Override
+		public Statement next() {
+			if(!hasNext()){
+				throw new NoSuchElementException();
+			}
+			last = next;
+			lastIndex = cursor - 1;
+			next = null;
+			return last;
+		}
+		
+		@Override
+		public void remove() {
+			if(last == null){
+				throw new IllegalStateException();
+			}
+			if(snapshot == null){
+				removeAt(lastIndex);
+			}
+			else{
+				CompactModel.this.remove(last);
+			}
+			last = null;
+		}
+	}
+
+}
@@ -19,16 +19,38 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 import org.springframework.data.semantic.config.ConfigTest;
+import org.springframework.data.semantic.convert.TestEntityIdentityMap;
 import org.springframework.data.semantic.convert.TestEntityInstantiator;
+import org.springframework.data.semantic.core.TestRDFState;
 import org.springframework.data.semantic.mapping.TestSemanticEntityState;
 import org.springframework.data.semantic.mapping.TestSemanticPersistentEntity;
 import org.springframework.data.semantic.mapping.TestStringSemanticPersistentEntity;
+import org.springframework.data.semantic.query.model.TestQueryModel;
 import org.springframework.data.semantic.repository.TestLazyInitializationDSP705;
 import org.springframework.data.semantic.repository.TestSemanticRepository;
+import org.springframework.data.semantic.support.TestBatchedDelete;
+import org.springframework.data.semantic.support.TestCascadeDelete;
+import org.springframework.data.semantic.support.TestChunkedCreate;
+import org.springframework.data.semantic.support.TestDeleteById;
+import org.springframework.data.semantic.support.TestNamedGraphEntity;
 import org.springframework.data.semantic.support.TestNamespaceAnnotation;
+import org.springframework.data.semantic.support.TestOptimisticLocking;
+import org.springframework.data.semantic.support.TestParallelMaterializer;
+import org.springframework.data.semantic.support.TestParallelWrite;
 import org.springframework.data.semantic.support.TestRelativePredicateAnnotation;
+import org.springframework.data.semantic.support.TestRootPopulation;
+import org.springframework.data.semantic.support.TestSemanticTemplateSession;
 import org.springframework.data.semantic.support.TestSemanticTemplateStatementsCollector;
+import org.springframework.data.semantic.support.TestUpsert;
 import org.springframework.data.semantic.support.TestValueUtils;
+import org.springframework.data.semantic.support.convert.TestEntitySnapshots;
+import org.springframework.data.semantic.support.convert.TestLazyAssociationLoader;
+import org.springframework.data.semantic.support.convert.TestMethodHandleEntityInstantiator;
+import org.springframework.data.semantic.support.convert.TestSemanticProjectionFactory;
+import org.springframework.data.semantic.support.convert.TestSubjectLookupPlanner;
+import org.springframework.data.semantic.support.convert.TestValueDecoders;
+import org.springframework.data.semantic.support.convert.state.TestMoleculeIndex;
+import org.springframework.data.semantic.support.util.TestCompactModel;
 
 @RunWith(Suite.class)
 @SuiteClasses({
@@ -43,7 +65,29 @@ import org.springframework.data.semantic.support.TestValueUtils;
 	, TestSemanticRepository.class 
 	, TestNamespaceAnnotation.class
 	, TestRelativePredicateAnnotation.class
-	, TestSemanticTemplateStatementsCollector.class})
+	, TestSemanticTemplateStatementsCollector.class
+	, TestEntityIdentityMap.class
+	, TestRDFState.class
+	, TestQueryModel.class
+	, TestBatchedDelete.class
+	, TestCascadeDelete.class
+	, TestChunkedCreate.class
+	, TestDeleteById.class
+	, TestNamedGraphEntity.class
+	, TestOptimisticLocking.class
+	, TestParallelMaterializer.class
+	, TestParallelWrite.class
+	, TestRootPopulation.class
+	, TestSemanticTemplateSession.class
+	, TestUpsert.class
+	, TestEntitySnapshots.class
+	, TestLazyAssociationLoader.class
+	, TestMethodHandleEntityInstantiator.class
+	, TestSemanticProjectionFactory.class
+	, TestSubjectLookupPlanner.class
+	, TestValueDecoders.class
+	, TestMoleculeIndex.class
+	, TestCompactModel.class})
 public class AllTests {
 
 }
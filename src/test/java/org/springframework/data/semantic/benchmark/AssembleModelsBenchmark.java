@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.benchmark;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.impl.TreeModel;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.springframework.data.semantic.core.PooledSemanticDatabase;
+import org.springframework.data.semantic.support.SemanticTemplateStatementsCollector;
+import org.springframework.data.semantic.support.convert.EntityToQueryConverter;
+import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+
+/**
+ * Compares the single-pass grouping of {@link SemanticTemplateStatementsCollector#assembleModels(IRI, Model)} 
+ * with the previous filter-based implementation on a graph query result of 100k statements. 
+ * Run the main method; not part of the test suite.
+ *
+ */
+public class AssembleModelsBenchmark {
+	
+	private static final int ENTITIES = 11000;
+	private static final int SHARED = 500;
+	private static final int ROUNDS = 15;
+	
+	public static void main(String[] args) throws Exception {
+		ValueFactory vf = SimpleValueFactory.getInstance();
+		IRI type = vf.createIRI("urn:benchmark:Entity");
+		IRI label = vf.createIRI("urn:benchmark:field:label");
+		IRI tag = vf.createIRI("urn:benchmark:field:tag");
+		IRI related = vf.createIRI("urn:benchmark:field:related");
+		IRI relatedType = vf.createIRI("urn:benchmark:Related");
+		Model result = new LinkedHashModel();
+		for(int i = 0; i < SHARED; i++){
+			IRI shared = vf.createIRI("urn:benchmark:shared:" + i);
+			result.add(shared, RDF.TYPE, relatedType);
+			result.add(shared, label, vf.createLiteral("shared " + i));
+		}
+		for(int i = 0; i < ENTITIES; i++){
+			IRI id = vf.createIRI("urn:benchmark:entity:" + i);
+			result.add(id, RDF.TYPE, type);
+			result.add(id, label, vf.createLiteral("entity " + i));
+			for(int j = 0; j < 6; j++){
+				result.add(id, tag, vf.createLiteral("tag " + i + " " + j));
+			}
+			result.add(id, related, vf.createIRI("urn:benchmark:shared:" + (i % SHARED)));
+		}
+		System.out.println("statements: " + result.size());
+		
+		SailRepository repository = new SailRepository(new MemoryStore());
+		repository.initialize();
+		PooledSemanticDatabase semanticDB = new PooledSemanticDatabase(repository, 1);
+		SemanticMappingContext mappingContext = new SemanticMappingContext(semanticDB.getNamespaces(), semanticDB.getDefaultNamespace(), true);
+		SemanticTemplateStatementsCollector collector = new SemanticTemplateStatementsCollector(semanticDB, mappingContext, new EntityToQueryConverter(mappingContext));
+		
+		for(int round = 0; round < ROUNDS; round++){
+			long start = System.nanoTime();
+			int grouped = collector.assembleModels(type, result).size();
+			long groupedTime = System.nanoTime() - start;
+			start = System.nanoTime();
+			int filtered = assembleModelsByFiltering(type, result).size();
+			long filteredTime = System.nanoTime() - start;
+			System.out.println(String.format("round %d: single pass %d ms, filtering %d ms (molecules %d/%d)", 
+					round, groupedTime / 1000000, filteredTime / 1000000, grouped, filtered));
+		}
+		semanticDB.shutdown();
+		repository.shutDown();
+	}
+	
+	private static Collection<Model> assembleModelsByFiltering(IRI type, Model allStatements){
+		Model subjects = allStatements.filter(null, null, type);
+		Map<Resource, Model> entityIdToModel = new HashMap<Resource, Model>();
+		for(Statement st : subjects){
+			Resource subject = st.getSubject();
+			Model statementsForSubject = new TreeModel();
+			getStatementsForSubject(allStatements, subject, statementsForSubject);
+			entityIdToModel.put(subject, statementsForSubject);
+		}
+		return entityIdToModel.values();
+	}
+	
+	private static void getStatementsForSubject(Model source, Resource subject, Model dest){
+		Model directStatements = source.filter(subject, null, null);
+		dest.addAll(directStatements);
+		for(Statement st : directStatements){
+			Value object = st.getObject();
+			if(object instanceof Resource && !st.getPredicate().equals(RDF.TYPE) && dest.filter((Resource) object, null, null).isEmpty()){
+				getStatementsForSubject(source, (Resource) object, dest);
+			}
+		}
+	}
+
+}
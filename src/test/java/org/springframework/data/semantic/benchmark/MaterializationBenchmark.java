@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.semantic.config.SemanticConfiguration;
+import org.springframework.data.semantic.core.PooledSemanticDatabase;
+import org.springframework.data.semantic.model.WineBody;
+import org.springframework.data.semantic.support.ParallelMaterializer;
+import org.springframework.data.semantic.support.SemanticTemplateCRUD;
+
+/**
+ * Compares sequential and parallel conversion of entity molecules into entities, as done by findAll.
+ * Run the main method; not part of the test suite. The speedup depends on the number of available cores.
+ *
+ */
+public class MaterializationBenchmark {
+	
+	private static final int ENTITIES = 20000;
+	private static final int ROUNDS = 8;
+	
+	public static void main(String[] args) throws Exception {
+		SailRepository repository = new SailRepository(new MemoryStore());
+		repository.initialize();
+		PooledSemanticDatabase semanticDB = new PooledSemanticDatabase(repository, 4);
+		final SemanticTemplateCRUD crud = new SemanticTemplateCRUD(semanticDB, new SemanticConfiguration().conversionService(), true);
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		crud.setApplicationContext(context);
+		crud.afterPropertiesSet();
+		
+		ValueFactory vf = repository.getValueFactory();
+		IRI type = vf.createIRI("http://www.w3.org/TR/2003/PR-owl-guide-20031209/wine#WineBody");
+		IRI label = vf.createIRI("urn:winebody:field:label");
+		List<Model> molecules = new ArrayList<Model>(ENTITIES);
+		for(int i = 0; i < ENTITIES; i++){
+			IRI id = vf.createIRI("urn:benchmark:wine:" + i);
+			Model molecule = new LinkedHashModel();
+			molecule.add(id, RDF.TYPE, type);
+			molecule.add(id, label, vf.createLiteral("wine " + i));
+			molecules.add(molecule);
+		}
+		Converter<Model, WineBody> converter = new Converter<Model, WineBody>() {
+			@Override
+			public WineBody convert(Model source) {
+				return crud.createEntity(source, WineBody.class);
+			}
+		};
+		ParallelMaterializer sequential = new ParallelMaterializer(0, null);
+		ParallelMaterializer parallel = new ParallelMaterializer(1000, null);
+		System.out.println("cores: " + Runtime.getRuntime().availableProcessors());
+		for(int round = 0; round < ROUNDS; round++){
+			long start = System.nanoTime();
+			List<WineBody> first = sequential.materialize(molecules, converter);
+			long sequentialTime = System.nanoTime() - start;
+			start = System.nanoTime();
+			List<WineBody> second = parallel.materialize(molecules, converter);
+			long parallelTime = System.nanoTime() - start;
+			System.out.println(String.format("round %d: sequential %d ms, parallel %d ms (%d/%d entities, last %s)", round, sequentialTime / 1000000, parallelTime / 1000000, 
+					first.size(), second.size(), second.get(second.size() - 1).getLabel()));
+		}
+		context.close();
+		semanticDB.shutdown();
+		repository.shutDown();
+	}
+
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.springframework.data.semantic.core.RDFState;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.model.ModelEntity;
+import org.springframework.data.semantic.support.convert.EntityToStatementsConverter;
+import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+import org.springframework.data.semantic.support.util.CompactModel;
+import org.springframework.data.util.ClassTypeInformation;
+
+/**
+ * Measures the retained heap per entity of {@link RDFState} with compact models against the previous layout 
+ * of two {@link LinkedHashModel}s per state, for reading (a state with the model of each retrieved molecule) and for bulk writing 
+ * (a state per converted entity, merged into one state). The statements themselves are shared and not measured. 
+ * Run the main method with a fixed heap, e.g. -Xmx2g; not part of the test suite.
+ *
+ */
+public class RDFStateFootprintBenchmark {
+	
+	private static final int ENTITIES = 20000;
+	private static final int ROUNDS = 3;
+	
+	/**
+	 * Keeps the measured states reachable while the heap is measured.
+	 */
+	private static Object retained;
+	
+	public static void main(String[] args) throws Exception {
+		ValueFactory vf = SimpleValueFactory.getInstance();
+		SemanticMappingContext mappingContext = new SemanticMappingContext(Arrays.asList(new SimpleNamespace("skos", "http://www.w3.org/2004/02/skos/core#")), new SimpleNamespace("", "urn:benchmark:"), true);
+		@SuppressWarnings("unchecked")
+		SemanticPersistentEntity<ModelEntity> persistentEntity = (SemanticPersistentEntity<ModelEntity>) mappingContext.getPersistentEntity(ClassTypeInformation.from(ModelEntity.class));
+		EntityToStatementsConverter toStatementsConverter = new EntityToStatementsConverter(mappingContext);
+		IRI label = vf.createIRI("http://www.w3.org/2004/02/skos/core#prefLabel");
+		IRI altLabel = vf.createIRI("http://www.w3.org/2004/02/skos/core#altLabel");
+		
+		List<List<Statement>> molecules = new ArrayList<List<Statement>>(ENTITIES);
+		List<ModelEntity> entities = new ArrayList<ModelEntity>(ENTITIES);
+		for(int i = 0; i < ENTITIES; i++){
+			IRI id = vf.createIRI("urn:benchmark:entity:" + i);
+			List<Statement> molecule = new ArrayList<Statement>();
+			molecule.add(vf.createStatement(id, RDF.TYPE, persistentEntity.getRDFType()));
+			molecule.add(vf.createStatement(id, label, vf.createLiteral("entity " + i)));
+			List<String> synonyms = new ArrayList<String>();
+			for(int j = 0; j < 6; j++){
+				molecule.add(vf.createStatement(id, altLabel, vf.createLiteral("synonym " + i + " " + j)));
+				synonyms.add("synonym " + i + " " + j);
+			}
+			molecules.add(molecule);
+			ModelEntity entity = new ModelEntity();
+			entity.setUri(id);
+			entity.setName("entity " + i);
+			entity.setSynonyms(synonyms);
+			entities.add(entity);
+		}
+		
+		for(int round = 0; round < ROUNDS; round++){
+			long base = usedHeap();
+			List<RDFState> states = new ArrayList<RDFState>(ENTITIES);
+			for(List<Statement> molecule : molecules){
+				states.add(new RDFState(CompactModel.fromDistinct(molecule)));
+			}
+			retained = states;
+			long compactRead = usedHeap() - base;
+			retained = null;
+			states = null;
+			
+			base = usedHeap();
+			states = new ArrayList<RDFState>(ENTITIES);
+			for(List<Statement> molecule : molecules){
+				RDFState state = new RDFState(new LinkedHashModel(molecule));
+				state.setDeleteStatements(new LinkedHashModel());
+				states.add(state);
+			}
+			retained = states;
+			long linkedRead = usedHeap() - base;
+			retained = null;
+			states = null;
+			
+			base = usedHeap();
+			states = new ArrayList<RDFState>(ENTITIES);
+			RDFState merged = new RDFState();
+			for(ModelEntity entity : entities){
+				RDFState state = toStatementsConverter.convertEntityToStatements(persistentEntity, entity);
+				states.add(state);
+				merged.merge(state);
+			}
+			retained = Arrays.asList(states, merged);
+			long compactWrite = usedHeap() - base;
+			retained = null;
+			states = null;
+			merged = null;
+			
+			base = usedHeap();
+			states = new ArrayList<RDFState>(ENTITIES);
+			merged = new RDFState(new LinkedHashModel());
+			merged.setDeleteStatements(new LinkedHashModel());
+			for(ModelEntity entity : entities){
+				RDFState state = new RDFState(new LinkedHashModel(toStatementsConverter.convertEntityToStatements(persistentEntity, entity).getCurrentStatements()));
+				state.setDeleteStatements(new LinkedHashModel());
+				states.add(state);
+				merged.merge(state);
+			}
+			retained = Arrays.asList(states, merged);
+			long linkedWrite = usedHeap() - base;
+			retained = null;
+			states = null;
+			merged = null;
+			
+			System.out.println(String.format("round %d: read %d vs %d bytes/entity, bulk write %d vs %d bytes/entity (compact vs linked hash models)", 
+					round, compactRead / ENTITIES, linkedRead / ENTITIES, compactWrite / ENTITIES, linkedWrite / ENTITIES));
+		}
+	}
+	
+	private static long usedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		for(int i = 0; i < 3; i++){
+			System.gc();
+			Thread.sleep(50);
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.springframework.data.semantic.core.PooledSemanticDatabase;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.model.WineBody;
+import org.springframework.data.semantic.support.MappingPolicyImpl;
+import org.springframework.data.semantic.support.SemanticTemplateStatementsCollector;
+import org.springframework.data.semantic.support.convert.EntityToQueryConverter;
+import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+import org.springframework.data.util.ClassTypeInformation;
+
+/**
+ * Compares the retrieval of flat entity molecules through a subject lookup with the CONSTRUCT query path,
+ * both as parsed SPARQL text and as query algebra. Run the main method; not part of the test suite.
+ *
+ */
+public class SubjectLookupBenchmark {
+	
+	private static final int ENTITIES = 5000;
+	private static final int ROUNDS = 5;
+	
+	public static void main(String[] args) throws Exception {
+		SailRepository repository = new SailRepository(new MemoryStore());
+		repository.initialize();
+		ValueFactory vf = repository.getValueFactory();
+		IRI type = vf.createIRI("http://www.w3.org/TR/2003/PR-owl-guide-20031209/wine#WineBody");
+		List<IRI> ids = new ArrayList<IRI>(ENTITIES);
+		RepositoryConnection connection = repository.getConnection();
+		connection.begin();
+		for(int i = 0; i < ENTITIES; i++){
+			IRI id = vf.createIRI("urn:benchmark:wine:" + i);
+			ids.add(id);
+			connection.add(id, RDF.TYPE, type);
+			connection.add(id, RDFS.LABEL, vf.createLiteral("wine " + i));
+			connection.add(id, RDFS.COMMENT, vf.createLiteral("unmapped " + i));
+		}
+		connection.commit();
+		connection.close();
+		
+		PooledSemanticDatabase semanticDB = new PooledSemanticDatabase(repository, 4);
+		SemanticMappingContext mappingContext = new SemanticMappingContext(Arrays.asList(new SimpleNamespace("skos", "http://www.w3.org/2004/02/skos/core#")), new SimpleNamespace("", "urn:spring-data-semantic:"), true);
+		final EntityToQueryConverter converter = new EntityToQueryConverter(mappingContext);
+		final SemanticTemplateStatementsCollector collector = new SemanticTemplateStatementsCollector(semanticDB, mappingContext, converter);
+		final SemanticPersistentEntity<?> entity = mappingContext.getPersistentEntity(ClassTypeInformation.from(WineBody.class));
+		
+		for(int round = 0; round < ROUNDS; round++){
+			long text = 0, algebra = 0, lookup = 0;
+			long start = System.nanoTime();
+			for(IRI id : ids){
+				text += semanticDB.getGraphQueryResults(converter.getGraphQueryForResource(id, entity, MappingPolicyImpl.ALL_POLICY).toString()).size();
+			}
+			long textTime = System.nanoTime() - start;
+			start = System.nanoTime();
+			for(IRI id : ids){
+				algebra += semanticDB.getGraphQueryResults(converter.getGraphQueryForResource(id, entity, MappingPolicyImpl.ALL_POLICY)).size();
+			}
+			long algebraTime = System.nanoTime() - start;
+			start = System.nanoTime();
+			for(IRI id : ids){
+				lookup += collector.getStatementsForResource(id, WineBody.class, MappingPolicyImpl.ALL_POLICY).size();
+			}
+			long lookupTime = System.nanoTime() - start;
+			System.out.println(String.format("round %d: CONSTRUCT text %.1f us/entity, CONSTRUCT algebra %.1f us/entity, subject lookup %.1f us/entity (statements %d/%d/%d)", 
+					round, textTime / 1000.0 / ENTITIES, algebraTime / 1000.0 / ENTITIES, lookupTime / 1000.0 / ENTITIES, text, algebra, lookup));
+		}
+		semanticDB.shutdown();
+		repository.shutDown();
+	}
+
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.model.ModelEntity;
+import org.springframework.data.semantic.support.convert.SemanticEntityInstantiatorImpl;
+import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.util.ClassTypeInformation;
+
+public class TestEntityIdentityMap {
+	
+	private IRI id1 = ValueUtils.createIRI("urn:default:id1");
+	private IRI id2 = ValueUtils.createIRI("urn:default:id2");
+	private SemanticEntityInstantiator instantiator = new SemanticEntityInstantiatorImpl();
+	private SemanticPersistentEntity<ModelEntity> testEntityType;
+	
+	@SuppressWarnings("unchecked")
+	@Before
+	public void setupTest(){
+		SemanticMappingContext mappingContext = new SemanticMappingContext(Arrays.asList(new SimpleNamespace("skos", "http://www.w3.org/2004/02/skos/core#")), new SimpleNamespace("", "urn:default:"), true);
+		testEntityType = (SemanticPersistentEntity<ModelEntity>) mappingContext.getPersistentEntity(ClassTypeInformation.from(ModelEntity.class));
+	}
+	
+	@Test
+	public void testSameResourceSameInstance(){
+		EntityIdentityMap identityMap = new EntityIdentityMap();
+		ModelEntity first = identityMap.getInstance(testEntityType, id1, instantiator);
+		ModelEntity second = identityMap.getInstance(testEntityType, id1, instantiator);
+		ModelEntity other = identityMap.getInstance(testEntityType, id2, instantiator);
+		assertSame(first, second);
+		assertNotSame(first, other);
+		assertEquals(id1, first.getUri());
+		assertEquals(2, identityMap.size());
+	}
+	
+	@Test
+	public void testPopulationClaimedOnce(){
+		EntityIdentityMap identityMap = new EntityIdentityMap();
+		assertFalse(identityMap.claimPopulation(testEntityType, id1));
+		identityMap.getInstance(testEntityType, id1, instantiator);
+		assertTrue(identityMap.claimPopulation(testEntityType, id1));
+		assertFalse(identityMap.claimPopulation(testEntityType, id1));
+	}
+	
+	@Test
+	public void testRootsAreNotPopulatedAsAssociations(){
+		EntityIdentityMap identityMap = new EntityIdentityMap();
+		identityMap.addRoot(testEntityType, id1);
+		identityMap.getInstance(testEntityType, id1, instantiator);
+		identityMap.getInstance(testEntityType, id2, instantiator);
+		assertFalse(identityMap.claimAssociationPopulation(testEntityType, id1));
+		assertTrue(identityMap.claimPopulation(testEntityType, id1));
+		assertTrue(identityMap.claimAssociationPopulation(testEntityType, id2));
+		assertFalse(identityMap.claimPopulation(testEntityType, id2));
+	}
+	
+	@Test
+	public void testSeparateLoadsSeparateInstances(){
+		ModelEntity first = new EntityIdentityMap().getInstance(testEntityType, id1, instantiator);
+		ModelEntity second = new EntityIdentityMap().getInstance(testEntityType, id1, instantiator);
+		assertNotSame(first, second);
+	}
+
+}
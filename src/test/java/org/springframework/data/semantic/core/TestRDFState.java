@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.junit.Test;
+
+public class TestRDFState {
+	
+	private final ValueFactory factory = SimpleValueFactory.getInstance();
+	
+	@Test
+	public void testAddAndDelete(){
+		RDFState state = new RDFState();
+		assertTrue(state.isEmpty());
+		Statement first = statement(0, 0);
+		Statement second = statement(0, 1);
+		state.addStatement(first);
+		state.addStatement(second);
+		state.deleteStatement(first);
+		assertEquals(1, state.getCurrentStatements().size());
+		assertTrue(state.getCurrentStatements().contains(second));
+		assertTrue(state.getDeleteStatements().contains(first));
+		
+		state.addStatement(first);
+		assertTrue(state.getCurrentStatements().contains(first));
+		assertTrue(state.getDeleteStatements().isEmpty());
+	}
+	
+	@Test
+	public void testDeleteSetIsCreatedOnDemand(){
+		RDFState state = new RDFState();
+		state.addStatement(statement(0, 0));
+		state.merge(new RDFState());
+		assertFalse(state.isEmpty());
+		assertTrue(state.getDeleteStatements().isEmpty());
+	}
+	
+	@Test
+	public void testMerge(){
+		RDFState first = new RDFState();
+		first.addStatement(statement(0, 0));
+		first.deleteStatement(statement(0, 1));
+		RDFState second = new RDFState();
+		second.addStatement(statement(1, 0));
+		second.addStatement(statement(0, 0));
+		second.deleteStatement(statement(1, 1));
+		second.expectStatement(statement(1, 2));
+		
+		RDFState merged = new RDFState();
+		merged.merge(first);
+		merged.merge(second);
+		assertEquals(2, merged.getCurrentStatements().size());
+		assertEquals(2, merged.getDeleteStatements().size());
+		assertTrue(merged.getDeleteStatements().contains(statement(0, 1)));
+		assertTrue(merged.getExpectedStatements().contains(statement(1, 2)));
+		assertEquals(1, second.getDeleteStatements().size());
+	}
+	
+	@Test
+	public void testDeleteFromLargeMergedState(){
+		int entities = 20000;
+		RDFState merged = new RDFState();
+		for(int i = 0; i < entities; i++){
+			RDFState state = new RDFState();
+			state.addStatement(statement(i, 0));
+			state.addStatement(statement(i, 1));
+			merged.merge(state);
+		}
+		List<Statement> deleted = new ArrayList<Statement>();
+		for(int i = 0; i < entities; i += 2){
+			merged.deleteStatement(statement(i, 0));
+			deleted.add(statement(i, 0));
+		}
+		assertEquals(entities * 2 - deleted.size(), merged.getCurrentStatements().size());
+		assertEquals(deleted.size(), merged.getDeleteStatements().size());
+		assertFalse(merged.getCurrentStatements().contains(statement(0, 0)));
+		assertEquals(1, merged.getCurrentStatements().filter(subject(0), null, null).size());
+		assertEquals(2, merged.getCurrentStatements().filter(subject(1), null, null).size());
+		
+		for(Statement st : deleted){
+			merged.addStatement(st);
+		}
+		assertEquals(entities * 2, merged.getCurrentStatements().size());
+		assertTrue(merged.getDeleteStatements().isEmpty());
+		assertEquals(2, merged.getCurrentStatements().filter(subject(0), null, null).size());
+	}
+	
+	private IRI subject(int entity){
+		return factory.createIRI("urn:test:s" + entity);
+	}
+	
+	private Statement statement(int entity, int value){
+		return factory.createStatement(subject(entity), RDFS.LABEL, factory.createLiteral(value));
+	}
+
+}
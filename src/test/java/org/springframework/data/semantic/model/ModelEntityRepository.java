@@ -39,5 +39,9 @@ public interface ModelEntityRepository extends SemanticRepository<ModelEntity> {
 	Long countByRelated(IRI related);
 	
 	ModelEntity findOneByRelated(IRI related);
+	
+	List<ModelEntityProjection> findProjectionByName(String name);
+	
+	List<ModelEntitySummary> findSummaryBySynonyms(List<String> synonyms);
 
 }
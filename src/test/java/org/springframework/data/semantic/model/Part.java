@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.model;
+
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.springframework.data.semantic.annotation.Fetch;
+import org.springframework.data.semantic.annotation.Optional;
+import org.springframework.data.semantic.annotation.Predicate;
+import org.springframework.data.semantic.annotation.RelatedTo;
+import org.springframework.data.semantic.annotation.ResourceId;
+import org.springframework.data.semantic.annotation.SemanticEntity;
+import org.springframework.data.semantic.support.Cascade;
+import org.springframework.data.semantic.support.Direction;
+
+@SemanticEntity(rdfType="urn:spring-data-semantic:Part")
+public class Part {
+	
+	@ResourceId
+	private IRI uri;
+	
+	@Predicate("http://www.w3.org/2000/01/rdf-schema#label")
+	private String label;
+	
+	@Optional
+	@Fetch({Cascade.GET, Cascade.DELETE})
+	@RelatedTo(direction=Direction.OUTGOING)
+	@Predicate("urn:spring-data-semantic:hasPart")
+	private List<Part> parts;
+	
+	@Optional
+	@RelatedTo(direction=Direction.OUTGOING)
+	@Predicate("urn:spring-data-semantic:uses")
+	private List<Part> uses;
+	
+	public IRI getUri() {
+		return uri;
+	}
+	
+	public void setUri(IRI uri) {
+		this.uri = uri;
+	}
+	
+	public String getLabel() {
+		return label;
+	}
+	
+	public void setLabel(String label) {
+		this.label = label;
+	}
+	
+	public List<Part> getParts() {
+		return parts;
+	}
+	
+	public void setParts(List<Part> parts) {
+		this.parts = parts;
+	}
+	
+	public List<Part> getUses() {
+		return uses;
+	}
+	
+	public void setUses(List<Part> uses) {
+		this.uses = uses;
+	}
+}
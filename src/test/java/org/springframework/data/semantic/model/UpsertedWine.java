@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.model;
+
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.springframework.data.semantic.annotation.Optional;
+import org.springframework.data.semantic.annotation.Predicate;
+import org.springframework.data.semantic.annotation.ResourceId;
+import org.springframework.data.semantic.annotation.SemanticEntity;
+
+@SemanticEntity(rdfType="http://www.w3.org/TR/2003/PR-owl-guide-20031209/wine#Wine", upsert=true)
+public class UpsertedWine {
+	
+	@ResourceId
+	private IRI uri;
+	
+	@Predicate("http://www.w3.org/2000/01/rdf-schema#label")
+	private String label;
+	
+	@Optional
+	@Predicate("http://www.w3.org/2004/02/skos/core#altLabel")
+	private List<String> altLabels;
+	
+	public void setUri(IRI uri) {
+		this.uri = uri;
+	}
+	
+	public IRI getUri() {
+		return uri;
+	}
+	
+	public void setLabel(String label) {
+		this.label = label;
+	}
+	
+	public String getLabel() {
+		return label;
+	}
+	
+	public void setAltLabels(List<String> altLabels) {
+		this.altLabels = altLabels;
+	}
+	
+	public List<String> getAltLabels() {
+		return altLabels;
+	}
+}
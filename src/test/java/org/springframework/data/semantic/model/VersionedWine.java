@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.model;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.semantic.annotation.Predicate;
+import org.springframework.data.semantic.annotation.ResourceId;
+import org.springframework.data.semantic.annotation.SemanticEntity;
+
+@SemanticEntity(rdfType="http://www.w3.org/TR/2003/PR-owl-guide-20031209/wine#Wine")
+public class VersionedWine {
+	
+	@ResourceId
+	private IRI uri;
+	
+	@Predicate("http://www.w3.org/2000/01/rdf-schema#label")
+	private String label;
+	
+	@Version
+	@Predicate("http://www.w3.org/2002/07/owl#versionInfo")
+	private Long version;
+	
+	public void setUri(IRI uri) {
+		this.uri = uri;
+	}
+	
+	public IRI getUri() {
+		return uri;
+	}
+	
+	public void setLabel(String label) {
+		this.label = label;
+	}
+	
+	public String getLabel() {
+		return label;
+	}
+	
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+	
+	public Long getVersion() {
+		return version;
+	}
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.query.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.QueryResults;
+import org.eclipse.rdf4j.query.algebra.DeleteData;
+import org.eclipse.rdf4j.query.algebra.InsertData;
+import org.eclipse.rdf4j.query.algebra.UpdateExpr;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.eclipse.rdf4j.repository.sail.SailBooleanQuery;
+import org.eclipse.rdf4j.repository.sail.SailGraphQuery;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailTupleQuery;
+import org.eclipse.rdf4j.repository.sail.SailUpdate;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestQueryModel {
+	
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+	private static final String NS = "urn:test:";
+	
+	private SailRepository repository;
+	private SailRepositoryConnection connection;
+	
+	private IRI type = vf.createIRI(NS, "Type");
+	private IRI first = vf.createIRI(NS, "first");
+	private IRI second = vf.createIRI(NS, "second");
+	private Literal quoted = vf.createLiteral("say \"hi\"\n\\ bye");
+	
+	@Before
+	public void initRepository(){
+		repository = new SailRepository(new MemoryStore());
+		repository.initialize();
+		connection = repository.getConnection();
+		connection.add(first, RDF.TYPE, type);
+		connection.add(first, RDFS.LABEL, quoted);
+		connection.add(first, RDFS.COMMENT, vf.createLiteral("comment", "en"));
+		connection.add(second, RDF.TYPE, type);
+	}
+	
+	@After
+	public void shutdownRepository(){
+		connection.close();
+		repository.shutDown();
+	}
+	
+	@Test
+	public void testLiteralRendering(){
+		assertEquals("\"say \\\"hi\\\"\\n\\\\ bye\"", QueryTerm.value(quoted).toString());
+		assertEquals("\"comment\"@en", QueryTerm.value(vf.createLiteral("comment", "en")).toString());
+		assertEquals("\"1\"^^<http://www.w3.org/2001/XMLSchema#int>", QueryTerm.value(vf.createLiteral(1)).toString());
+	}
+	
+	@Test
+	public void testConstructTextAndAlgebra(){
+		QueryTerm subject = QueryTerm.var("s");
+		IRI alias = vf.createIRI(NS, "alias");
+		GroupPattern where = new GroupPattern(new TriplePattern(subject, RDF.TYPE, type));
+		where.add(new OptionalPattern(new GroupPattern(new TriplePattern(subject, RDFS.LABEL, QueryTerm.var("label")))));
+		where.union(new GroupPattern(new TriplePattern(subject, RDFS.COMMENT, QueryTerm.var("label"))));
+		ConstructQuery query = new ConstructQuery(Arrays.asList(
+				new TriplePattern(subject, RDF.TYPE, type), 
+				new TriplePattern(subject, alias, QueryTerm.var("label"))), where);
+		
+		Model fromText = QueryResults.asModel(connection.prepareGraphQuery(QueryLanguage.SPARQL, query.toString()).evaluate());
+		Model fromAlgebra = QueryResults.asModel(new SailGraphQuery(query.toParsedQuery(), connection){}.evaluate());
+		assertEquals(fromText, fromAlgebra);
+		assertTrue(fromAlgebra.contains(first, alias, quoted));
+	}
+	
+	@Test
+	public void testConstructSlice(){
+		QueryTerm subject = QueryTerm.var("s");
+		IRI alias = vf.createIRI(NS, "alias");
+		GroupPattern where = new GroupPattern(new TriplePattern(subject, RDF.TYPE, type));
+		ConstructQuery query = new ConstructQuery(Arrays.asList(
+				new TriplePattern(subject, RDF.TYPE, type), 
+				new TriplePattern(subject, alias, type)), where);
+		query.setOffset(1L);
+		query.setLimit(1L);
+		
+		Model fromText = QueryResults.asModel(connection.prepareGraphQuery(QueryLanguage.SPARQL, query.toString()).evaluate());
+		Model fromAlgebra = QueryResults.asModel(new SailGraphQuery(query.toParsedQuery(), connection){}.evaluate());
+		assertEquals(1, fromText.size());
+		assertEquals(fromText, fromAlgebra);
+		assertEquals(QueryParserUtil.parseGraphQuery(QueryLanguage.SPARQL, query.toString(), null).getTupleExpr().getClass(), 
+				query.toParsedQuery().getTupleExpr().getClass());
+	}
+	
+	@Test
+	public void testSelectWithValuesAndSlice(){
+		GroupPattern where = new GroupPattern(new ValuesPattern("s", Arrays.asList(first, second)));
+		where.add(new TriplePattern(QueryTerm.var("s"), RDF.TYPE, type));
+		SelectQuery query = new SelectQuery(where, "s");
+		query.setLimit(1L);
+		
+		List<BindingSet> fromText = Iterations.asList(connection.prepareTupleQuery(QueryLanguage.SPARQL, query.toString()).evaluate());
+		List<BindingSet> fromAlgebra = Iterations.asList(new SailTupleQuery(query.toParsedQuery(), connection){}.evaluate());
+		assertEquals(1, fromText.size());
+		assertEquals(1, fromAlgebra.size());
+	}
+	
+	@Test
+	public void testCountAndAsk(){
+		GroupPattern where = new GroupPattern(new TriplePattern(QueryTerm.var("s"), RDF.TYPE, type));
+		SelectQuery count = SelectQuery.countDistinct(where, "s", "count");
+		List<BindingSet> result = Iterations.asList(new SailTupleQuery(count.toParsedQuery(), connection){}.evaluate());
+		assertEquals(2, ((Literal) result.get(0).getValue("count")).intValue());
+		
+		SelectQuery emptyCount = SelectQuery.countDistinct(new GroupPattern(new TriplePattern(QueryTerm.var("s"), RDF.TYPE, RDFS.CLASS)), "s", "count");
+		result = Iterations.asList(new SailTupleQuery(emptyCount.toParsedQuery(), connection){}.evaluate());
+		assertEquals(0, ((Literal) result.get(0).getValue("count")).intValue());
+		
+		assertTrue(new SailBooleanQuery(new AskQuery(new GroupPattern(new TriplePattern(QueryTerm.value(second), RDF.TYPE, type))).toParsedQuery(), connection){}.evaluate());
+		assertFalse(connection.prepareBooleanQuery(QueryLanguage.SPARQL, new AskQuery(new GroupPattern(new TriplePattern(QueryTerm.value(second), RDFS.LABEL, quoted))).toString()).evaluate());
+	}
+	
+	@Test
+	public void testModify(){
+		QueryTerm subject = QueryTerm.var("s");
+		GroupPattern where = new GroupPattern(new TriplePattern(subject, RDF.TYPE, type));
+		where.add(new TriplePattern(subject, RDFS.LABEL, QueryTerm.var("label")));
+		SparqlUpdate update = new SparqlUpdate(new ModifyOperation(
+				Arrays.asList(new TriplePattern(subject, RDFS.LABEL, QueryTerm.var("label"))), 
+				Arrays.asList(new TriplePattern(subject, RDFS.LABEL, QueryTerm.value(vf.createLiteral("replaced")))), 
+				where));
+		new SailUpdate(update.toParsedUpdate(), connection){}.execute();
+		assertFalse(connection.hasStatement(first, RDFS.LABEL, quoted, false));
+		assertTrue(connection.hasStatement(first, RDFS.LABEL, vf.createLiteral("replaced"), false));
+		
+		connection.prepareUpdate(QueryLanguage.SPARQL, update.toString()).execute();
+		assertTrue(connection.hasStatement(first, RDFS.LABEL, vf.createLiteral("replaced"), false));
+	}
+	
+	@Test
+	public void testDataOperations(){
+		IRI graph = vf.createIRI(NS, "graph");
+		List<Statement> deletes = Arrays.asList(vf.createStatement(first, RDFS.LABEL, quoted));
+		List<Statement> inserts = Arrays.asList(vf.createStatement(first, RDFS.LABEL, vf.createLiteral("inserted")), vf.createStatement(second, RDFS.LABEL, quoted, graph));
+		SparqlUpdate update = new SparqlUpdate(DataOperation.deleteData(deletes), DataOperation.insertData(inserts));
+		List<UpdateExpr> parsed = QueryParserUtil.parseUpdate(QueryLanguage.SPARQL, update.toString(), null).getUpdateExprs();
+		List<UpdateExpr> built = update.toParsedUpdate().getUpdateExprs();
+		assertEquals(2, parsed.size());
+		assertTrue(parsed.get(0) instanceof DeleteData);
+		assertTrue(parsed.get(1) instanceof InsertData);
+		assertTrue(((DeleteData) parsed.get(0)).getDataBlock().trim().endsWith(((DeleteData) built.get(0)).getDataBlock().trim()));
+		assertTrue(((InsertData) parsed.get(1)).getDataBlock().trim().endsWith(((InsertData) built.get(1)).getDataBlock().trim()));
+		assertTrue(update.toString().contains("GRAPH <urn:test:graph> { <urn:test:second> "));
+		
+		assertTrue(DataOperation.isGround(inserts));
+		assertFalse(DataOperation.isGround(Arrays.asList(vf.createStatement(vf.createBNode(), RDFS.LABEL, quoted))));
+	}
+
+}
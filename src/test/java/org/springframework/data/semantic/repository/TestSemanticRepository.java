@@ -49,7 +49,9 @@ import org.springframework.data.semantic.model.ModelEntityCollectorCascadeAllRep
 import org.springframework.data.semantic.model.ModelEntityCollectorRepository;
 import org.springframework.data.semantic.model.ModelEntityExtended;
 import org.springframework.data.semantic.model.ModelEntityExtendedRepository;
+import org.springframework.data.semantic.model.ModelEntityProjection;
 import org.springframework.data.semantic.model.ModelEntityRepository;
+import org.springframework.data.semantic.model.ModelEntitySummary;
 import org.springframework.data.semantic.model.TransientEntity;
 import org.springframework.data.semantic.model.TransientEntityRepository;
 import org.springframework.data.semantic.model.WineBody;
@@ -441,6 +443,24 @@ public class TestSemanticRepository {
 		assertTrue(entity.getUri().equals(MODEL_ENTITY.ENTITY_ONE) || entity.getUri().equals(MODEL_ENTITY.ENTITY_TWO));
 	}
 	
+	@Test
+	public void testFindProjectionBySimpleProperty(){
+		List<ModelEntityProjection> projections = modelEntityRepository.findProjectionByName("Model Entity One");
+		assertEquals(1, projections.size());
+		ModelEntityProjection projection = projections.get(0);
+		assertEquals(MODEL_ENTITY.ENTITY_ONE, projection.getUri());
+		assertEquals("Model Entity One", projection.getName());
+		assertEquals(2, projection.getSynonyms().size());
+	}
+	
+	@Test
+	public void testFindDtoProjectionByCollectionProperty(){
+		List<ModelEntitySummary> summaries = modelEntityRepository.findSummaryBySynonyms(Arrays.asList("Model Entity Eins", "Model Entity Uno"));
+		assertEquals(1, summaries.size());
+		assertEquals(MODEL_ENTITY.ENTITY_ONE.stringValue(), summaries.get(0).getUri());
+		assertEquals("Model Entity One", summaries.get(0).getName());
+	}
+	
 	@Test
 	public void testCountBySimpleProperty(){
 		long count = modelEntityRepository.countByName("Model Entity One");
@@ -0,0 +1,48 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.semantic.model.WineBody;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.semantic.testutils.AbstractSemanticTemplateTest;
+
+public class TestBatchedDelete extends AbstractSemanticTemplateTest {
+	
+	@Test
+	public void testEntitiesAreDeletedInOneWrite(){
+		List<WineBody> wines = new ArrayList<WineBody>();
+		for(int i = 0; i < 10; i++){
+			WineBody wine = new WineBody();
+			wine.setUri(ValueUtils.createIRI("urn:test:wine:"+i));
+			wine.setLabel("wine "+i);
+			wines.add(crud.create(wine));
+		}
+		semanticDB.resetCounters();
+		crud.delete(wines.subList(0, 6));
+		assertEquals(1, semanticDB.getWrites());
+		assertEquals(4, crud.count(WineBody.class));
+		assertNull(crud.find(ValueUtils.createIRI("urn:test:wine:0"), WineBody.class));
+		assertEquals("wine 6", crud.find(ValueUtils.createIRI("urn:test:wine:6"), WineBody.class).getLabel());
+	}
+
+}
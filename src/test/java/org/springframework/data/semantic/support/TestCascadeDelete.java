@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.semantic.model.Part;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.semantic.testutils.AbstractSemanticTemplateTest;
+
+public class TestCascadeDelete extends AbstractSemanticTemplateTest {
+	
+	private static final IRI ENGINE = ValueUtils.createIRI("urn:test:part:engine");
+	private static final IRI PISTON = ValueUtils.createIRI("urn:test:part:piston");
+	private static final IRI RING = ValueUtils.createIRI("urn:test:part:ring");
+	private static final IRI FUEL = ValueUtils.createIRI("urn:test:part:fuel");
+	
+	@Before
+	public void setup(){
+		Part fuel = part(FUEL);
+		Part ring = part(RING);
+		Part piston = part(PISTON, ring);
+		Part engine = part(ENGINE, piston);
+		engine.getUses().add(fuel);
+		// a cycle in the dependent graph
+		ring.getParts().add(engine);
+		crud.create(Arrays.asList(engine, piston, ring, fuel));
+	}
+	
+	@Test
+	public void testDependentsAreDeletedInOneWrite(){
+		Part engine = crud.find(ENGINE, Part.class);
+		semanticDB.resetCounters();
+		crud.delete(engine);
+		assertEquals(1, semanticDB.getWrites());
+		assertRemaining();
+	}
+	
+	@Test
+	public void testDeleteByIdCascades(){
+		crud.delete(ENGINE, Part.class);
+		assertRemaining();
+		assertNull(crud.find(PISTON, Part.class));
+	}
+	
+	private void assertRemaining(){
+		Model statements = semanticDB.getStoredStatements();
+		assertTrue(statements.filter(ENGINE, null, null).isEmpty());
+		assertTrue(statements.filter(PISTON, null, null).isEmpty());
+		assertTrue(statements.filter(RING, null, null).isEmpty());
+		assertEquals(2, statements.filter(FUEL, null, null).size());
+		assertEquals(2, statements.size());
+	}
+	
+	private Part part(IRI uri, Part... parts){
+		Part part = new Part();
+		part.setUri(uri);
+		part.setLabel(uri.getLocalName());
+		part.setParts(new ArrayList<Part>(Arrays.asList(parts)));
+		part.setUses(new ArrayList<Part>());
+		return part;
+	}
+
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.junit.Test;
+import org.springframework.data.semantic.core.BulkCreateListener;
+import org.springframework.data.semantic.core.BulkCreateReport;
+import org.springframework.data.semantic.model.WineBody;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.semantic.testutils.AbstractSemanticTemplateTest;
+
+public class TestChunkedCreate extends AbstractSemanticTemplateTest {
+	
+	private int produced;
+	
+	@Test
+	public void testEntitiesAreConsumedAndCommittedPerChunk(){
+		final List<Integer> producedPerChunk = new ArrayList<Integer>();
+		BulkCreateReport report = crud.createInChunks(wines(25), 10, 0, new BulkCreateListener() {
+			@Override
+			public void chunkCommitted(int chunk, int entities, int statements) {
+				producedPerChunk.add(produced);
+			}
+			
+			@Override
+			public void chunkFailed(int chunk, List<IRI> entityIds, RuntimeException cause) {
+			}
+			
+			@Override
+			public void entityFailed(int chunk, IRI entityId, RuntimeException cause) {
+			}
+		});
+		assertEquals(Arrays.asList(10, 20, 25), producedPerChunk);
+		assertEquals(3, report.getCommittedChunks());
+		assertEquals(25, report.getCommittedEntities());
+		assertEquals(50, report.getCommittedStatements());
+		assertFalse(report.hasFailures());
+		assertEquals(25, crud.count(WineBody.class));
+	}
+	
+	@Test
+	public void testChunksAreLimitedByStatements(){
+		BulkCreateReport report = crud.createInChunks(wines(25), 100, 10, null);
+		assertEquals(5, report.getCommittedChunks());
+		assertEquals(25, report.getCommittedEntities());
+	}
+	
+	@Test
+	public void testFailedChunkIsReportedAndRemainingChunksAreStored(){
+		semanticDB.failAddition(1);
+		final List<Integer> failed = new ArrayList<Integer>();
+		BulkCreateReport report = crud.createInChunks(wines(25), 10, 0, new BulkCreateListener() {
+			@Override
+			public void chunkCommitted(int chunk, int entities, int statements) {
+			}
+			
+			@Override
+			public void chunkFailed(int chunk, List<IRI> entityIds, RuntimeException cause) {
+				failed.add(chunk);
+			}
+			
+			@Override
+			public void entityFailed(int chunk, IRI entityId, RuntimeException cause) {
+			}
+		});
+		assertEquals(Arrays.asList(1), failed);
+		assertTrue(report.hasFailures());
+		assertEquals(2, report.getCommittedChunks());
+		assertEquals(15, report.getCommittedEntities());
+		BulkCreateReport.FailedChunk failedChunk = report.getFailedChunks().get(0);
+		assertEquals(10, failedChunk.getEntityIds().size());
+		assertEquals(ValueUtils.createIRI("urn:test:wine:10"), failedChunk.getEntityIds().get(0));
+		assertEquals(15, crud.count(WineBody.class));
+	}
+	
+	@Test
+	public void testFailedEntityIsReportedAndLeftOutOfItsChunk(){
+		List<WineBody> wines = new ArrayList<WineBody>();
+		for(WineBody wine : wines(5)){
+			wines.add(wine);
+		}
+		wines.get(3).setLabel(null);
+		final List<IRI> failed = new ArrayList<IRI>();
+		final List<Integer> committed = new ArrayList<Integer>();
+		BulkCreateReport report = crud.createInChunks(wines, 2, 0, new BulkCreateListener() {
+			@Override
+			public void chunkCommitted(int chunk, int entities, int statements) {
+				committed.add(entities);
+			}
+			
+			@Override
+			public void chunkFailed(int chunk, List<IRI> entityIds, RuntimeException cause) {
+			}
+			
+			@Override
+			public void entityFailed(int chunk, IRI entityId, RuntimeException cause) {
+				failed.add(entityId);
+			}
+		});
+		assertEquals(Arrays.asList(ValueUtils.createIRI("urn:test:wine:3")), failed);
+		assertEquals(Arrays.asList(2, 2), committed);
+		assertTrue(report.hasFailures());
+		assertTrue(report.getFailedChunks().isEmpty());
+		assertEquals(4, report.getCommittedEntities());
+		BulkCreateReport.FailedEntity failedEntity = report.getFailedEntities().get(0);
+		assertEquals(1, failedEntity.getChunk());
+		assertEquals(ValueUtils.createIRI("urn:test:wine:3"), failedEntity.getEntityId());
+		assertEquals(4, crud.count(WineBody.class));
+		assertFalse(crud.exists(ValueUtils.createIRI("urn:test:wine:3"), WineBody.class));
+	}
+	
+	private Iterable<WineBody> wines(final int count){
+		return new Iterable<WineBody>() {
+			@Override
+			public Iterator<WineBody> iterator() {
+				return new Iterator<WineBody>() {
+					@Override
+					public boolean hasNext() {
+						return produced < count;
+					}
+
+					@Override
+					public WineBody next() {
+						WineBody wine = new WineBody();
+						wine.setUri(ValueUtils.createIRI("urn:test:wine:"+produced));
+						wine.setLabel("wine "+produced);
+						produced++;
+						return wine;
+					}
+				};
+			}
+		};
+	}
+
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.junit.Test;
+import org.springframework.data.semantic.model.WineBody;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.semantic.testutils.AbstractSemanticTemplateTest;
+
+public class TestDeleteById extends AbstractSemanticTemplateTest {
+	
+	private static final ValueFactory VF = SimpleValueFactory.getInstance();
+	private static final IRI WINE = ValueUtils.createIRI("urn:test:wine:1");
+	private static final IRI OTHER_WINE = ValueUtils.createIRI("urn:test:wine:2");
+	
+	
+	@Test
+	public void testDeleteByIdRemovesMappedStatementsWithoutReading(){
+		crud.create(wine(WINE, "first"));
+		crud.create(wine(OTHER_WINE, "second"));
+		semanticDB.addToStore(VF.createStatement(WINE, RDFS.COMMENT, VF.createLiteral("foreign")));
+		semanticDB.resetCounters();
+		crud.delete(WINE, WineBody.class);
+		assertEquals(0, semanticDB.getReads());
+		assertEquals(1, semanticDB.getUpdates());
+		Model statements = semanticDB.getStoredStatements();
+		assertEquals(1, statements.filter(WINE, null, null).size());
+		assertTrue(statements.contains(WINE, RDFS.COMMENT, VF.createLiteral("foreign")));
+		assertEquals(2, statements.filter(OTHER_WINE, null, null).size());
+		assertNull(crud.find(WINE, WineBody.class));
+	}
+	
+	@Test
+	public void testDeleteOfMissingIdIsIgnored(){
+		crud.delete(WINE, WineBody.class);
+		assertEquals(0, crud.count(WineBody.class));
+	}
+	
+	@Test
+	public void testLoadedInstanceIsStoredAgainAfterDeleteById(){
+		crud.setDirtyTracking(true);
+		crud.create(wine(WINE, "first"));
+		WineBody loaded = crud.find(WINE, WineBody.class);
+		crud.delete(WINE, WineBody.class);
+		crud.save(loaded);
+		assertEquals(2, semanticDB.getStoredStatements().filter(WINE, null, null).size());
+		assertEquals("first", crud.find(WINE, WineBody.class).getLabel());
+	}
+	
+	private WineBody wine(IRI uri, String label){
+		WineBody wine = new WineBody();
+		wine.setUri(uri);
+		wine.setLabel(label);
+		return wine;
+	}
+
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.junit.Test;
+import org.springframework.data.semantic.model.NamedGraphWine;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.semantic.testutils.AbstractSemanticTemplateTest;
+
+public class TestNamedGraphEntity extends AbstractSemanticTemplateTest {
+	
+	private static final IRI WINE = ValueUtils.createIRI("urn:test:wine:1");
+	private static final IRI GRAPH = ValueUtils.createIRI("urn:test:graph");
+	
+	
+	@Test
+	public void testEntityInNamedGraphIsFound(){
+		NamedGraphWine wine = new NamedGraphWine();
+		wine.setUri(WINE);
+		wine.setGraph(GRAPH);
+		wine.setLabel("first");
+		crud.create(wine);
+		assertEquals(2, semanticDB.getStoredStatements().filter(WINE, null, null, GRAPH).size());
+		
+		NamedGraphWine found = crud.find(WINE, NamedGraphWine.class);
+		assertNotNull(found);
+		assertEquals("first", found.getLabel());
+	}
+
+}
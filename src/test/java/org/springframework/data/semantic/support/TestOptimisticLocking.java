@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.OWL;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.junit.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.semantic.model.VersionedWine;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.semantic.testutils.AbstractSemanticTemplateTest;
+
+public class TestOptimisticLocking extends AbstractSemanticTemplateTest {
+	
+	private static final IRI WINE = ValueUtils.createIRI("urn:test:wine:1");
+	private static final IRI OTHER_WINE = ValueUtils.createIRI("urn:test:wine:2");
+	
+	
+	@Test
+	public void testVersionIsIncrementedOnEachWrite(){
+		VersionedWine wine = crud.create(wine(WINE, "first", null));
+		assertEquals(Long.valueOf(1), wine.getVersion());
+		assertEquals(Arrays.asList(1L), getStoredVersions(WINE));
+		wine.setLabel("second");
+		crud.save(wine);
+		assertEquals(Long.valueOf(2), wine.getVersion());
+		assertEquals(Arrays.asList(2L), getStoredVersions(WINE));
+	}
+	
+	@Test
+	public void testStaleSaveFails(){
+		crud.create(wine(WINE, "first", null));
+		crud.save(wine(WINE, "second", 1L));
+		VersionedWine stale = wine(WINE, "stale", 1L);
+		try{
+			crud.save(stale);
+			fail("Expected an optimistic locking failure.");
+		} catch (OptimisticLockingFailureException e){
+			// expected
+		}
+		assertEquals(Long.valueOf(1), stale.getVersion());
+		assertEquals(Arrays.asList(2L), getStoredVersions(WINE));
+		assertEquals(1, semanticDB.getStoredStatements().filter(WINE, RDFS.LABEL, SimpleValueFactory.getInstance().createLiteral("second")).size());
+	}
+	
+	@Test
+	public void testStaleEntityFailsTheWholeBatch(){
+		crud.create(Arrays.asList(wine(WINE, "first", null), wine(OTHER_WINE, "first", null)));
+		crud.save(wine(WINE, "second", 1L));
+		VersionedWine otherWine = wine(OTHER_WINE, "second", 1L);
+		try{
+			crud.save(Arrays.asList(wine(WINE, "stale", 1L), otherWine));
+			fail("Expected an optimistic locking failure.");
+		} catch (OptimisticLockingFailureException e){
+			// expected
+		}
+		assertEquals(Long.valueOf(1), otherWine.getVersion());
+		assertEquals(Arrays.asList(1L), getStoredVersions(OTHER_WINE));
+	}
+	
+	private VersionedWine wine(IRI uri, String label, Long version){
+		VersionedWine wine = new VersionedWine();
+		wine.setUri(uri);
+		wine.setLabel(label);
+		wine.setVersion(version);
+		return wine;
+	}
+	
+	private List<Long> getStoredVersions(IRI uri){
+		List<Long> versions = new ArrayList<Long>();
+		for(Value version : semanticDB.getStoredStatements().filter(uri, OWL.VERSIONINFO, null).objects()){
+			versions.add(((Literal) version).longValue());
+		}
+		return versions;
+	}
+
+}
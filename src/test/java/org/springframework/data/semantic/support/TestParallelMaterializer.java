@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.converter.Converter;
+
+public class TestParallelMaterializer {
+	
+	private ExecutorService executor;
+	
+	@Before
+	public void setUp(){
+		executor = Executors.newFixedThreadPool(3);
+	}
+	
+	@After
+	public void tearDown(){
+		executor.shutdownNow();
+	}
+	
+	@Test
+	public void testPreservesOrder(){
+		List<Integer> sources = new LinkedList<Integer>();
+		for(int i = 0; i < 1000; i++){
+			sources.add(i);
+		}
+		ParallelMaterializer materializer = new ParallelMaterializer(10, executor);
+		assertTrue(materializer.isParallel(sources));
+		List<String> results = materializer.materialize(sources, new Converter<Integer, String>() {
+			@Override
+			public String convert(Integer source) {
+				return "entity-" + source;
+			}
+		});
+		assertEquals(sources.size(), results.size());
+		for(int i = 0; i < results.size(); i++){
+			assertEquals("entity-" + i, results.get(i));
+		}
+	}
+	
+	@Test
+	public void testBelowThreshold(){
+		List<Integer> sources = new ArrayList<Integer>();
+		sources.add(1);
+		assertFalse(new ParallelMaterializer(10, executor).isParallel(sources));
+		assertFalse(new ParallelMaterializer(0, executor).isParallel(new ArrayList<Integer>(new LinkedList<Integer>(sources))));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void testPropagatesFailures(){
+		List<Integer> sources = new ArrayList<Integer>();
+		for(int i = 0; i < 100; i++){
+			sources.add(i);
+		}
+		new ParallelMaterializer(1, executor).materialize(sources, new Converter<Integer, Integer>() {
+			@Override
+			public Integer convert(Integer source) {
+				if(source == 99){
+					throw new IllegalStateException("failed");
+				}
+				return source;
+			}
+		});
+	}
+
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.semantic.model.WineBody;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.semantic.testutils.AbstractSemanticTemplateTest;
+import org.springframework.data.semantic.testutils.CountingSemanticDatabase;
+import org.springframework.data.semantic.testutils.Utils;
+
+public class TestParallelWrite extends AbstractSemanticTemplateTest {
+	
+	private ExecutorService executor;
+	private CountingSemanticDatabase parallelDB;
+	private SemanticTemplateCRUD parallelCrud;
+	
+	@Before
+	public void setup(){
+		executor = Executors.newFixedThreadPool(4);
+		parallelDB = new CountingSemanticDatabase();
+		parallelCrud = Utils.createTemplate(parallelDB);
+		parallelCrud.setMaterializationExecutor(executor);
+		parallelCrud.setParallelWriteThreshold(10);
+	}
+	
+	@After
+	public void shutdown(){
+		parallelDB.shutdown();
+		executor.shutdownNow();
+	}
+	
+	@Test
+	public void testParallelCreateAndSaveWriteTheSameStatements(){
+		crud.create(wines(500));
+		parallelCrud.create(wines(500));
+		assertTrue(((ThreadPoolExecutor) executor).getCompletedTaskCount() > 0);
+		assertEquals(semanticDB.getStoredStatements(), parallelDB.getStoredStatements());
+		
+		List<WineBody> changed = wines(500);
+		for(WineBody wine : changed){
+			wine.setLabel(wine.getLabel()+" (changed)");
+		}
+		crud.save(changed);
+		parallelCrud.save(changed);
+		assertEquals(500, parallelCrud.count(WineBody.class));
+		assertEquals(semanticDB.getStoredStatements(), parallelDB.getStoredStatements());
+	}
+	
+	@Test
+	public void testSmallWritesAreConvertedSequentially(){
+		parallelCrud.create(wines(5));
+		assertEquals(0, ((ThreadPoolExecutor) executor).getTaskCount());
+		assertEquals(5, parallelCrud.count(WineBody.class));
+	}
+	
+	@Test
+	public void testChangingTheExecutorKeepsTheSnapshots(){
+		parallelCrud.setDirtyTracking(true);
+		List<WineBody> wines = wines(20);
+		parallelCrud.create(wines);
+		ExecutorService otherExecutor = Executors.newFixedThreadPool(2);
+		try{
+			parallelCrud.setMaterializationExecutor(otherExecutor);
+			parallelCrud.setParallelWriteThreshold(5);
+			for(WineBody wine : wines){
+				wine.setLabel(wine.getLabel()+" (changed)");
+			}
+			parallelDB.resetCounters();
+			parallelCrud.save(wines);
+			assertEquals(0, parallelDB.getReads());
+			assertTrue(((ThreadPoolExecutor) otherExecutor).getCompletedTaskCount() > 0);
+		} finally {
+			otherExecutor.shutdownNow();
+		}
+	}
+	
+	private List<WineBody> wines(int count){
+		List<WineBody> wines = new ArrayList<WineBody>(count);
+		for(int i = 0; i < count; i++){
+			WineBody wine = new WineBody();
+			wine.setUri(ValueUtils.createIRI("urn:test:wine:"+i));
+			wine.setLabel("wine "+i);
+			wines.add(wine);
+		}
+		return wines;
+	}
+
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.semantic.model.Part;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.semantic.testutils.AbstractSemanticTemplateTest;
+
+public class TestRootPopulation extends AbstractSemanticTemplateTest {
+	
+	private static final ValueFactory VF = SimpleValueFactory.getInstance();
+	private static final IRI PART = ValueUtils.createIRI("urn:spring-data-semantic:Part");
+	private static final IRI LABEL = ValueUtils.createIRI("urn:part:field:label");
+	private static final IRI PARTS = ValueUtils.createIRI("urn:part:field:parts");
+	private static final IRI USES = ValueUtils.createIRI("urn:part:field:uses");
+	private static final IRI ENGINE = ValueUtils.createIRI("urn:test:part:engine");
+	private static final IRI PISTON = ValueUtils.createIRI("urn:test:part:piston");
+	private static final IRI FUEL = ValueUtils.createIRI("urn:test:part:fuel");
+	
+	@Before
+	public void setup(){
+		crud.getSemanticMappingContext();
+	}
+	
+	@Test
+	public void testRootIsPopulatedFromItsOwnMolecule(){
+		// the molecules of a load use the alias predicates; the molecule of the engine only holds part of the piston
+		Model engine = new LinkedHashModel();
+		engine.add(ENGINE, RDF.TYPE, PART);
+		engine.add(ENGINE, LABEL, VF.createLiteral("engine"));
+		engine.add(ENGINE, PARTS, PISTON);
+		engine.add(PISTON, RDF.TYPE, PART);
+		engine.add(PISTON, LABEL, VF.createLiteral("piston"));
+		Model piston = new LinkedHashModel();
+		piston.add(PISTON, RDF.TYPE, PART);
+		piston.add(PISTON, LABEL, VF.createLiteral("piston"));
+		piston.add(PISTON, USES, FUEL);
+		
+		for(List<Model> molecules : Arrays.asList(Arrays.asList(engine, piston), Arrays.asList(piston, engine))){
+			List<Part> parts = crud.createEntities(molecules, Part.class);
+			Part loadedPiston = parts.get(molecules.indexOf(piston));
+			Part loadedEngine = parts.get(molecules.indexOf(engine));
+			assertSame(loadedPiston, loadedEngine.getParts().get(0));
+			assertEquals(1, loadedPiston.getUses().size());
+			assertEquals(FUEL, loadedPiston.getUses().get(0).getUri());
+		}
+	}
+
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.semantic.core.SemanticSession;
+import org.springframework.data.semantic.model.ModelEntity;
+import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+import org.springframework.data.semantic.support.util.ValueUtils;
+
+public class TestSemanticTemplateSession {
+	
+	private List<List<List<Object>>> flushes = new ArrayList<List<List<Object>>>();
+	private SemanticSession session;
+	
+	@Before
+	public void setupTest(){
+		final SemanticMappingContext mappingContext = new SemanticMappingContext(Arrays.asList(new SimpleNamespace("skos", "http://www.w3.org/2004/02/skos/core#")), new SimpleNamespace("", "urn:default:"), true);
+		session = new SemanticTemplateSession(new SemanticTemplateCRUD(null, null, true){
+			@Override
+			public SemanticMappingContext getSemanticMappingContext() {
+				return mappingContext;
+			}
+			
+			@Override
+			void flush(List<Object> creates, List<Object> saves, List<Object> deletes) {
+				flushes.add(Arrays.asList(creates, saves, deletes));
+			}
+		});
+	}
+	
+	@Test
+	public void testChangesAreWrittenOnFlushOnly(){
+		ModelEntity first = createEntity("id1");
+		ModelEntity second = createEntity("id2");
+		ModelEntity third = createEntity("id3");
+		session.create(first);
+		session.save(second);
+		session.delete(third);
+		assertTrue(session.hasPendingChanges());
+		assertTrue(flushes.isEmpty());
+		session.flush();
+		assertEquals(1, flushes.size());
+		assertEquals(Arrays.<Object>asList(first), flushes.get(0).get(0));
+		assertEquals(Arrays.<Object>asList(second), flushes.get(0).get(1));
+		assertEquals(Arrays.<Object>asList(third), flushes.get(0).get(2));
+		assertFalse(session.hasPendingChanges());
+		session.flush();
+		assertEquals(1, flushes.size());
+	}
+	
+	@Test
+	public void testChangesOfSameResourceAreCoalesced(){
+		ModelEntity created = createEntity("id1");
+		session.create(created);
+		session.save(created);
+		ModelEntity saved = createEntity("id2");
+		session.save(saved);
+		session.save(saved);
+		ModelEntity savedCopy = createEntity("id2");
+		session.save(savedCopy);
+		ModelEntity deleted = createEntity("id3");
+		session.save(deleted);
+		session.delete(deleted);
+		session.flush();
+		List<List<Object>> flush = flushes.get(0);
+		assertEquals(Arrays.<Object>asList(created), flush.get(0));
+		assertEquals(1, flush.get(1).size());
+		assertSame(savedCopy, flush.get(1).get(0));
+		assertEquals(Arrays.<Object>asList(deleted), flush.get(2));
+	}
+	
+	@Test
+	public void testClearDiscardsChanges(){
+		session.save(createEntity("id1"));
+		session.clear();
+		assertFalse(session.hasPendingChanges());
+		session.flush();
+		assertTrue(flushes.isEmpty());
+	}
+	
+	private ModelEntity createEntity(String localName){
+		ModelEntity entity = new ModelEntity();
+		entity.setUri(ValueUtils.createIRI("urn:default:"+localName));
+		return entity;
+	}
+
+}
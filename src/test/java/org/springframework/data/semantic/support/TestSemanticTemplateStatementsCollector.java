@@ -16,13 +16,17 @@
 package org.springframework.data.semantic.support;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Namespace;
 import org.eclipse.rdf4j.model.Statement;
@@ -65,4 +69,32 @@ public class TestSemanticTemplateStatementsCollector {
 	
 	
 
+	@Test
+	public void testSplitStatements() throws RepositoryException{
+		collector = new SemanticTemplateStatementsCollector(null, mappingContext, null);
+		IRI a = ValueUtils.createIRI("urn:test:a");
+		IRI b = ValueUtils.createIRI("urn:test:b");
+		IRI c = ValueUtils.createIRI("urn:test:c");
+		IRI has = ValueUtils.createIRI("urn:test:has");
+		Model statements = new TreeModel();
+		Statement aHasB = SimpleValueFactory.getInstance().createStatement(a, has, b);
+		Statement aHasC = SimpleValueFactory.getInstance().createStatement(a, has, c);
+		Statement cHasD = SimpleValueFactory.getInstance().createStatement(c, has, ValueUtils.createIRI("urn:test:d"));
+		Statement bLabel = SimpleValueFactory.getInstance().createStatement(b, RDF.VALUE, SimpleValueFactory.getInstance().createLiteral("b"));
+		statements.add(aHasB);
+		statements.add(aHasC);
+		statements.add(cHasD);
+		statements.add(bLabel);
+		
+		Map<IRI, Model> split = collector.splitModels(Arrays.asList(a, b, ValueUtils.createIRI("urn:test:missing")), statements);
+		assertEquals(3, split.size());
+		assertEquals(3, split.get(a).size());
+		assertTrue(split.get(a).contains(aHasB) && split.get(a).contains(aHasC) && split.get(a).contains(cHasD));
+		assertFalse(split.get(a).contains(bLabel));
+		assertEquals(2, split.get(b).size());
+		assertTrue(split.get(b).contains(aHasB) && split.get(b).contains(bLabel));
+		assertFalse(split.get(b).contains(cHasD));
+		assertTrue(split.get(ValueUtils.createIRI("urn:test:missing")).isEmpty());
+	}
+	
 }
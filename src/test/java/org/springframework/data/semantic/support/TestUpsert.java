@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.model.vocabulary.SKOS;
+import org.junit.Test;
+import org.springframework.data.semantic.model.UpsertedWine;
+import org.springframework.data.semantic.model.WineBody;
+import org.springframework.data.semantic.support.exceptions.RequiredPropertyException;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.semantic.testutils.AbstractSemanticTemplateTest;
+
+public class TestUpsert extends AbstractSemanticTemplateTest {
+	
+	private static final ValueFactory VF = SimpleValueFactory.getInstance();
+	private static final IRI WINE = ValueUtils.createIRI("urn:test:wine:1");
+	
+	
+	@Test
+	public void testUpsertTypeReplacesOwnedPredicates(){
+		crud.create(wine("first", "a", "b"));
+		semanticDB.resetCounters();
+		crud.save(wine("second", "c"));
+		assertEquals(1, semanticDB.getReplaceUpdates().size());
+		assertEquals(0, semanticDB.getReads());
+		Model statements = semanticDB.getStoredStatements();
+		assertEquals(new LinkedHashModel(Arrays.asList(
+				statement(RDF.TYPE, ValueUtils.createIRI("http://www.w3.org/TR/2003/PR-owl-guide-20031209/wine#Wine")),
+				statement(RDFS.LABEL, VF.createLiteral("second")),
+				statement(SKOS.ALT_LABEL, VF.createLiteral("c")))), statements);
+	}
+	
+	@Test
+	public void testUpsertKeepsForeignPredicates(){
+		crud.create(wine("first"));
+		semanticDB.addToStore(statement(RDFS.COMMENT, VF.createLiteral("foreign")));
+		crud.upsert(wine("second"));
+		Model statements = semanticDB.getStoredStatements();
+		assertTrue(statements.contains(statement(RDFS.COMMENT, VF.createLiteral("foreign"))));
+		assertTrue(statements.contains(statement(RDFS.LABEL, VF.createLiteral("second"))));
+		assertFalse(statements.contains(statement(RDFS.LABEL, VF.createLiteral("first"))));
+	}
+	
+	@Test
+	public void testUpsertPerCall(){
+		WineBody body = new WineBody();
+		body.setUri(WINE);
+		body.setLabel("first");
+		crud.create(body);
+		semanticDB.resetCounters();
+		body = new WineBody();
+		body.setUri(WINE);
+		body.setLabel("second");
+		crud.upsert(Arrays.asList(body));
+		assertEquals(1, semanticDB.getReplaceUpdates().size());
+		assertEquals(0, semanticDB.getReads());
+		assertEquals("second", crud.find(WINE, WineBody.class).getLabel());
+		assertEquals(1, semanticDB.getStoredStatements().filter(WINE, RDFS.LABEL, null).size());
+	}
+	
+	@Test
+	public void testUpsertWithMissingRequiredPropertyFails(){
+		crud.create(wine("first", "a"));
+		Model stored = semanticDB.getStoredStatements();
+		try{
+			crud.upsert(wine(null, "b"));
+			fail("Expected the missing label to fail the upsert.");
+		} catch (RequiredPropertyException e){
+			// expected
+		}
+		assertEquals(stored, semanticDB.getStoredStatements());
+	}
+	
+	private UpsertedWine wine(String label, String... altLabels){
+		UpsertedWine wine = new UpsertedWine();
+		wine.setUri(WINE);
+		wine.setLabel(label);
+		wine.setAltLabels(Arrays.asList(altLabels));
+		return wine;
+	}
+	
+	private Statement statement(IRI predicate, Value object){
+		return VF.createStatement(WINE, predicate, object);
+	}
+
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.semantic.core.RDFState;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.model.ModelEntity;
+import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.util.ClassTypeInformation;
+
+public class TestEntitySnapshots {
+	
+	private IRI id1 = ValueUtils.createIRI("urn:default:id1");
+	private SemanticPersistentEntity<ModelEntity> testEntityType;
+	private EntityToStatementsConverter toStatementsConverter;
+	private EntitySnapshots snapshots;
+	
+	@SuppressWarnings("unchecked")
+	@Before
+	public void setupTest(){
+		SemanticMappingContext mappingContext = new SemanticMappingContext(Arrays.asList(new SimpleNamespace("skos", "http://www.w3.org/2004/02/skos/core#")), new SimpleNamespace("", "urn:default:"), true);
+		testEntityType = (SemanticPersistentEntity<ModelEntity>) mappingContext.getPersistentEntity(ClassTypeInformation.from(ModelEntity.class));
+		toStatementsConverter = new EntityToStatementsConverter(mappingContext);
+		snapshots = new EntitySnapshots(toStatementsConverter);
+	}
+	
+	@Test
+	public void testSnapshotIsBoundToInstance(){
+		ModelEntity entity = createEntity("name");
+		snapshots.take(testEntityType, entity);
+		assertNotNull(snapshots.getState(entity));
+		assertNull(snapshots.getState(createEntity("name")));
+		snapshots.remove(entity);
+		assertNull(snapshots.getState(entity));
+	}
+	
+	@Test
+	public void testSnapshotKeepsLoadedStatements(){
+		ModelEntity entity = createEntity("name");
+		snapshots.take(testEntityType, entity);
+		RDFState loaded = toStatementsConverter.convertEntityToStatements(testEntityType, entity);
+		entity.setName("changed");
+		RDFState snapshot = snapshots.getState(entity);
+		assertEquals(loaded.getCurrentStatements(), snapshot.getCurrentStatements());
+		snapshot.getCurrentStatements().clear();
+		assertFalse(snapshots.getState(entity).isEmpty());
+	}
+	
+	@Test
+	public void testSnapshotsOfCollectedInstancesAreDropped() throws InterruptedException{
+		for(int i = 0; i < 100; i++){
+			snapshots.take(testEntityType, createEntity("name"+i));
+		}
+		ModelEntity retained = createEntity("retained");
+		for(int i = 0; i < 20 && snapshots.size() > 2; i++){
+			System.gc();
+			Thread.sleep(20);
+			snapshots.take(testEntityType, retained);
+		}
+		assertTrue(snapshots.size() <= 2);
+		assertNotNull(snapshots.getState(retained));
+	}
+	
+	private ModelEntity createEntity(String name){
+		ModelEntity entity = new ModelEntity();
+		entity.setUri(id1);
+		entity.setName(name);
+		return entity;
+	}
+
+}
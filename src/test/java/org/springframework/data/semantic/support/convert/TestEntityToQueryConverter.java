@@ -99,7 +99,7 @@ public class TestEntityToQueryConverter {
 	
 	@Test
 	public void TestGraphQueryCreation(){
-		String query = entityToQueryConverter.getGraphQueryForResource(resource, testEntityType, MappingPolicyImpl.ALL_POLICY);
+		String query = entityToQueryConverter.getGraphQueryForResource(resource, testEntityType, MappingPolicyImpl.ALL_POLICY).toString();
 		String[] expected = expectedQueryUnion.replaceAll("\\{|\\}", " ").replaceAll("\\s+", " ").split(" \\. ");
 		String[] resultBindings = query.replaceAll("\\{|\\}", " ").replaceAll("\\s+", " ").split(" \\. ");
 		Arrays.sort(expected, comparator);
@@ -129,7 +129,7 @@ public class TestEntityToQueryConverter {
 	
 	@Test
 	public void TestGraphQueryCreationEagerLoad(){
-		String query = entityToQueryConverter.getGraphQueryForResource(collectionResource, testCollectionType, MappingPolicyImpl.ALL_POLICY);
+		String query = entityToQueryConverter.getGraphQueryForResource(collectionResource, testCollectionType, MappingPolicyImpl.ALL_POLICY).toString();
 		String[] expected = expectedQueryEager.replaceAll("\\{|\\}", " ").replaceAll("\\s+", " ").split(" \\. ");
 		String[] resultBindings = query.replaceAll("\\{|\\}", " ").replaceAll("\\s+", " ").split(" \\. ");
 		Arrays.sort(expected);
@@ -137,6 +137,12 @@ public class TestEntityToQueryConverter {
 		assertArrayEquals(expected, resultBindings);
 	}
 	
+	@Test
+	public void TestPropertyQueryCreation(){
+		String query = entityToQueryConverter.getGraphQueryForResourceProperty(resource, testEntityType, testEntityType.getPersistentProperty("related")).toString();
+		assertEquals("CONSTRUCT { <http://ontotext.com/resource/test> <urn:modelentity:field:related> ?modelentity_related . } WHERE { <http://ontotext.com/resource/test> <urn:spring-data-semantic:related> ?modelentity_related . }", query.replaceAll("\\s+", " ").trim());
+	}
+	
 	private class LocaleIndipendentStringComparator implements Comparator<String> {
 
 		private Collator collator = Collator.getInstance(Locale.US);
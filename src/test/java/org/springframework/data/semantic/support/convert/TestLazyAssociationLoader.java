@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.semantic.convert.EntityIdentityMap;
+import org.springframework.data.semantic.core.SemanticOperationsCRUD;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.model.ModelEntity;
+import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.orm.ObjectRetrievalFailureException;
+
+public class TestLazyAssociationLoader {
+	
+	private IRI id1 = ValueUtils.createIRI("urn:default:id1");
+	private IRI id2 = ValueUtils.createIRI("urn:default:id2");
+	private IRI missing = ValueUtils.createIRI("urn:default:missing");
+	private SemanticPersistentEntity<ModelEntity> testEntityType;
+	private List<Collection<?>> batches = new ArrayList<Collection<?>>();
+	private LazyAssociationLoader loader;
+	
+	@SuppressWarnings("unchecked")
+	@Before
+	public void setupTest(){
+		SemanticMappingContext mappingContext = new SemanticMappingContext(Arrays.asList(new SimpleNamespace("skos", "http://www.w3.org/2004/02/skos/core#")), new SimpleNamespace("", "urn:default:"), true);
+		testEntityType = (SemanticPersistentEntity<ModelEntity>) mappingContext.getPersistentEntity(ClassTypeInformation.from(ModelEntity.class));
+		SemanticOperationsCRUD operations = (SemanticOperationsCRUD) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{SemanticOperationsCRUD.class}, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				Collection<IRI> ids = (Collection<IRI>) args[0];
+				batches.add(ids);
+				List<ModelEntity> entities = new ArrayList<ModelEntity>();
+				for(IRI id : ids){
+					if(!missing.equals(id)){
+						ModelEntity entity = new ModelEntity();
+						entity.setUri(id);
+						entity.setName(id.getLocalName());
+						entities.add(entity);
+					}
+				}
+				return entities;
+			}
+		});
+		loader = new LazyAssociationLoader(operations);
+	}
+	
+	@Test
+	public void testProxyCarriesIdWithoutLoading(){
+		ModelEntity proxy = loader.createProxy(testEntityType, id1, new EntityIdentityMap());
+		assertTrue(LazyAssociationLoader.isProxy(proxy));
+		assertFalse(LazyAssociationLoader.isInitialized(proxy));
+		assertEquals(id1, testEntityType.getResourceId(proxy));
+		assertTrue(batches.isEmpty());
+	}
+	
+	@Test
+	public void testPendingProxiesLoadedInOneBatch(){
+		EntityIdentityMap identityMap = new EntityIdentityMap();
+		ModelEntity first = loader.createProxy(testEntityType, id1, identityMap);
+		ModelEntity second = loader.createProxy(testEntityType, id2, identityMap);
+		assertEquals("id1", first.getName());
+		assertTrue(LazyAssociationLoader.isInitialized(second));
+		assertEquals("id2", second.getName());
+		assertEquals(1, batches.size());
+		assertEquals(2, batches.get(0).size());
+	}
+	
+	@Test
+	public void testSeparateLoadsSeparateBatches(){
+		ModelEntity first = loader.createProxy(testEntityType, id1, new EntityIdentityMap());
+		ModelEntity second = loader.createProxy(testEntityType, id2, new EntityIdentityMap());
+		first.getName();
+		assertFalse(LazyAssociationLoader.isInitialized(second));
+		second.getName();
+		assertEquals(2, batches.size());
+	}
+	
+	@Test
+	public void testDeletedEntityFailsToResolve(){
+		EntityIdentityMap identityMap = new EntityIdentityMap();
+		ModelEntity deleted = loader.createProxy(testEntityType, missing, identityMap);
+		ModelEntity existing = loader.createProxy(testEntityType, id1, identityMap);
+		try{
+			deleted.getName();
+			fail("Expected the deleted entity to fail to resolve.");
+		} catch (ObjectRetrievalFailureException e){
+			assertEquals(missing, e.getIdentifier());
+			assertEquals(ModelEntity.class, e.getPersistentClass());
+		}
+		assertFalse(LazyAssociationLoader.isInitialized(deleted));
+		assertTrue(LazyAssociationLoader.isInitialized(existing));
+		assertEquals("id1", existing.getName());
+		assertEquals(1, batches.size());
+	}
+
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.semantic.annotation.ResourceId;
+import org.springframework.data.semantic.annotation.SemanticEntity;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.model.ModelEntity;
+import org.springframework.data.semantic.model.WineBody;
+import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+import org.springframework.data.util.ClassTypeInformation;
+
+public class TestMethodHandleEntityInstantiator {
+	
+	private SemanticMappingContext mappingContext;
+	private MethodHandleEntityInstantiator instantiator;
+	
+	@SemanticEntity
+	static class PackagePrivateEntity {
+		
+		@ResourceId
+		private IRI uri;
+		
+		private boolean initialized;
+		
+		private PackagePrivateEntity(){
+			this.initialized = true;
+		}
+	}
+	
+	@Before
+	public void setup(){
+		this.mappingContext = new SemanticMappingContext(Arrays.asList(new SimpleNamespace("skos", "http://www.w3.org/2004/02/skos/core#")), new SimpleNamespace("", "urn:spring-data-semantic:"), true);
+		this.instantiator = new MethodHandleEntityInstantiator();
+	}
+	
+	@Test
+	public void testPublicEntities(){
+		WineBody first = instantiator.createInstance(getPersistentEntity(WineBody.class), null);
+		WineBody second = instantiator.createInstance(getPersistentEntity(WineBody.class), null);
+		assertNotSame(first, second);
+		assertTrue(instantiator.createInstance(getPersistentEntity(ModelEntity.class), null) instanceof ModelEntity);
+	}
+	
+	@Test
+	public void testPrivateConstructor(){
+		PackagePrivateEntity entity = instantiator.createInstance(getPersistentEntity(PackagePrivateEntity.class), null);
+		assertTrue(entity.initialized);
+		assertEquals(PackagePrivateEntity.class, entity.getClass());
+	}
+	
+	@SuppressWarnings("unchecked")
+	private <T> SemanticPersistentEntity<T> getPersistentEntity(Class<T> type){
+		return (SemanticPersistentEntity<T>) mappingContext.getPersistentEntity(ClassTypeInformation.from(type));
+	}
+
+}
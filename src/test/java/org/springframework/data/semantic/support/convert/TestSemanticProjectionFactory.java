@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.semantic.model.ModelEntity;
+import org.springframework.data.semantic.model.ModelEntityExtended;
+import org.springframework.data.semantic.model.ModelEntityProjection;
+import org.springframework.data.semantic.model.ModelEntitySummary;
+import org.springframework.data.semantic.model.WineBody;
+import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+
+public class TestSemanticProjectionFactory {
+	
+	private SemanticMappingContext mappingContext;
+	
+	@Before
+	public void setupTest(){
+		mappingContext = new SemanticMappingContext(Arrays.asList(new SimpleNamespace("skos", "http://www.w3.org/2004/02/skos/core#")), new SimpleNamespace("", "urn:default:"), true);
+	}
+	
+	@Test
+	public void testInterfacesAndDtosAreProjections(){
+		assertTrue(SemanticProjectionFactory.isProjection(ModelEntityProjection.class, ModelEntity.class, mappingContext));
+		assertTrue(SemanticProjectionFactory.isProjection(ModelEntitySummary.class, ModelEntity.class, mappingContext));
+	}
+	
+	@Test
+	public void testEntitiesAreNoProjections(){
+		assertFalse(SemanticProjectionFactory.isProjection(ModelEntity.class, ModelEntity.class, mappingContext));
+		assertFalse(SemanticProjectionFactory.isProjection(ModelEntityExtended.class, ModelEntity.class, mappingContext));
+		assertFalse(SemanticProjectionFactory.isProjection(ModelEntity.class, ModelEntityExtended.class, mappingContext));
+		assertFalse(SemanticProjectionFactory.isProjection(WineBody.class, ModelEntity.class, mappingContext));
+	}
+	
+	@Test
+	public void testSimpleTypesAreNoProjections(){
+		assertFalse(SemanticProjectionFactory.isProjection(String.class, ModelEntity.class, mappingContext));
+		assertFalse(SemanticProjectionFactory.isProjection(null, ModelEntity.class, mappingContext));
+	}
+
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.model.vocabulary.SKOS;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.QueryResults;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.semantic.mapping.SemanticPersistentEntity;
+import org.springframework.data.semantic.model.ModelEntity;
+import org.springframework.data.semantic.model.ModelEntityCollector;
+import org.springframework.data.semantic.model.WineBody;
+import org.springframework.data.semantic.support.MappingPolicyImpl;
+import org.springframework.data.semantic.support.mapping.SemanticMappingContext;
+import org.springframework.data.semantic.support.util.ValueUtils;
+import org.springframework.data.util.ClassTypeInformation;
+
+public class TestSubjectLookupPlanner {
+	
+	private IRI entity = ValueUtils.createIRI("http://ontotext.com/resource/test");
+	private IRI related = ValueUtils.createIRI("http://ontotext.com/resource/related");
+	private IRI wine = ValueUtils.createIRI("http://ontotext.com/resource/wine");
+	
+	private SemanticMappingContext mappingContext;
+	private EntityToQueryConverter entityToQueryConverter;
+	private SubjectLookupPlanner planner;
+	
+	private SailRepository repository;
+	private SailRepositoryConnection connection;
+	
+	@Before
+	public void setup(){
+		this.mappingContext = new SemanticMappingContext(Arrays.asList(new SimpleNamespace("skos", "http://www.w3.org/2004/02/skos/core#")), new SimpleNamespace("", "urn:spring-data-semantic:"), true);
+		this.entityToQueryConverter = new EntityToQueryConverter(this.mappingContext);
+		this.planner = new SubjectLookupPlanner(entityToQueryConverter);
+		this.repository = new SailRepository(new MemoryStore());
+		this.repository.initialize();
+		this.connection = repository.getConnection();
+		connection.add(entity, RDF.TYPE, ValueUtils.createIRI("urn:spring-data-semantic:ModelEntity"));
+		connection.add(entity, SKOS.PREF_LABEL, connection.getValueFactory().createLiteral("test", "en"));
+		connection.add(entity, SKOS.ALT_LABEL, connection.getValueFactory().createLiteral("first", "en"));
+		connection.add(entity, SKOS.ALT_LABEL, connection.getValueFactory().createLiteral("second", "de"));
+		connection.add(entity, ValueUtils.createIRI("urn:spring-data-semantic:related"), related);
+		connection.add(entity, RDFS.COMMENT, connection.getValueFactory().createLiteral("not mapped"));
+		connection.add(wine, RDFS.LABEL, connection.getValueFactory().createLiteral("light"));
+	}
+	
+	@After
+	public void shutdown(){
+		connection.close();
+		repository.shutDown();
+	}
+	
+	@Test
+	public void testFlatEntityPlanMatchesGraphQuery(){
+		assertSameMolecule(entity, entity(ModelEntity.class));
+	}
+	
+	@Test
+	public void testMissingTypeMatchesGraphQuery(){
+		assertSameMolecule(wine, entity(WineBody.class));
+		assertTrue(createModel(wine, entity(WineBody.class)).isEmpty());
+	}
+	
+	@Test
+	public void testCascadedAssociationIsNotPlanned(){
+		assertNull(planner.getPlan(entity(ModelEntityCollector.class), MappingPolicyImpl.ALL_POLICY));
+	}
+	
+	private void assertSameMolecule(IRI resource, SemanticPersistentEntity<?> persistentEntity){
+		String query = entityToQueryConverter.getGraphQueryForResource(resource, persistentEntity, MappingPolicyImpl.ALL_POLICY).toString();
+		Model expected = QueryResults.asModel(connection.prepareGraphQuery(QueryLanguage.SPARQL, query).evaluate());
+		assertEquals(expected, createModel(resource, persistentEntity));
+	}
+	
+	private Model createModel(IRI resource, SemanticPersistentEntity<?> persistentEntity){
+		SubjectLookupPlan plan = planner.getPlan(persistentEntity, MappingPolicyImpl.ALL_POLICY);
+		assertNotNull(plan);
+		return plan.createModel(resource, Iterations.asList(connection.getStatements(resource, null, null, true)));
+	}
+	
+	private SemanticPersistentEntity<?> entity(Class<?> clazz){
+		return mappingContext.getPersistentEntity(ClassTypeInformation.from(clazz));
+	}
+
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XMLSchema;
+import org.junit.Test;
+import org.springframework.data.semantic.convert.StringToDateConverter;
+
+public class TestValueDecoders {
+	
+	private final ValueFactory factory = SimpleValueFactory.getInstance();
+	
+	@Test
+	public void testNumbers(){
+		assertEquals(42, ValueDecoders.forType(int.class).decode(factory.createLiteral(42)));
+		assertEquals(42, ValueDecoders.forType(Integer.class).decode(factory.createLiteral("42")));
+		assertEquals(7L, ValueDecoders.forType(long.class).decode(factory.createLiteral("7", XMLSchema.LONG)));
+		assertEquals(new BigDecimal("1.50"), ValueDecoders.forType(BigDecimal.class).decode(factory.createLiteral("1.50", XMLSchema.DECIMAL)));
+		assertEquals(Boolean.TRUE, ValueDecoders.forType(boolean.class).decode(factory.createLiteral(true)));
+	}
+	
+	@Test
+	public void testDates(){
+		Literal literal = factory.createLiteral("2014-05-12T10:15:30.000Z", XMLSchema.DATETIME);
+		assertEquals(new StringToDateConverter().convert(literal.stringValue()), ValueDecoders.forType(Date.class).decode(literal));
+		assertEquals(literal.calendarValue(), ValueDecoders.forType(XMLGregorianCalendar.class).decode(literal));
+	}
+	
+	@Test
+	public void testFallback(){
+		assertNull(ValueDecoders.forType(int.class).decode(factory.createLiteral("not a number")));
+		assertNull(ValueDecoders.forType(IRI.class).decode(factory.createLiteral("urn:test")));
+		assertNull(ValueDecoders.forType(Integer.class).decode(factory.createIRI("urn:test")));
+		assertNull(ValueDecoders.forType(Object.class).decode(factory.createLiteral("label")));
+		assertNull(ValueDecoders.forType(Serializable.class).decode(factory.createIRI("urn:test")));
+		assertNull(ValueDecoders.forType(Comparable.class).decode(factory.createLiteral(42)));
+	}
+	
+	@Test
+	public void testResourcesAndStrings(){
+		IRI iri = factory.createIRI("urn:test");
+		assertSame(iri, ValueDecoders.forType(IRI.class).decode(iri));
+		assertEquals("urn:test", ValueDecoders.forType(String.class).decode(iri));
+		assertEquals("label", ValueDecoders.forType(String.class).decode(factory.createLiteral("label", "en")));
+	}
+
+}
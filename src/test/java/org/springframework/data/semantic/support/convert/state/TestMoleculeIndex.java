@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.convert.state;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.model.vocabulary.SKOS;
+import org.junit.Test;
+
+public class TestMoleculeIndex {
+	
+	private final ValueFactory factory = SimpleValueFactory.getInstance();
+	
+	@Test
+	public void testValuesByPredicate(){
+		IRI subject = factory.createIRI("urn:test:s");
+		Model model = new LinkedHashModel();
+		model.add(subject, RDFS.LABEL, factory.createLiteral("first"));
+		model.add(subject, SKOS.ALT_LABEL, factory.createLiteral("alt"));
+		model.add(subject, RDFS.LABEL, factory.createLiteral("second"));
+		
+		MoleculeIndex index = new MoleculeIndex(model);
+		assertEquals(Arrays.asList(factory.createLiteral("first"), factory.createLiteral("second")), index.getValues(RDFS.LABEL.stringValue()));
+		assertEquals(1, index.getValues(SKOS.ALT_LABEL.stringValue()).size());
+		assertTrue(index.getValues(RDFS.COMMENT.stringValue()).isEmpty());
+		
+		assertTrue(index.isIndexOf(model));
+		assertFalse(index.isIndexOf(new LinkedHashModel(model)));
+		model.add(subject, RDFS.COMMENT, factory.createLiteral("comment"));
+		assertFalse(index.isIndexOf(model));
+	}
+
+}
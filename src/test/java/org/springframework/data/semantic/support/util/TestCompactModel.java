@@ -0,0 +1,156 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.support.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.junit.Test;
+
+public class TestCompactModel {
+	
+	private final ValueFactory factory = SimpleValueFactory.getInstance();
+	
+	private final IRI type = factory.createIRI("urn:test:Type");
+	
+	@Test
+	public void testBehavesLikeLinkedHashModel(){
+		List<Statement> statements = new ArrayList<Statement>();
+		for(int i = 0; i < 20; i++){
+			IRI subject = factory.createIRI("urn:test:s" + (i % 4));
+			statements.add(factory.createStatement(subject, RDFS.LABEL, factory.createLiteral(i)));
+			statements.add(factory.createStatement(subject, RDF.TYPE, type));
+		}
+		Model expected = new LinkedHashModel(statements);
+		Model compact = new CompactModel(statements);
+		assertEquals(expected, compact);
+		assertEquals(expected.size(), compact.size());
+		IRI subject = factory.createIRI("urn:test:s1");
+		assertEquals(expected.filter(subject, null, null), compact.filter(subject, null, null));
+		assertEquals(expected.filter(null, RDF.TYPE, type).subjects(), compact.filter(null, RDF.TYPE, type).subjects());
+		assertTrue(compact.contains(subject, RDF.TYPE, type));
+		assertFalse(compact.add(subject, RDF.TYPE, type));
+		
+		compact.filter(subject, RDFS.LABEL, null).clear();
+		expected.filter(subject, RDFS.LABEL, null).clear();
+		assertEquals(expected, compact);
+		assertFalse(compact.contains(subject, RDFS.LABEL, null));
+	}
+	
+	@Test
+	public void testIteratorRemove(){
+		IRI subject = factory.createIRI("urn:test:s");
+		List<Statement> statements = new ArrayList<Statement>();
+		for(int i = 0; i < 5; i++){
+			statements.add(factory.createStatement(subject, RDFS.LABEL, factory.createLiteral(i)));
+		}
+		Model compact = CompactModel.fromDistinct(statements);
+		Iterator<Statement> iterator = compact.iterator();
+		while(iterator.hasNext()){
+			if(iterator.next().getObject().equals(factory.createLiteral(2))){
+				iterator.remove();
+			}
+		}
+		assertEquals(4, compact.size());
+		assertFalse(compact.contains(subject, RDFS.LABEL, factory.createLiteral(2)));
+		assertTrue(compact.contains(subject, RDFS.LABEL, factory.createLiteral(3)));
+	}
+	
+	@Test
+	public void testIteratorRemoveAfterHasNext(){
+		IRI subject = factory.createIRI("urn:test:s");
+		List<Statement> statements = new ArrayList<Statement>();
+		for(int i = 0; i < 5; i++){
+			statements.add(factory.createStatement(subject, RDFS.LABEL, factory.createLiteral(i)));
+		}
+		Model compact = CompactModel.fromDistinct(statements);
+		Iterator<Statement> iterator = compact.iterator();
+		List<Statement> iterated = new ArrayList<Statement>();
+		while(iterator.hasNext()){
+			Statement st = iterator.next();
+			iterated.add(st);
+			if(iterator.hasNext() && st.getObject().equals(factory.createLiteral(1))){
+				iterator.remove();
+			}
+		}
+		assertEquals(statements, iterated);
+		assertEquals(4, compact.size());
+		assertFalse(compact.contains(subject, RDFS.LABEL, factory.createLiteral(1)));
+		assertTrue(compact.contains(subject, RDFS.LABEL, factory.createLiteral(2)));
+	}
+	
+	@Test
+	public void testIndexesFollowRemovals(){
+		List<Statement> statements = new ArrayList<Statement>();
+		for(int i = 0; i < 40; i++){
+			statements.add(factory.createStatement(factory.createIRI("urn:test:s" + (i % 4)), RDFS.LABEL, factory.createLiteral(i)));
+		}
+		Model expected = new LinkedHashModel(statements);
+		Model compact = new CompactModel(statements);
+		IRI subject = factory.createIRI("urn:test:s1");
+		assertEquals(expected.filter(subject, null, null), compact.filter(subject, null, null));
+		for(int i = 0; i < 40; i += 3){
+			Statement st = statements.get(i);
+			assertTrue(compact.remove(st));
+			assertFalse(compact.remove(st));
+			expected.remove(st);
+		}
+		assertEquals(expected, compact);
+		assertEquals(expected.filter(subject, null, null), compact.filter(subject, null, null));
+		assertFalse(compact.contains(statements.get(0)));
+		assertTrue(compact.contains(statements.get(1)));
+		
+		for(int i = 40; i < 80; i++){
+			Statement st = factory.createStatement(factory.createIRI("urn:test:s" + (i % 4)), RDFS.LABEL, factory.createLiteral(i));
+			compact.add(st);
+			expected.add(st);
+		}
+		assertEquals(expected, compact);
+		assertEquals(new ArrayList<Statement>(expected), new ArrayList<Statement>(compact));
+		assertEquals(expected.filter(subject, null, null), compact.filter(subject, null, null));
+		compact.filter(subject, null, null).clear();
+		expected.filter(subject, null, null).clear();
+		assertEquals(expected, compact);
+		assertTrue(compact.filter(subject, null, null).isEmpty());
+	}
+	
+	@Test
+	public void testContexts(){
+		IRI subject = factory.createIRI("urn:test:s");
+		IRI graph = factory.createIRI("urn:test:g");
+		Model compact = new CompactModel();
+		compact.add(subject, RDF.TYPE, type);
+		compact.add(subject, RDF.TYPE, type, graph);
+		assertEquals(2, compact.size());
+		assertEquals(1, compact.filter(null, null, null, (IRI) null).size());
+		assertEquals(1, compact.filter(null, null, null, graph).size());
+		assertEquals(2, compact.filter(subject, null, null).size());
+	}
+
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.testutils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.springframework.data.semantic.support.SemanticTemplateCRUD;
+
+/**
+ * Base class for tests which run a {@link SemanticTemplateCRUD} against a fresh {@link CountingSemanticDatabase}.
+ *
+ */
+public abstract class AbstractSemanticTemplateTest {
+	
+	protected CountingSemanticDatabase semanticDB;
+	protected SemanticTemplateCRUD crud;
+	
+	@Before
+	public void setupTemplate(){
+		semanticDB = new CountingSemanticDatabase();
+		crud = Utils.createTemplate(semanticDB);
+	}
+	
+	@After
+	public void shutdownTemplate(){
+		semanticDB.shutdown();
+	}
+
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2014 Ontotext AD (info@ontotext.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.semantic.testutils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.semantic.core.PooledSemanticDatabase;
+import org.springframework.data.semantic.query.model.ConstructQuery;
+import org.springframework.data.semantic.query.model.SparqlUpdate;
+import org.springframework.data.semantic.support.exceptions.SemanticDatabaseAccessException;
+
+/**
+ * A {@link PooledSemanticDatabase} over an in-memory store which counts the graph queries and writes sent to it.
+ *
+ */
+public class CountingSemanticDatabase extends PooledSemanticDatabase {
+	
+	private final SailRepository repository;
+	
+	private int reads;
+	private int updates;
+	private int writes;
+	private int additions;
+	private int failingAddition = -1;
+	private final List<SparqlUpdate> replaceUpdates = new ArrayList<SparqlUpdate>();
+	
+	public CountingSemanticDatabase(){
+		this(createRepository());
+	}
+	
+	private CountingSemanticDatabase(SailRepository repository){
+		super(repository, 2);
+		this.repository = repository;
+	}
+	
+	private static SailRepository createRepository(){
+		SailRepository repository = new SailRepository(new MemoryStore());
+		repository.initialize();
+		return repository;
+	}
+	
+	@Override
+	public Model getGraphQueryResults(ConstructQuery query) {
+		reads++;
+		return super.getGraphQueryResults(query);
+	}
+	
+	@Override
+	public Model getGraphQueryResults(String graphQuery, Long offset, Long limit) {
+		reads++;
+		return super.getGraphQueryResults(graphQuery, offset, limit);
+	}
+	
+	@Override
+	public void executeUpdate(SparqlUpdate update) {
+		// the string form is sent to remote repositories, so it has to parse as well
+		QueryParserUtil.parseUpdate(QueryLanguage.SPARQL, update.toString(), null);
+		updates++;
+		super.executeUpdate(update);
+	}
+	
+	@Override
+	public void applyChanges(Collection<? extends Statement> deleteStatements, Collection<? extends Statement> addStatements, Collection<? extends Statement> expectedStatements) throws OptimisticLockingFailureException {
+		writes++;
+		super.applyChanges(deleteStatements, addStatements, expectedStatements);
+	}
+	
+	@Override
+	public void replaceStatements(SparqlUpdate deleteUpdate, Collection<? extends Statement> addStatements) {
+		QueryParserUtil.parseUpdate(QueryLanguage.SPARQL, deleteUpdate.toString(), null);
+		replaceUpdates.add(deleteUpdate);
+		super.replaceStatements(deleteUpdate, addStatements);
+	}
+	
+	@Override
+	public void addStatements(Collection<? extends Statement> statements) {
+		if(additions++ == failingAddition){
+			throw new SemanticDatabaseAccessException(new IllegalStateException("commit failed"));
+		}
+		super.addStatements(statements);
+	}
+	
+	/**
+	 * Make the given call of {@link #addStatements(Collection)} fail.
+	 * @param addition - the zero-based index of the failing call
+	 */
+	public void failAddition(int addition){
+		this.failingAddition = addition;
+	}
+	
+	/**
+	 * @return the number of graph queries
+	 */
+	public int getReads() {
+		return reads;
+	}
+	
+	/**
+	 * @return the number of executed updates
+	 */
+	public int getUpdates() {
+		return updates;
+	}
+	
+	/**
+	 * @return the number of applied changes
+	 */
+	public int getWrites() {
+		return writes;
+	}
+	
+	/**
+	 * @return the delete updates of replaced statements
+	 */
+	public List<SparqlUpdate> getReplaceUpdates() {
+		return replaceUpdates;
+	}
+	
+	public void resetCounters(){
+		reads = 0;
+		updates = 0;
+		writes = 0;
+		additions = 0;
+		replaceUpdates.clear();
+	}
+	
+	/**
+	 * Add statements directly to the store, bypassing the counters.
+	 * @param statements
+	 */
+	public void addToStore(Statement... statements){
+		RepositoryConnection connection = repository.getConnection();
+		try{
+			for(Statement statement : statements){
+				connection.add(statement);
+			}
+		} finally {
+			connection.close();
+		}
+	}
+	
+	/**
+	 * @return all statements in the store
+	 */
+	public Model getStoredStatements(){
+		RepositoryConnection connection = repository.getConnection();
+		try{
+			Model statements = new LinkedHashModel();
+			connection.export(new StatementCollector(statements));
+			return statements;
+		} finally {
+			connection.close();
+		}
+	}
+
+}
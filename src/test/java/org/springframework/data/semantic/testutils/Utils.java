@@ -27,9 +27,12 @@ import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.rio.RDFParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.repository.query.QueryCreationException;
+import org.springframework.data.semantic.config.SemanticConfiguration;
 import org.springframework.data.semantic.core.SemanticDatabase;
+import org.springframework.data.semantic.support.SemanticTemplateCRUD;
 
 public class Utils {
 
@@ -63,6 +66,20 @@ public class Utils {
 		
 	}
 
+	//creates a template with the default conversion service and no entity cache
+	public static SemanticTemplateCRUD createTemplate(SemanticDatabase sdb) {
+		SemanticTemplateCRUD crud = new SemanticTemplateCRUD(sdb, new SemanticConfiguration().conversionService(), true);
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		crud.setApplicationContext(context);
+		try {
+			crud.afterPropertiesSet();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return crud;
+	}
+
 	//retrieves the sample RDF data file as configured in a properties file
 	private static File getSampleDataFile(String name) {
 		try {